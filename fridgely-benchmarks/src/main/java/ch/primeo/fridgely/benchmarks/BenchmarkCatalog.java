@@ -0,0 +1,112 @@
+package ch.primeo.fridgely.benchmarks;
+
+import ch.primeo.fridgely.config.CatalogGenerator;
+import ch.primeo.fridgely.model.*;
+
+import java.util.*;
+
+/**
+ * In-memory catalog for the benchmarks, generated by {@link CatalogGenerator}. The product pool grows with the recipe
+ * count (at least as many products as the shipped seed data) and recipes use the generator's default ingredient
+ * distribution. The same recipe count always produces the same catalog, so results of different runs are comparable.
+ */
+public final class BenchmarkCatalog {
+
+    private static final int MIN_PRODUCTS = 50;
+    private static final int RECIPES_PER_PRODUCT = 20;
+
+    private final CatalogGenerator generator;
+    private final List<Product> products;
+    private final List<Product> defaultProducts;
+    private final List<Product> fridgeProducts;
+    private final List<Recipe> recipes;
+
+    private BenchmarkCatalog(CatalogGenerator catalogGenerator) {
+        this.generator = catalogGenerator;
+        this.products = List.copyOf(catalogGenerator.products());
+        this.defaultProducts = products.stream().filter(Product::isDefaultProduct).toList();
+        this.fridgeProducts = products.stream().filter(Product::isNotDefaultProduct).toList();
+        this.recipes = List.copyOf(catalogGenerator.recipes(products));
+    }
+
+    /**
+     * Generates a catalog with the given number of recipes.
+     *
+     * @param recipeCount the number of recipes
+     * @return the generated catalog
+     */
+    public static BenchmarkCatalog generate(int recipeCount) {
+        int productCount = Math.max(MIN_PRODUCTS, recipeCount / RECIPES_PER_PRODUCT);
+        return new BenchmarkCatalog(new CatalogGenerator(CatalogGenerator.Settings.of(productCount, recipeCount)));
+    }
+
+    /**
+     * Gets the barcode of the product with the given index.
+     *
+     * @param index the product index
+     * @return the barcode
+     */
+    public static String barcode(int index) {
+        return CatalogGenerator.barcode(index);
+    }
+
+    /**
+     * Picks a typical fridge for a game round: all default products plus the given number of fridge products.
+     *
+     * @param scannedCount the number of scanned (non-default) products
+     * @param seed         the seed for picking the products
+     * @return the products in storage
+     */
+    public List<Product> storage(int scannedCount, long seed) {
+        List<Product> storage = new ArrayList<>(defaultProducts);
+        List<Product> shuffled = new ArrayList<>(fridgeProducts);
+        Collections.shuffle(shuffled, new Random(seed));
+        storage.addAll(shuffled.subList(0, Math.min(scannedCount, shuffled.size())));
+        return storage;
+    }
+
+    /**
+     * Gets the generator of this catalog, e.g. to bulk insert it into a database.
+     *
+     * @return the generator
+     */
+    public CatalogGenerator getGenerator() {
+        return generator;
+    }
+
+    /**
+     * Gets all products.
+     *
+     * @return an unmodifiable list of all products
+     */
+    public List<Product> getProducts() {
+        return products;
+    }
+
+    /**
+     * Gets the default products.
+     *
+     * @return an unmodifiable list of the default products
+     */
+    public List<Product> getDefaultProducts() {
+        return defaultProducts;
+    }
+
+    /**
+     * Gets the products that can be scanned into the fridge.
+     *
+     * @return an unmodifiable list of the non-default products
+     */
+    public List<Product> getFridgeProducts() {
+        return fridgeProducts;
+    }
+
+    /**
+     * Gets the recipes with their ingredients attached.
+     *
+     * @return an unmodifiable list of all recipes
+     */
+    public List<Recipe> getRecipes() {
+        return recipes;
+    }
+}
@@ -0,0 +1,36 @@
+package ch.primeo.fridgely.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.*;
+import org.openjdk.jmh.runner.options.*;
+
+/**
+ * Runs the benchmarks with the GC profiler attached, so every result carries the allocation rate
+ * ({@code gc.alloc.rate.norm}, bytes per operation) next to the throughput. Results are written as JSON for comparing
+ * runs across changes.
+ */
+public final class FridgelyBenchmarks {
+
+    private FridgelyBenchmarks() {
+    }
+
+    /**
+     * Runs the benchmarks.
+     *
+     * @param args optional include pattern (defaults to all benchmarks) and optional result file
+     * @throws RunnerException if a benchmark fails
+     */
+    public static void main(String[] args) throws RunnerException {
+        String include = args.length > 0 ? args[0] : ".*";
+        String result = args.length > 1 ? args[1] : "jmh-result.json";
+
+        Options options = new OptionsBuilder()
+                .include(include)
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result(result)
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,84 @@
+package ch.primeo.fridgely.benchmarks;
+
+import ch.primeo.fridgely.model.*;
+import ch.primeo.fridgely.service.*;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+import java.util.*;
+
+/**
+ * Repositories serving a {@link BenchmarkCatalog} from memory, so the model and controller benchmarks measure the
+ * domain code only and not SQLite.
+ */
+final class InMemoryRepositories {
+
+    private InMemoryRepositories() {
+    }
+
+    /**
+     * Creates a recipe repository returning the catalog's recipes with their ingredients.
+     *
+     * @param catalog the catalog to serve
+     * @return the recipe repository
+     */
+    static RecipeRepository recipes(BenchmarkCatalog catalog) {
+        return new InMemoryRecipeRepository(catalog);
+    }
+
+    /**
+     * Creates a product catalog over the catalog's products. The snapshot is built right away.
+     *
+     * @param catalog the catalog to serve
+     * @return the loaded product catalog
+     */
+    static ProductCatalog productCatalog(BenchmarkCatalog catalog) {
+        ProductCatalog productCatalog = new ProductCatalog(new InMemoryProductRepository(catalog));
+        productCatalog.reload();
+        return productCatalog;
+    }
+
+    private static final class InMemoryRecipeRepository extends RecipeRepository {
+
+        private final BenchmarkCatalog catalog;
+
+        InMemoryRecipeRepository(BenchmarkCatalog benchmarkCatalog) {
+            super(null, null, null, (JPAQueryFactory) null);
+            this.catalog = benchmarkCatalog;
+        }
+
+        @Override
+        public List<Recipe> getAllRecipesWithIngredients() {
+            return catalog.getRecipes();
+        }
+
+        @Override
+        public List<Recipe> getAllRecipesEntities() {
+            return catalog.getRecipes();
+        }
+
+        @Override
+        public List<String> getRecipeIngredientBarcodes(int recipeId) {
+            return catalog.getRecipes().get(recipeId - 1).getProducts().stream().map(Product::getBarcode).toList();
+        }
+    }
+
+    private static final class InMemoryProductRepository extends ProductRepository {
+
+        private final BenchmarkCatalog catalog;
+
+        InMemoryProductRepository(BenchmarkCatalog benchmarkCatalog) {
+            super(null, null);
+            this.catalog = benchmarkCatalog;
+        }
+
+        @Override
+        public List<Product> getAllProducts() {
+            return catalog.getProducts();
+        }
+
+        @Override
+        public List<Product> getAllDefaultProducts() {
+            return catalog.getDefaultProducts();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package ch.primeo.fridgely.benchmarks;
+
+import ch.primeo.fridgely.model.*;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Recipe matching as done after every scan and when player 2 picks a recipe. The fridge holds all default products
+ * plus a full round of scanned products.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RecipeModelBenchmark {
+
+    private static final int SCANNED_PRODUCTS = 10;
+    private static final int PROBED_RECIPES = 1024;
+
+    @Param({"10", "100", "1000", "10000", "100000"})
+    private int recipeCount;
+
+    private RecipeModel recipeModel;
+    private List<Product> storage;
+    private Recipe[] probedRecipes;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkCatalog catalog = BenchmarkCatalog.generate(recipeCount);
+        recipeModel = new RecipeModel(InMemoryRepositories.recipes(catalog));
+        storage = catalog.storage(SCANNED_PRODUCTS, recipeCount);
+
+        FridgeStockModel fridge = new FridgeStockModel(catalog.getDefaultProducts());
+        recipeModel.trackFridgeStock(fridge);
+        storage.stream().filter(Product::isNotDefaultProduct).forEach(fridge::addProduct);
+
+        // Probe a fixed, shuffled sample so every parameter touches recipes all over the index
+        List<Recipe> recipes = new ArrayList<>(catalog.getRecipes());
+        Collections.shuffle(recipes, new Random(recipeCount));
+        probedRecipes = new Recipe[PROBED_RECIPES];
+        for (int i = 0; i < PROBED_RECIPES; i++) {
+            probedRecipes[i] = recipes.get(i % recipes.size());
+        }
+    }
+
+    private Recipe nextRecipe() {
+        next = (next + 1) & (PROBED_RECIPES - 1);
+        return probedRecipes[next];
+    }
+
+    @Benchmark
+    public List<Recipe> getPossibleRecipes() {
+        return recipeModel.getPossibleRecipes(storage);
+    }
+
+    @Benchmark
+    public List<Recipe> getPossibleRecipesTracked() {
+        return recipeModel.getPossibleRecipes();
+    }
+
+    @Benchmark
+    public boolean hasPossibleRecipes() {
+        return recipeModel.hasPossibleRecipes();
+    }
+
+    @Benchmark
+    public boolean canMakeRecipe() {
+        return recipeModel.canMakeRecipe(nextRecipe(), storage);
+    }
+
+    @Benchmark
+    public int getMatchingIngredientsCount() {
+        return recipeModel.getMatchingIngredientsCount(nextRecipe(), storage);
+    }
+
+    /**
+     * Player 2's recipe list: the matching count of every recipe against the same storage.
+     *
+     * @param blackhole sink for the counts
+     */
+    @Benchmark
+    @OperationsPerInvocation(PROBED_RECIPES)
+    public void getMatchingIngredientsCountForList(Blackhole blackhole) {
+        for (Recipe recipe : probedRecipes) {
+            blackhole.consume(recipeModel.getMatchingIngredientsCount(recipe, storage));
+        }
+    }
+}
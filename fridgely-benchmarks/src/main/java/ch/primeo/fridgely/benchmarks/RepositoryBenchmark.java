@@ -0,0 +1,96 @@
+package ch.primeo.fridgely.benchmarks;
+
+import ch.primeo.fridgely.Fridgely;
+import ch.primeo.fridgely.model.*;
+import ch.primeo.fridgely.service.*;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.file.*;
+import java.sql.*;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The SQLite backed repository calls, through the real Spring and Hibernate setup (headless, lazy beans). Each trial
+ * boots the context on a fresh database file and replaces the seed data with a generated catalog.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class RepositoryBenchmark {
+
+    private static final int LOOKUPS = 1024;
+
+    @Param({"10", "100", "1000", "10000", "100000"})
+    private int recipeCount;
+
+    private Path databaseFile;
+    private ConfigurableApplicationContext context;
+    private RecipeRepository recipeRepository;
+    private ProductRepository productRepository;
+    private String[] lookups;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, SQLException {
+        databaseFile = Files.createTempFile("fridgely-benchmark", ".db");
+        context = new SpringApplicationBuilder(Fridgely.class)
+                .headless(true)
+                .lazyInitialization(true)
+                .properties("spring.datasource.url=jdbc:sqlite:" + databaseFile.toAbsolutePath(),
+                        "spring.jpa.show-sql=false", "logging.level.root=WARN")
+                .run();
+
+        BenchmarkCatalog catalog = BenchmarkCatalog.generate(recipeCount);
+        replaceCatalog(context.getBean(DataSource.class), catalog);
+        recipeRepository = context.getBean(RecipeRepository.class);
+        productRepository = context.getBean(ProductRepository.class);
+
+        Random random = new Random(recipeCount);
+        lookups = new String[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            lookups[i] = BenchmarkCatalog.barcode(random.nextInt(catalog.getProducts().size()));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        context.close();
+        Files.deleteIfExists(databaseFile);
+    }
+
+    @Benchmark
+    public List<RecipeRepository.RecipeDTO> getAllRecipes() {
+        return recipeRepository.getAllRecipes();
+    }
+
+    @Benchmark
+    public List<Recipe> getAllRecipesWithIngredients() {
+        return recipeRepository.getAllRecipesWithIngredients();
+    }
+
+    @Benchmark
+    public Product getProductByBarcode() {
+        next = (next + 1) & (LOOKUPS - 1);
+        return productRepository.getProductByBarcode(lookups[next]);
+    }
+
+    /**
+     * Replaces the seeded products and recipes with the generated catalog.
+     */
+    private static void replaceCatalog(DataSource dataSource, BenchmarkCatalog catalog) throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.executeUpdate("DELETE FROM recipe_ingredient");
+            statement.executeUpdate("DELETE FROM recipe");
+            statement.executeUpdate("DELETE FROM product");
+        }
+        catalog.getGenerator().insert(dataSource);
+    }
+}
@@ -0,0 +1,99 @@
+package ch.primeo.fridgely.benchmarks;
+
+import ch.primeo.fridgely.config.GameConfig;
+import ch.primeo.fridgely.controller.multiplayer.MultiplayerPlayer1Controller;
+import ch.primeo.fridgely.model.*;
+import ch.primeo.fridgely.model.multiplayer.MultiplayerGameStateModel;
+import ch.primeo.fridgely.service.ProductCatalog;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Player 1 scanning products, wired like a launched game: the recipe model tracks the fridge stock, so every scan also
+ * pays for the incremental recipe index update. Lookups go through the in-memory {@link ProductCatalog}; the SQLite
+ * backed lookup it replaced is measured in {@link RepositoryBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ScanProductBenchmark {
+
+    /**
+     * Scans per round; one below the limit so the turn is never finished automatically.
+     */
+    private static final int SCANS_PER_ROUND = GameConfig.MAX_PRODUCTS - 1;
+    private static final int LOOKUPS = 1024;
+
+    @Param({"10", "100", "1000", "10000", "100000"})
+    private int recipeCount;
+
+    private ProductCatalog productCatalog;
+    private FridgeStockModel fridgeStockModel;
+    private MultiplayerPlayer1Controller controller;
+    private String[][] rounds;
+    private String[] lookups;
+    private int round;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkCatalog catalog = BenchmarkCatalog.generate(recipeCount);
+        productCatalog = InMemoryRepositories.productCatalog(catalog);
+
+        RecipeModel recipeModel = new RecipeModel(InMemoryRepositories.recipes(catalog));
+        fridgeStockModel = new FridgeStockModel(productCatalog.getDefaultProducts());
+        recipeModel.trackFridgeStock(fridgeStockModel);
+        controller = new MultiplayerPlayer1Controller(fridgeStockModel, new MultiplayerGameStateModel(),
+                new PenguinModel(), productCatalog, recipeModel);
+
+        // A handful of different rounds of distinct fridge products
+        List<Product> fridgeProducts = catalog.getFridgeProducts();
+        Random random = new Random(recipeCount);
+        rounds = new String[16][];
+        for (int r = 0; r < rounds.length; r++) {
+            List<Product> shuffled = new ArrayList<>(fridgeProducts);
+            Collections.shuffle(shuffled, random);
+            rounds[r] = shuffled.subList(0, SCANS_PER_ROUND).stream().map(Product::getBarcode)
+                    .toArray(String[]::new);
+        }
+
+        // Mostly hits with some unknown barcodes, as produced by the scanner
+        lookups = new String[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            lookups[i] = i % 8 == 0 ? "unknown-" + i
+                    : BenchmarkCatalog.barcode(random.nextInt(catalog.getProducts().size()));
+        }
+    }
+
+    /**
+     * Scans a full round into an empty fridge and clears it again, as at the start of every round.
+     *
+     * @param blackhole sink for the scanned products
+     */
+    @Benchmark
+    @OperationsPerInvocation(SCANS_PER_ROUND)
+    public void scanProduct(Blackhole blackhole) {
+        round = (round + 1) % rounds.length;
+        for (String barcode : rounds[round]) {
+            blackhole.consume(controller.scanProduct(barcode));
+        }
+        fridgeStockModel.clear();
+    }
+
+    @Benchmark
+    public Product scanUnknownProduct() {
+        return controller.scanProduct("unknown");
+    }
+
+    @Benchmark
+    public Product getProductByBarcode() {
+        next = (next + 1) & (LOOKUPS - 1);
+        return productCatalog.getProductByBarcode(lookups[next]);
+    }
+}
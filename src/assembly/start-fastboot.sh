@@ -0,0 +1,23 @@
+#!/bin/bash
+# Fast-boot variant of start.sh (build with -P release,fast-boot, deploy with -Dpi.startScript=start-fastboot.sh).
+# The first start extracts the jar and records a class data sharing archive from a training run that stops right
+# after the Spring context refresh; every later start maps that archive and uses the Spring AOT initializers.
+cd "$1"
+pkill java
+export DISPLAY=:0
+export XAUTHORITY=/home/ip12/.Xauthority
+
+APP_DIR=fastboot
+JVM_OPTS="-XX:+UseZGC -Xmx1G -Dspring.aot.enabled=true"
+
+if [ ! -f "$APP_DIR/$2.jar" ]; then
+  java -Djarmode=tools -jar "$2".jar extract --destination "$APP_DIR"
+fi
+
+if [ ! -f "$APP_DIR/fridgely.jsa" ]; then
+  java $JVM_OPTS -XX:ArchiveClassesAtExit="$APP_DIR/fridgely.jsa" -Dspring.context.exit=onRefresh \
+    -jar "$APP_DIR/$2.jar"
+fi
+
+java $JVM_OPTS -XX:SharedArchiveFile="$APP_DIR/fridgely.jsa" -jar "$APP_DIR/$2.jar"
+exit 0
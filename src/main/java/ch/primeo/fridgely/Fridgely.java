@@ -1,13 +1,20 @@
 package ch.primeo.fridgely;
 
 import ch.primeo.fridgely.controller.ChooseGameModeController;
-import ch.primeo.fridgely.util.ImageLoader;
+import ch.primeo.fridgely.service.localization.AppLocalizationService;
+import ch.primeo.fridgely.util.*;
+import ch.primeo.fridgely.view.*;
+import ch.primeo.fridgely.view.util.*;
 import lombok.Getter;
 import org.slf4j.*;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.io.DefaultResourceLoader;
 
+import javax.swing.*;
 import java.awt.*;
+import java.util.concurrent.*;
 
 @SpringBootApplication
 public class Fridgely {
@@ -31,23 +38,80 @@ public class Fridgely {
     private static boolean isSingleDisplay = false;
 
     public static void main(String[] args) {
-        detectScreens();
+        StartupProfiler profiler = StartupProfiler.getInstance();
+        profiler.time("detect-screens", Fridgely::detectScreens);
 
+        // Screen detection leaves no screen if it failed, the application then starts without a splash
+        SplashWindow splash = GraphicsEnvironment.isHeadless() || mainAppScreen == null ? null
+                : SplashWindow.showOn(mainAppScreen);
+        if (!GraphicsEnvironment.isHeadless()) {
+            startEdtMonitor();
+        }
+
+        // Decode images and parse the language bundles on one thread per core while Spring, Hibernate and the
+        // DataLoader come up. The images of the first screen and of the tutorial dialog go first; the views simply
+        // pick them up from the cache (and wait on the cache entry if it is still being decoded).
+        ExecutorService bootExecutor = ImageLoader.newPreloadExecutor();
+        ImageLoader imageLoader = new ImageLoader(new DefaultResourceLoader(Fridgely.class.getClassLoader()),
+                profiler.time("open-image-cache", ImageDiskCache::fromSystemProperties));
+        long preloadStart = profiler.nanoTime();
+        CompletableFuture<Void> preload = imageLoader.preloadAllImagesAsync(bootExecutor,
+                splash != null ? splash::onProgress : (loaded, total) -> {
+                },
+                () -> ChooseGameModeView.preloadAssets(imageLoader),
+                () -> ChooseGameModeController.preloadTutorialAssets(imageLoader));
+        preload.whenComplete((ignored, error) -> profiler.recordPhase("preload-images", preloadStart,
+                profiler.nanoTime()));
+        bootExecutor.execute(AppLocalizationService::preloadBundles);
 
-        // Now start the Spring application context after screen detection is complete
-        var context = new SpringApplicationBuilder(Fridgely.class).headless(false).run(args);
+        // Now start the Spring application context after screen detection is complete. The preloading image loader
+        // is registered under the component's bean name so it replaces the scanned (or AOT generated) definition.
+        var context = profiler.time("spring-context", () -> new SpringApplicationBuilder(Fridgely.class)
+                .headless(false)
+                .applicationStartup(profiler.getApplicationStartup())
+                .initializers(ctx -> registerImageLoader((GenericApplicationContext) ctx, imageLoader))
+                .run(args));
+        profiler.collectSpringTimeline();
 
-        var imageLoader = context.getBean(ImageLoader.class);
+        context.getBean(ChooseGameModeController.class);
+        if (splash != null) {
+            splash.close();
+        }
 
-        // Preload all images before showing UI
+        // Games only launch once every image is cached (see MultiplayerGameLauncher); here we just surface failures
         try {
-            imageLoader.preloadAllImages();
-        } catch (Exception e) {
+            preload.join();
+        } catch (CompletionException e) {
             LOGGER.error("Error preloading images: {}", e.getMessage());
             System.exit(1);
+        } finally {
+            bootExecutor.shutdown();
         }
+        profiler.markBootComplete();
+    }
 
-        context.getBean(ChooseGameModeController.class);
+    private static void startEdtMonitor() {
+        // Opt-in diagnostic watching for touch lag from the first frame on, see EdtMonitor for its system properties
+        EdtMonitor monitor = EdtMonitor.fromSystemProperties();
+        if (monitor == null) {
+            return;
+        }
+        monitor.start();
+        SwingUtilities.invokeLater(() -> {
+            if (EdtMonitor.isPaintTimingEnabled()) {
+                TimingRepaintManager.install(monitor);
+            }
+            if (EdtMonitor.isOverlayEnabled()) {
+                EdtMonitorOverlay.installOnNewFrames(monitor);
+            }
+        });
+    }
+
+    private static void registerImageLoader(GenericApplicationContext context, ImageLoader imageLoader) {
+        if (context.containsBeanDefinition("imageLoader")) {
+            context.removeBeanDefinition("imageLoader");
+        }
+        context.registerBean("imageLoader", ImageLoader.class, () -> imageLoader);
     }
 
     public static void detectScreens() {
@@ -0,0 +1,450 @@
+package ch.primeo.fridgely.config;
+
+import ch.primeo.fridgely.model.*;
+
+import javax.imageio.ImageIO;
+import javax.sql.DataSource;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.sql.*;
+import java.util.*;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Generates synthetic product and recipe catalogs for load tests and benchmarks. The rows match the tables of the
+ * seed data ({@code product}, {@code recipe}, {@code recipe_ingredient}), so a catalog can be written as a data script
+ * for {@link DataLoader} (see {@code app.data.script}), inserted in bulk over JDBC, or kept in memory as entities. The
+ * same settings always produce the same catalog.
+ *
+ * <p>Usage: {@code CatalogGenerator --products 5000 --recipes 100000 [--ingredients 2:1,3:3,4:3,5:2]
+ * [--default-ratio 0.1] [--seed 42] [--sql catalog.sql] [--images dir]}</p>
+ */
+public final class CatalogGenerator {
+
+    /**
+     * Directory of the product images, relative to a classpath root.
+     */
+    public static final String PRODUCT_IMAGE_DIR = "ch/primeo/fridgely/productimages";
+
+    private static final int ROWS_PER_STATEMENT = 500;
+    private static final int ROWS_PER_BATCH = 10_000;
+    private static final int IMAGE_SIZE = 96;
+
+    private final Settings settings;
+    private final int[] ingredientCounts;
+
+    /**
+     * Settings of a generated catalog.
+     *
+     * @param productCount        the number of products
+     * @param recipeCount         the number of recipes
+     * @param ingredientWeights   relative weight of every ingredient count, e.g. {@code {2=1, 3=3, 4=3}}
+     * @param defaultProductRatio share of products that are default products (always in stock)
+     * @param seed                the random seed
+     */
+    public record Settings(int productCount, int recipeCount, SortedMap<Integer, Integer> ingredientWeights,
+                           double defaultProductRatio, long seed) {
+
+        /**
+         * Validates the settings.
+         */
+        public Settings {
+            if (productCount <= 0 || recipeCount < 0) {
+                throw new IllegalArgumentException("Invalid catalog size: " + productCount + " products, "
+                        + recipeCount + " recipes");
+            }
+            if (ingredientWeights.isEmpty() || ingredientWeights.firstKey() < 1
+                    || ingredientWeights.lastKey() > productCount) {
+                throw new IllegalArgumentException("Ingredient counts must be between 1 and " + productCount);
+            }
+            ingredientWeights = Collections.unmodifiableSortedMap(new TreeMap<>(ingredientWeights));
+        }
+
+        /**
+         * Creates settings with two to six ingredients per recipe (mostly three or four), 10% default products and a
+         * fixed seed.
+         *
+         * @param products the number of products
+         * @param recipes  the number of recipes
+         * @return the settings
+         */
+        public static Settings of(int products, int recipes) {
+            return new Settings(products, recipes, parseWeights("2:1,3:3,4:3,5:2,6:1"), 0.1, 42L);
+        }
+    }
+
+    /**
+     * Creates a generator.
+     *
+     * @param catalogSettings the settings of the catalog
+     */
+    public CatalogGenerator(Settings catalogSettings) {
+        this.settings = catalogSettings;
+
+        // One slot per weight unit, so drawing an ingredient count is a single array lookup
+        List<Integer> slots = new ArrayList<>();
+        catalogSettings.ingredientWeights().forEach((count, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                slots.add(count);
+            }
+        });
+        this.ingredientCounts = slots.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Parses an ingredient count distribution such as {@code 2:1,3:3,4:3}.
+     *
+     * @param spec comma separated {@code count:weight} pairs
+     * @return the weights by ingredient count
+     */
+    public static SortedMap<Integer, Integer> parseWeights(String spec) {
+        SortedMap<Integer, Integer> weights = new TreeMap<>();
+        for (String pair : spec.split(",")) {
+            String[] parts = pair.trim().split(":");
+            int weight = parts.length > 1 ? Integer.parseInt(parts[1].trim()) : 1;
+            if (weight > 0) {
+                weights.put(Integer.parseInt(parts[0].trim()), weight);
+            }
+        }
+        return weights;
+    }
+
+    /**
+     * Gets the barcode of the product with the given index. Synthetic barcodes use the EAN-13 prefix 2 reserved for
+     * in-store numbering and never collide with the seed data.
+     *
+     * @param index the product index
+     * @return the barcode
+     */
+    public static String barcode(int index) {
+        return String.format("2%012d", index);
+    }
+
+    /**
+     * Gets the settings of this generator.
+     *
+     * @return the settings
+     */
+    public Settings getSettings() {
+        return settings;
+    }
+
+    /**
+     * Generates all products.
+     *
+     * @return the products, ordered by index
+     */
+    public List<Product> products() {
+        Random random = new Random(settings.seed());
+        List<Product> products = new ArrayList<>(settings.productCount());
+        for (int i = 0; i < settings.productCount(); i++) {
+            products.add(new Product(barcode(i), "Product " + i, "Produkt " + i, "Produit " + i,
+                    "Synthetic product " + i, "Synthetisches Produkt " + i, "Produit synthétique " + i,
+                    random.nextDouble() < settings.defaultProductRatio(), random.nextBoolean(), random.nextBoolean(),
+                    random.nextBoolean()));
+        }
+        return products;
+    }
+
+    /**
+     * Generates the recipes one by one with their ingredients attached, without keeping them in memory.
+     *
+     * @param products the products from {@link #products()}
+     * @param consumer receives every recipe, ordered by ID (starting at 1)
+     */
+    public void forEachRecipe(List<Product> products, Consumer<Recipe> consumer) {
+        Random random = new Random(settings.seed() ^ 0x5DEECE66DL);
+        int[] picked = new int[settings.ingredientWeights().lastKey()];
+
+        for (int id = 1; id <= settings.recipeCount(); id++) {
+            Recipe recipe = new Recipe(id, "Recipe " + id, "Synthetic recipe " + id);
+            recipe.setNameDE("Rezept " + id);
+            recipe.setNameFR("Recette " + id);
+            recipe.setDescriptionDE("Synthetisches Rezept " + id);
+            recipe.setDescriptionFR("Recette synthétique " + id);
+
+            int count = ingredientCounts[random.nextInt(ingredientCounts.length)];
+            for (int i = 0; i < count; i++) {
+                picked[i] = pickDistinct(random, picked, i);
+                RecipeIngredient ingredient = new RecipeIngredient();
+                ingredient.setRecipe(recipe);
+                ingredient.setProduct(products.get(picked[i]));
+                recipe.getIngredients().add(ingredient);
+            }
+            consumer.accept(recipe);
+        }
+    }
+
+    /**
+     * Generates all recipes in memory.
+     *
+     * @param products the products from {@link #products()}
+     * @return the recipes, ordered by ID
+     */
+    public List<Recipe> recipes(List<Product> products) {
+        List<Recipe> recipes = new ArrayList<>(settings.recipeCount());
+        forEachRecipe(products, recipes::add);
+        return recipes;
+    }
+
+    private int pickDistinct(Random random, int[] picked, int pickedCount) {
+        while (true) {
+            int candidate = random.nextInt(settings.productCount());
+            boolean duplicate = false;
+            for (int i = 0; i < pickedCount && !duplicate; i++) {
+                duplicate = picked[i] == candidate;
+            }
+            if (!duplicate) {
+                return candidate;
+            }
+        }
+    }
+
+    /**
+     * Writes the catalog as a data script in the format of the seed data. Load it with {@link DataLoader} by setting
+     * {@code app.data.script=file:<path>}.
+     *
+     * @param script the script file to write
+     * @throws IOException if the script cannot be written
+     */
+    public void writeSqlScript(Path script) throws IOException {
+        List<Product> products = products();
+        try (Writer out = Files.newBufferedWriter(script, StandardCharsets.UTF_8)) {
+            RowWriter productRows = new RowWriter(out, "INSERT INTO product (barcode, name, nameDE, nameFR, "
+                    + "description, descriptionDE, descriptionFR, is_default_product, is_bio, is_local, is_low_co2)");
+            for (Product p : products) {
+                productRows.row(quote(p.getBarcode()), quote(p.getName()), quote(p.getNameDE()),
+                        quote(p.getNameFR()), quote(p.getDescription()), quote(p.getDescriptionDE()),
+                        quote(p.getDescriptionFR()), bit(p.isDefaultProduct()), bit(p.isBio()), bit(p.isLocal()),
+                        bit(p.isLowCo2()));
+            }
+            productRows.finish();
+
+            RowWriter recipeRows = new RowWriter(out, "INSERT INTO recipe (recipe_id, name, nameDE, nameFR, "
+                    + "description, descriptionDE, descriptionFR)");
+            forEachRecipe(products, r -> recipeRows.row(Integer.toString(r.getRecipeId()), quote(r.getName()),
+                    quote(r.getNameDE()), quote(r.getNameFR()), quote(r.getDescription()),
+                    quote(r.getDescriptionDE()), quote(r.getDescriptionFR())));
+            recipeRows.finish();
+
+            RowWriter ingredientRows = new RowWriter(out,
+                    "INSERT INTO recipe_ingredient (id, recipe_recipe_id, product_barcode)");
+            long[] ingredientId = {0};
+            forEachRecipe(products, r -> r.getIngredients().forEach(i -> ingredientRows.row(
+                    Long.toString(++ingredientId[0]), Integer.toString(r.getRecipeId()),
+                    quote(i.getProduct().getBarcode()))));
+            ingredientRows.finish();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Inserts the catalog into an existing schema with batched statements in a single transaction. This is the fast
+     * path for catalogs of a million recipes, where parsing a data script dominates the load time.
+     *
+     * @param dataSource the database to insert into
+     * @throws SQLException if the rows cannot be inserted
+     */
+    public void insert(DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                insert(connection);
+                connection.commit();
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        }
+    }
+
+    private void insert(Connection connection) throws SQLException {
+        List<Product> products = products();
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO product (barcode, name, nameDE, "
+                + "nameFR, description, descriptionDE, descriptionFR, is_default_product, is_bio, is_local, "
+                + "is_low_co2) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)")) {
+            int pending = 0;
+            for (Product p : products) {
+                insert.setString(1, p.getBarcode());
+                insert.setString(2, p.getName());
+                insert.setString(3, p.getNameDE());
+                insert.setString(4, p.getNameFR());
+                insert.setString(5, p.getDescription());
+                insert.setString(6, p.getDescriptionDE());
+                insert.setString(7, p.getDescriptionFR());
+                insert.setBoolean(8, p.isDefaultProduct());
+                insert.setBoolean(9, p.isBio());
+                insert.setBoolean(10, p.isLocal());
+                insert.setBoolean(11, p.isLowCo2());
+                insert.addBatch();
+                if (++pending % ROWS_PER_BATCH == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+
+        try (PreparedStatement insertRecipe = connection.prepareStatement("INSERT INTO recipe (recipe_id, name, "
+                + "nameDE, nameFR, description, descriptionDE, descriptionFR) VALUES (?, ?, ?, ?, ?, ?, ?)");
+             PreparedStatement insertIngredient = connection.prepareStatement(
+                     "INSERT INTO recipe_ingredient (id, recipe_recipe_id, product_barcode) VALUES (?, ?, ?)")) {
+            long[] ingredientId = {0};
+            try {
+                forEachRecipe(products, r -> {
+                    try {
+                        insertRecipe.setInt(1, r.getRecipeId());
+                        insertRecipe.setString(2, r.getName());
+                        insertRecipe.setString(3, r.getNameDE());
+                        insertRecipe.setString(4, r.getNameFR());
+                        insertRecipe.setString(5, r.getDescription());
+                        insertRecipe.setString(6, r.getDescriptionDE());
+                        insertRecipe.setString(7, r.getDescriptionFR());
+                        insertRecipe.addBatch();
+                        for (RecipeIngredient ingredient : r.getIngredients()) {
+                            insertIngredient.setLong(1, ++ingredientId[0]);
+                            insertIngredient.setInt(2, r.getRecipeId());
+                            insertIngredient.setString(3, ingredient.getProduct().getBarcode());
+                            insertIngredient.addBatch();
+                        }
+                        if (r.getRecipeId() % ROWS_PER_BATCH == 0) {
+                            insertRecipe.executeBatch();
+                            insertIngredient.executeBatch();
+                        }
+                    } catch (SQLException e) {
+                        throw new IllegalStateException(e);
+                    }
+                });
+            } catch (IllegalStateException e) {
+                if (e.getCause() instanceof SQLException sqlException) {
+                    throw sqlException;
+                }
+                throw e;
+            }
+            insertRecipe.executeBatch();
+            insertIngredient.executeBatch();
+        }
+    }
+
+    /**
+     * Writes a placeholder image for every product, laid out like the bundled product images so the directory can be
+     * put on the classpath as is. Each placeholder gets its own color and the last digits of its barcode.
+     *
+     * @param root the classpath root to write below
+     * @return the number of images written
+     * @throws IOException if an image cannot be written
+     */
+    public int writePlaceholderImages(Path root) throws IOException {
+        Path directory = root.resolve(PRODUCT_IMAGE_DIR);
+        Files.createDirectories(directory);
+
+        BufferedImage image = new BufferedImage(IMAGE_SIZE, IMAGE_SIZE, BufferedImage.TYPE_INT_ARGB);
+        Font font = new Font(Font.SANS_SERIF, Font.BOLD, IMAGE_SIZE / 4);
+        for (int i = 0; i < settings.productCount(); i++) {
+            String barcode = barcode(i);
+            Graphics2D g = image.createGraphics();
+            try {
+                g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+                g.setComposite(AlphaComposite.Clear);
+                g.fillRect(0, 0, IMAGE_SIZE, IMAGE_SIZE);
+                g.setComposite(AlphaComposite.SrcOver);
+                g.setColor(Color.getHSBColor((i * 0.618034f) % 1f, 0.55f, 0.9f));
+                g.fillRoundRect(4, 4, IMAGE_SIZE - 8, IMAGE_SIZE - 8, IMAGE_SIZE / 4, IMAGE_SIZE / 4);
+
+                String label = barcode.substring(barcode.length() - 4);
+                g.setFont(font);
+                g.setColor(Color.WHITE);
+                FontMetrics metrics = g.getFontMetrics();
+                g.drawString(label, (IMAGE_SIZE - metrics.stringWidth(label)) / 2,
+                        (IMAGE_SIZE - metrics.getHeight()) / 2 + metrics.getAscent());
+            } finally {
+                g.dispose();
+            }
+            ImageIO.write(image, "png", directory.resolve(barcode + ".png").toFile());
+        }
+        return settings.productCount();
+    }
+
+    private static String quote(String value) {
+        return value == null ? "NULL" : "'" + value.replace("'", "''") + "'";
+    }
+
+    private static String bit(boolean value) {
+        return value ? "1" : "0";
+    }
+
+    /**
+     * Writes multi-row INSERT statements of a bounded size.
+     */
+    private static final class RowWriter {
+
+        private final Writer out;
+        private final String insert;
+        private int rows;
+
+        RowWriter(Writer writer, String insertClause) {
+            this.out = writer;
+            this.insert = insertClause;
+        }
+
+        void row(String... values) {
+            try {
+                out.write(rows % ROWS_PER_STATEMENT == 0 ? insert + "\nVALUES " : ",\n       ");
+                out.write('(');
+                out.write(String.join(", ", values));
+                out.write(')');
+                if (++rows % ROWS_PER_STATEMENT == 0) {
+                    out.write(";\n\n");
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        void finish() throws IOException {
+            if (rows % ROWS_PER_STATEMENT != 0) {
+                out.write(";\n\n");
+            }
+        }
+    }
+
+    /**
+     * Generates a catalog from the command line.
+     *
+     * @param args see the class documentation
+     * @throws Exception if the catalog cannot be written
+     */
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            options.put(args[i], args[i + 1]);
+        }
+
+        Settings defaults = Settings.of(Integer.parseInt(options.getOrDefault("--products", "1000")),
+                Integer.parseInt(options.getOrDefault("--recipes", "10000")));
+        Settings settings = new Settings(defaults.productCount(), defaults.recipeCount(),
+                options.containsKey("--ingredients") ? parseWeights(options.get("--ingredients"))
+                        : defaults.ingredientWeights(),
+                Double.parseDouble(options.getOrDefault("--default-ratio", "0.1")),
+                Long.parseLong(options.getOrDefault("--seed", "42")));
+        CatalogGenerator generator = new CatalogGenerator(settings);
+
+        Path script = Path.of(options.getOrDefault("--sql", "catalog.sql"));
+        generator.writeSqlScript(script);
+        System.out.println("Catalog with " + settings.productCount() + " products and " + settings.recipeCount()
+                + " recipes written to " + script.toAbsolutePath());
+
+        if (options.containsKey("--images")) {
+            Path root = Path.of(options.get("--images"));
+            int images = generator.writePlaceholderImages(root);
+            System.out.println(images + " placeholder images written below " + root.toAbsolutePath());
+        }
+    }
+}
@@ -1,15 +1,20 @@
 package ch.primeo.fridgely.config;
 
+import ch.primeo.fridgely.service.*;
+import ch.primeo.fridgely.util.StartupProfiler;
 import org.slf4j.*;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
-import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.*;
 import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
 import org.springframework.stereotype.Component;
 
 import javax.sql.DataSource;
 
 /**
- * Bean that loads initial data from SQL scripts after Hibernate creates the schema
+ * Bean that loads initial data from SQL scripts after Hibernate creates the schema. Skipped when a matching prebuilt
+ * database is present (see {@link SeedDatabase}). Setting {@code app.data.script} loads another script instead of the
+ * seed data, e.g. a large catalog from {@link CatalogGenerator}.
  */
 @Component
 public class DataLoader implements CommandLineRunner {
@@ -17,21 +22,44 @@ public class DataLoader implements CommandLineRunner {
     private static final Logger LOGGER = LoggerFactory.getLogger(DataLoader.class);
 
     private final DataSource dataSource;
+    private final ProductCatalog productCatalog;
+    private final SeedDatabase seedDatabase;
+    private final EntityCache entityCache;
+    private final Resource dataScript;
 
-    public DataLoader(DataSource source) {
+    public DataLoader(DataSource source, ProductCatalog catalog, SeedDatabase seed, EntityCache cache,
+                      @Value("${app.data.script:}") String script) {
         this.dataSource = source;
+        this.productCatalog = catalog;
+        this.seedDatabase = seed;
+        this.entityCache = cache;
+        this.dataScript = script == null || script.isBlank() ? new ClassPathResource(SeedDatabase.DATA_SCRIPT)
+                : new DefaultResourceLoader().getResource(script);
     }
 
     @Override
     public void run(String... args) {
+        if (seedDatabase.isSeeded()) {
+            LOGGER.info("Prebuilt database matches the seed data, skipping initial data load");
+            return;
+        }
+
+        StartupProfiler.getInstance().time("data-loader", this::loadInitialData);
+    }
+
+    private void loadInitialData() {
         try {
-            LOGGER.info("Loading initial data from SQL script");
+            LOGGER.info("Loading initial data from SQL script {}", dataScript.getDescription());
 
             // Load and execute the SQL script
             ResourceDatabasePopulator resourceDatabasePopulator = new ResourceDatabasePopulator();
-            resourceDatabasePopulator.addScript(new ClassPathResource("ch/primeo/fridgely/sql/data.sql"));
+            resourceDatabasePopulator.addScript(dataScript);
             resourceDatabasePopulator.execute(dataSource);
 
+            // Any snapshot or cached entity read before the data was (re)loaded is stale now
+            productCatalog.invalidate();
+            entityCache.evictAll();
+
             LOGGER.info("Data loaded successfully");
         } catch (Exception e) {
             LOGGER.error("Error loading initial data", e);
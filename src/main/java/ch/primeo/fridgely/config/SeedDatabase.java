@@ -0,0 +1,219 @@
+package ch.primeo.fridgely.config;
+
+import ch.primeo.fridgely.model.*;
+import org.hibernate.cfg.AvailableSettings;
+import org.slf4j.*;
+import org.springframework.beans.factory.annotation.*;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.*;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.security.*;
+import java.sql.*;
+import java.util.*;
+
+/**
+ * Detects a prebuilt, already seeded database (see {@link SeedDatabaseBuilder}). The builder stores a checksum of
+ * the seed data and the entity mappings in the database; when it matches the seed data and mappings of this build,
+ * Hibernate schema generation is switched off and {@link DataLoader} skips reseeding. In every other case the regular create-drop + data script
+ * path is used, as it is when {@code app.data.script} points {@link DataLoader} at another data script.
+ */
+@Component
+public class SeedDatabase implements HibernatePropertiesCustomizer {
+
+    /**
+     * Classpath location of the seed data script.
+     */
+    public static final String DATA_SCRIPT = "ch/primeo/fridgely/sql/data.sql";
+
+    /**
+     * Name of the table holding the checksum of a prebuilt database.
+     */
+    public static final String SEED_TABLE = "fridgely_seed";
+
+    /**
+     * Entities stored in the prebuilt database.
+     */
+    static final List<Class<?>> ENTITY_CLASSES = List.of(Product.class, Recipe.class, RecipeIngredient.class,
+            FridgeStock.class);
+
+    // Bump when the layout of the prebuilt database changes without a change of the seed data or the entity mappings,
+    // e.g. with another naming strategy or dialect
+    private static final int FORMAT_VERSION = 2;
+    private static final String MAPPING_PACKAGE = "jakarta.persistence";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SeedDatabase.class);
+
+    private final DataSource dataSource;
+    private final boolean customDataScript;
+    private Boolean seeded;
+
+    public SeedDatabase(DataSource source) {
+        this(source, null);
+    }
+
+    @Autowired
+    public SeedDatabase(DataSource source, @Value("${app.data.script:}") String dataScript) {
+        this.dataSource = source;
+        this.customDataScript = dataScript != null && !dataScript.isBlank();
+    }
+
+    /**
+     * Computes the checksum of the seed data and the entity mappings of this build.
+     *
+     * @return the hex encoded SHA-256 checksum
+     * @throws IOException if the seed data cannot be read
+     */
+    public static String expectedChecksum() throws IOException {
+        try (InputStream in = new ClassPathResource(DATA_SCRIPT).getInputStream()) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(("fridgely-seed-v" + FORMAT_VERSION).getBytes(StandardCharsets.UTF_8));
+            digest.update(in.readAllBytes());
+            digest.update(mappingFingerprint().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Describes the tables and columns the stored entities map to: every persistent field with its type and the JPA
+     * annotations of the field and its class. It is read by reflection, so it costs no Hibernate bootstrap at startup.
+     * Changes that do not affect the schema, e.g. of a fetch type, only cause an unnecessary reseed.
+     *
+     * @return the description, stable across runs and JVMs
+     */
+    static String mappingFingerprint() {
+        StringBuilder text = new StringBuilder(2048);
+        for (Class<?> entity : ENTITY_CLASSES) {
+            text.append(entity.getName());
+            appendMappingAnnotations(text, entity.getAnnotations());
+            text.append('\n');
+
+            List<Field> fields = new ArrayList<>(List.of(entity.getDeclaredFields()));
+            fields.sort(Comparator.comparing(Field::getName));
+            for (Field field : fields) {
+                int modifiers = field.getModifiers();
+                if (field.isSynthetic() || Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers)
+                        || field.isAnnotationPresent(jakarta.persistence.Transient.class)) {
+                    continue;
+                }
+                text.append("  ").append(field.getName()).append(": ").append(field.getGenericType().getTypeName());
+                appendMappingAnnotations(text, field.getAnnotations());
+                text.append('\n');
+            }
+        }
+        return text.toString();
+    }
+
+    private static void appendMappingAnnotations(StringBuilder text, Annotation[] annotations) {
+        List<Annotation> mapping = new ArrayList<>();
+        for (Annotation annotation : annotations) {
+            if (annotation.annotationType().getPackageName().equals(MAPPING_PACKAGE)) {
+                mapping.add(annotation);
+            }
+        }
+        mapping.sort(Comparator.comparing(annotation -> annotation.annotationType().getName()));
+        for (Annotation annotation : mapping) {
+            text.append(' ');
+            appendValue(text, annotation);
+        }
+    }
+
+    // Annotation.toString() differs between JDK versions, so the values are formatted here
+    private static void appendValue(StringBuilder text, Object value) {
+        if (value instanceof Annotation annotation) {
+            text.append('@').append(annotation.annotationType().getSimpleName()).append('(');
+            Method[] members = annotation.annotationType().getDeclaredMethods();
+            Arrays.sort(members, Comparator.comparing(Method::getName));
+            for (Method member : members) {
+                text.append(member.getName()).append('=');
+                try {
+                    appendValue(text, member.invoke(annotation));
+                } catch (ReflectiveOperationException e) {
+                    throw new IllegalStateException("Cannot read " + member, e);
+                }
+                text.append(';');
+            }
+            text.append(')');
+        } else if (value.getClass().isArray()) {
+            text.append('[');
+            for (int i = 0; i < Array.getLength(value); i++) {
+                appendValue(text, Array.get(value, i));
+                text.append(';');
+            }
+            text.append(']');
+        } else if (value instanceof Class<?> type) {
+            text.append(type.getName());
+        } else {
+            text.append(value);
+        }
+    }
+
+    /**
+     * Checks whether the configured database is a prebuilt database matching the current seed data. The result is
+     * computed once and cached.
+     *
+     * @return true if schema generation and seeding can be skipped, false otherwise
+     */
+    public synchronized boolean isSeeded() {
+        if (seeded == null) {
+            seeded = checkSeeded();
+        }
+        return seeded;
+    }
+
+    /**
+     * Disables Hibernate schema generation when a matching prebuilt database is present, so the seeded tables are
+     * neither recreated on startup nor dropped on shutdown.
+     *
+     * @param hibernateProperties the properties used to build the entity manager factory
+     */
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        if (isSeeded()) {
+            hibernateProperties.put(AvailableSettings.HBM2DDL_AUTO, "none");
+        }
+    }
+
+    private boolean checkSeeded() {
+        if (customDataScript) {
+            LOGGER.info("Custom data script configured, ignoring any prebuilt database");
+            return false;
+        }
+
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            String storedChecksum;
+            try (ResultSet rs = statement.executeQuery("SELECT checksum FROM " + SEED_TABLE)) {
+                storedChecksum = rs.next() ? rs.getString(1) : null;
+            }
+
+            String expected = expectedChecksum();
+            if (!expected.equals(storedChecksum)) {
+                LOGGER.info("Prebuilt database checksum {} does not match {}, reseeding", storedChecksum, expected);
+                return false;
+            }
+
+            try (ResultSet rs = statement.executeQuery("SELECT COUNT(*) FROM product")) {
+                if (!rs.next() || rs.getInt(1) == 0) {
+                    LOGGER.info("Prebuilt database contains no products, reseeding");
+                    return false;
+                }
+            }
+
+            LOGGER.info("Using prebuilt database (checksum {})", expected);
+            return true;
+        } catch (Exception e) {
+            LOGGER.info("No prebuilt database found: {}", e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package ch.primeo.fridgely.config;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.boot.registry.*;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.community.dialect.SQLiteDialect;
+import org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.support.EncodedResource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.sql.*;
+import java.time.Instant;
+
+/**
+ * Build tool that produces a pre-seeded SQLite database. The schema is generated from the entity mappings with the
+ * same naming strategies Spring Boot uses at runtime, the seed data script is applied once, and the checksum of the
+ * seed data and entity mappings checked by {@link SeedDatabase} is stored alongside. Runs in the {@code prepare-package} phase of the release profile.
+ */
+public final class SeedDatabaseBuilder {
+
+    private SeedDatabaseBuilder() {
+    }
+
+    /**
+     * Builds the seeded database.
+     *
+     * @param args optional target file, defaults to {@code fridgely.db} in the working directory
+     * @throws Exception if the database cannot be built
+     */
+    public static void main(String[] args) throws Exception {
+        Path target = Path.of(args.length > 0 ? args[0] : "fridgely.db");
+        build(target);
+        System.out.println("Seeded database written to " + target.toAbsolutePath());
+    }
+
+    /**
+     * Builds a seeded database at the given location, replacing any existing file.
+     *
+     * @param target the database file to create
+     * @throws IOException  if the file or seed data cannot be accessed
+     * @throws SQLException if seeding fails
+     */
+    public static void build(Path target) throws IOException, SQLException {
+        Path parent = target.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Files.deleteIfExists(target);
+
+        String url = "jdbc:sqlite:" + target.toAbsolutePath();
+        createSchema(url);
+
+        try (Connection connection = DriverManager.getConnection(url)) {
+            connection.setAutoCommit(false);
+            ScriptUtils.executeSqlScript(connection,
+                    new EncodedResource(new ClassPathResource(SeedDatabase.DATA_SCRIPT), StandardCharsets.UTF_8));
+
+            try (Statement statement = connection.createStatement()) {
+                statement.executeUpdate("CREATE TABLE " + SeedDatabase.SEED_TABLE
+                        + " (checksum TEXT NOT NULL, built_at TEXT NOT NULL)");
+            }
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "INSERT INTO " + SeedDatabase.SEED_TABLE + " (checksum, built_at) VALUES (?, ?)")) {
+                insert.setString(1, SeedDatabase.expectedChecksum());
+                insert.setString(2, Instant.now().toString());
+                insert.executeUpdate();
+            }
+            connection.commit();
+
+            connection.setAutoCommit(true);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("VACUUM");
+            }
+        }
+    }
+
+    private static void createSchema(String url) {
+        StandardServiceRegistry registry = new StandardServiceRegistryBuilder()
+                .applySetting(AvailableSettings.JAKARTA_JDBC_URL, url)
+                .applySetting(AvailableSettings.DIALECT, SQLiteDialect.class.getName())
+                .applySetting(AvailableSettings.PHYSICAL_NAMING_STRATEGY,
+                        CamelCaseToUnderscoresNamingStrategy.class.getName())
+                .applySetting(AvailableSettings.IMPLICIT_NAMING_STRATEGY, SpringImplicitNamingStrategy.class.getName())
+                .applySetting(AvailableSettings.USE_SECOND_LEVEL_CACHE, false)
+                .build();
+        try {
+            MetadataSources sources = new MetadataSources(registry);
+            SeedDatabase.ENTITY_CLASSES.forEach(sources::addAnnotatedClass);
+
+            try (SessionFactory sessionFactory = sources.buildMetadata().buildSessionFactory()) {
+                sessionFactory.getSchemaManager().exportMappedObjects(true);
+            }
+        } finally {
+            StandardServiceRegistryBuilder.destroy(registry);
+        }
+    }
+}
@@ -4,12 +4,12 @@ package ch.primeo.fridgely.controller;
 import ch.primeo.fridgely.gamelaunchers.MultiplayerGameLauncher;
 import ch.primeo.fridgely.model.*;
 import ch.primeo.fridgely.service.localization.AppLocalizationService;
-import ch.primeo.fridgely.util.ImageLoader;
+import ch.primeo.fridgely.util.*;
 import ch.primeo.fridgely.view.ChooseGameModeView;
 import ch.primeo.fridgely.view.component.LanguageSwitchButton;
 import ch.primeo.fridgely.view.util.DialogBox;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.context.annotation.Scope;
+import org.springframework.context.annotation.*;
 import org.springframework.stereotype.Component;
 
 import javax.swing.JLabel;
@@ -24,6 +24,9 @@ import java.util.*;
 @Scope("singleton")
 public class ChooseGameModeController implements BaseController {
 
+    private static final PenguinFacialExpression TUTORIAL_EXPRESSION = PenguinFacialExpression.HAPPY;
+    private static final PenguinHPState TUTORIAL_HP_STATE = PenguinHPState.OKAY;
+
     // Made package-private for testing
     final AppLocalizationService localizationService;
     ChooseGameModeView view;
@@ -36,14 +39,14 @@ public class ChooseGameModeController implements BaseController {
      *
      * @param localization         the localization service
      * @param languageSwitchButton the button for switching languages
-     * @param launcher             the multiplayer game launcher
+     * @param launcher             the multiplayer game launcher (lazy proxy, resolved on the first game launch)
      * @param imageLoader          the image loader
      */
     @Autowired
     public ChooseGameModeController(
             AppLocalizationService localization,
             LanguageSwitchButton languageSwitchButton,
-            MultiplayerGameLauncher launcher,
+            @Lazy MultiplayerGameLauncher launcher,
             ImageLoader imageLoader) {
 
         this.localizationService = localization;
@@ -82,6 +85,11 @@ public class ChooseGameModeController implements BaseController {
         this.view = createView(this.languageSwitchButton);
 
         this.view.getFrame().addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowOpened(WindowEvent e) {
+                StartupProfiler.getInstance().markFirstFrameVisible();
+            }
+
             @Override
             public void windowClosing(WindowEvent e) {
                 dispose();
@@ -177,10 +185,19 @@ public class ChooseGameModeController implements BaseController {
                 localizationService.get("tutorial.game.winner"));
 
         // Show the tutorial dialog
-        createDialogBox(tutorialMessages, PenguinFacialExpression.HAPPY, PenguinHPState.OKAY,
+        createDialogBox(tutorialMessages, TUTORIAL_EXPRESSION, TUTORIAL_HP_STATE,
                 this::startMultiplayerGame, imageLoader).showDialog();
     }
 
+    /**
+     * Loads the images of the multiplayer tutorial into the cache, so the dialog opens without decoding.
+     *
+     * @param imageLoader the image loader to fill
+     */
+    public static void preloadTutorialAssets(ImageLoader imageLoader) {
+        DialogBox.preloadAssets(imageLoader, TUTORIAL_EXPRESSION, TUTORIAL_HP_STATE);
+    }
+
     /**
      * Starts the multiplayer game after the tutorial.
      */
@@ -21,25 +21,26 @@ public class MultiplayerGameController {
     private final RecipeModel recipeModel;
     private final MultiplayerPlayer1Controller player1Controller;
     private final MultiplayerPlayer2Controller player2Controller;
-    private final ProductRepository productRepository;
+    private final ProductCatalog productCatalog;
 
     /**
      * Constructs a new game controller.
      *
-     * @param productRepository the repository for accessing products
-     * @param recipeRepository  the repository for accessing recipes
+     * @param productCatalog   the shared catalog for looking up products
+     * @param recipeRepository the repository for accessing recipes
      */
-    public MultiplayerGameController(ProductRepository productRepository, RecipeRepository recipeRepository) {
-        this.productRepository = productRepository;
+    public MultiplayerGameController(ProductCatalog productCatalog, RecipeRepository recipeRepository) {
+        this.productCatalog = productCatalog;
         // Initialize models
         this.gameStateModel = new MultiplayerGameStateModel();
         this.penguinModel = new PenguinModel();
-        this.fridgeStockModel = new FridgeStockModel(productRepository.getAllDefaultProducts());
+        this.fridgeStockModel = new FridgeStockModel(productCatalog.getDefaultProducts());
         this.recipeModel = new RecipeModel(recipeRepository);
+        this.recipeModel.trackFridgeStock(fridgeStockModel);
 
         // Initialize controllers
         this.player1Controller = new MultiplayerPlayer1Controller(
-                fridgeStockModel, gameStateModel, penguinModel, productRepository, recipeModel);
+                fridgeStockModel, gameStateModel, penguinModel, productCatalog, recipeModel);
         this.player2Controller = new MultiplayerPlayer2Controller(
                 fridgeStockModel, gameStateModel, penguinModel, recipeModel);
     }
@@ -4,9 +4,7 @@ package ch.primeo.fridgely.controller.multiplayer;
 import ch.primeo.fridgely.config.GameConfig;
 import ch.primeo.fridgely.model.*;
 import ch.primeo.fridgely.model.multiplayer.MultiplayerGameStateModel;
-import ch.primeo.fridgely.service.ProductRepository;
-
-import java.util.List;
+import ch.primeo.fridgely.service.ProductCatalog;
 
 /**
  * Controller for Player 1 (Scanner) in the multiplayer game mode. Handles scanning products and updating the fridge
@@ -17,7 +15,7 @@ public class MultiplayerPlayer1Controller {
     private final FridgeStockModel fridgeStockModel;
     private final MultiplayerGameStateModel gameStateModel;
     private final PenguinModel penguinModel;
-    private final ProductRepository productRepository;
+    private final ProductCatalog productCatalog;
     private final RecipeModel recipeModel;
 
     private int roundScannedItems;
@@ -29,15 +27,15 @@ public class MultiplayerPlayer1Controller {
      * @param stockModel   the model for the fridge stock
      * @param stateModel   the model for the game state
      * @param penguinModel the model for the penguin HP
-     * @param productRepo  the repository for accessing products
+     * @param catalog      the shared catalog for looking up products
      * @param recipeModel  the model for recipes
      */
     public MultiplayerPlayer1Controller(FridgeStockModel stockModel, MultiplayerGameStateModel stateModel,
-                                        PenguinModel penguinModel, ProductRepository productRepo, RecipeModel recipeModel) {
+                                        PenguinModel penguinModel, ProductCatalog catalog, RecipeModel recipeModel) {
         this.fridgeStockModel = stockModel;
         this.gameStateModel = stateModel;
         this.penguinModel = penguinModel;
-        this.productRepository = productRepo;
+        this.productCatalog = catalog;
         this.recipeModel = recipeModel;
         roundScannedItems = 0;
         roundScore = 0;
@@ -56,9 +54,33 @@ public class MultiplayerPlayer1Controller {
         if (gameStateModel.getCurrentPlayer() != MultiplayerGameStateModel.Player.PLAYER1) {
             return null;
         }
+        return addScannedProduct(lookUpProduct(barcode));
+    }
+
+    /**
+     * Looks up the product of a scanned barcode. Does not change any model, so it may run off the event dispatch
+     * thread, e.g. in the {@link ScanPipeline}.
+     *
+     * @param barcode the barcode of the product to scan
+     * @return the product, or null if the barcode is unknown
+     */
+    public Product lookUpProduct(String barcode) {
+        // Look up the product in the in-memory catalog
+        return productCatalog.getProductByBarcode(barcode);
+    }
 
-        // Look up the product
-        Product product = productRepository.getProductByBarcode(barcode);
+    /**
+     * Adds a looked up product to the fridge stock and updates the score and penguin HP based on its attributes. Changes
+     * the models, so it has to run where their listeners expect it, i.e. on the event dispatch thread.
+     *
+     * @param product the product to add, may be null if the barcode was unknown
+     * @return the product that was added or null if not found/invalid
+     */
+    public Product addScannedProduct(Product product) {
+        // Check if it's player 1's turn, it may have ended while the product was looked up
+        if (gameStateModel.getCurrentPlayer() != MultiplayerGameStateModel.Player.PLAYER1) {
+            return null;
+        }
 
         // If product not in the fridge stock, add it; otherwise ignore
         if (product != null && !fridgeStockModel.getProducts().contains(product)) {
@@ -141,9 +163,8 @@ public class MultiplayerPlayer1Controller {
      * @return true if at least one recipe can be made, false otherwise
      */
     public boolean hasAvailableRecipes() {
-        List<Product> productsInStorage = fridgeStockModel.getProducts();
-        List<Recipe> possibleRecipes = recipeModel.getPossibleRecipes(productsInStorage);
-        return !possibleRecipes.isEmpty();
+        // Answered from the recipe model's tracked stock bitmask, no repository access
+        return recipeModel.hasPossibleRecipes();
     }
 
     /**
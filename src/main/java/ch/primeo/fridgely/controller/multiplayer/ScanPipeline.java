@@ -0,0 +1,79 @@
+package ch.primeo.fridgely.controller.multiplayer;
+
+import ch.primeo.fridgely.model.Product;
+import org.slf4j.*;
+
+import javax.swing.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+
+/**
+ * Resolves scanned barcodes off the event dispatch thread. Barcodes are looked up one after the other on a virtual
+ * worker thread and every result is handed to the event dispatch thread in scan order, where it can be applied to the
+ * models. The key handling that feeds the pipeline returns right away, so rapid consecutive scans neither freeze the UI
+ * nor lose keystrokes.
+ */
+public final class ScanPipeline implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ScanPipeline.class.getName());
+
+    private final Function<String, Product> lookup;
+    private final ExecutorService worker;
+    private final Consumer<Runnable> eventQueue;
+
+    /**
+     * Creates a pipeline looking up the barcodes with a Player 1 controller.
+     *
+     * @param controller the controller looking up the products
+     */
+    public ScanPipeline(MultiplayerPlayer1Controller controller) {
+        this(controller::lookUpProduct,
+                Executors.newSingleThreadExecutor(Thread.ofVirtual().name("scan-pipeline-", 0).factory()),
+                SwingUtilities::invokeLater);
+    }
+
+    /**
+     * Creates a pipeline.
+     *
+     * @param lookup     resolves a barcode to its product, or null if it is unknown
+     * @param worker     a single-threaded executor running the lookups in submission order
+     * @param eventQueue posts a task to the event dispatch thread
+     */
+    ScanPipeline(Function<String, Product> lookup, ExecutorService worker, Consumer<Runnable> eventQueue) {
+        this.lookup = lookup;
+        this.worker = worker;
+        this.eventQueue = eventQueue;
+    }
+
+    /**
+     * Looks up a scanned barcode in the background.
+     *
+     * @param barcode  the scanned barcode
+     * @param onResult receives the barcode and its product (null if unknown) on the event dispatch thread, after the
+     *                 results of all earlier scans
+     */
+    public void submit(String barcode, BiConsumer<String, Product> onResult) {
+        try {
+            worker.execute(() -> {
+                Product product = null;
+                try {
+                    product = lookup.apply(barcode);
+                } catch (RuntimeException e) {
+                    LOGGER.error("Error looking up barcode {}: {}", barcode, e.getMessage());
+                }
+                Product result = product;
+                eventQueue.accept(() -> onResult.accept(barcode, result));
+            });
+        } catch (RejectedExecutionException e) {
+            LOGGER.warn("Ignoring barcode {} scanned after the pipeline was closed", barcode);
+        }
+    }
+
+    /**
+     * Stops the worker. Scans already submitted are still delivered.
+     */
+    @Override
+    public void close() {
+        worker.shutdown();
+    }
+}
@@ -9,7 +9,7 @@ import ch.primeo.fridgely.service.localization.AppLocalizationService;
 import ch.primeo.fridgely.util.ImageLoader;
 import ch.primeo.fridgely.view.ScannedItemsView;
 import ch.primeo.fridgely.view.multiplayer.MultiplayerGameView;
-import org.springframework.context.annotation.Scope;
+import org.springframework.context.annotation.*;
 import org.springframework.stereotype.Component;
 
 import javax.swing.*;
@@ -20,9 +20,10 @@ import java.awt.event.*;
  */
 @Component
 @Scope("singleton")
+@Lazy // Not needed for the first screen; created on the first game launch
 public class MultiplayerGameLauncher {
 
-    private final ProductRepository productRepository;
+    private final ProductCatalog productCatalog;
     private final RecipeRepository recipeRepository;
     private final AppLocalizationService localizationService;
     private final ImageLoader imageLoader;
@@ -31,16 +32,16 @@ public class MultiplayerGameLauncher {
     /**
      * Constructor for MultiplayerGameLauncher.
      *
-     * @param productRepo  the product repository
+     * @param catalog      the shared product catalog
      * @param recipeRepo   the recipe repository
      * @param localization the localization service
      * @param imageLoader  the image loader
      * @param frameFactory the frame factory
      */
-    public MultiplayerGameLauncher(ProductRepository productRepo, RecipeRepository recipeRepo,
+    public MultiplayerGameLauncher(ProductCatalog catalog, RecipeRepository recipeRepo,
                                    AppLocalizationService localization, ImageLoader imageLoader,
                                    FrameFactory frameFactory) {
-        this.productRepository = productRepo;
+        this.productCatalog = catalog;
         this.recipeRepository = recipeRepo;
         this.localizationService = localization;
         this.imageLoader = imageLoader;
@@ -59,10 +60,10 @@ public class MultiplayerGameLauncher {
     }
 
     /**
-     * Launches the multiplayer game.
+     * Launches the multiplayer game once all images have been preloaded.
      */
     public void launchGame() {
-        runOnEDT(this::initGame);
+        imageLoader.getPreloadCompletion().whenComplete((ignored, error) -> runOnEDT(this::initGame));
     }
 
     /**
@@ -78,7 +79,7 @@ public class MultiplayerGameLauncher {
      */
     protected void initGame() {
         // Create the game controller
-        MultiplayerGameController gameController = new MultiplayerGameController(productRepository, recipeRepository);
+        MultiplayerGameController gameController = new MultiplayerGameController(productCatalog, recipeRepository);
 
         // Create the main game frame
         JFrame gameFrame = createFrame("Fridgely - Multiplayer Game");
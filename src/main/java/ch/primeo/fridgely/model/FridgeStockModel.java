@@ -56,7 +56,10 @@ public class FridgeStockModel {
         if (product == null || !fridgeProducts.contains(product)) {
             return;
         }
+
+        List<Product> oldProducts = new ArrayList<>(fridgeProducts);
         fridgeProducts.remove(product);
+        propertyChangeSupport.firePropertyChange(PROP_FRIDGE_CONTENTS, oldProducts, fridgeProducts);
     }
 
     /**
@@ -7,27 +7,39 @@ public enum PenguinFacialExpression {
     /**
      * Represents a happy facial expression.
      */
-    HAPPY,
+    HAPPY("happy.png"),
     /**
      * Represents a neutral facial expression.
      */
-    NEUTRAL,
+    NEUTRAL("neutral.png"),
     /**
      * Represents an alert facial expression.
      */
-    ALERT,
+    ALERT("alert.png"),
     /**
      * Represents a critical facial expression.
      */
-    CRITICAL,
+    CRITICAL("what.png"),
     /**
      * Represents an angry facial expression.
      */
-    ANGRY,
+    ANGRY("angry.png"),
     /**
      * Represents a disappointed facial expression.
      */
-    DISAPPOINTED;
+    DISAPPOINTED("disappointed.png");
+
+    private final String sprite;
+
+    /**
+     * Constructs a PenguinFacialExpression with the given sprite file. The path is built once, since sprites are
+     * looked up on every reaction.
+     *
+     * @param file the file name of the sprite image
+     */
+    PenguinFacialExpression(String file) {
+        this.sprite = "/ch/primeo/fridgely/sprites/" + file;
+    }
 
     /**
      * Returns the sprite path for this facial expression.
@@ -35,16 +47,6 @@ public enum PenguinFacialExpression {
      * @return the sprite image path
      */
     public String getSprite() {
-        String basePath = "/ch/primeo/fridgely/sprites/";
-
-        // Nice checkstyle rules, if cases are indented one more scope, it cries.
-        return switch (this) {
-            case HAPPY -> basePath + "happy.png";
-            case NEUTRAL -> basePath + "neutral.png";
-            case ALERT -> basePath + "alert.png";
-            case CRITICAL -> basePath + "what.png";
-            case ANGRY -> basePath + "angry.png";
-            case DISAPPOINTED -> basePath + "disappointed.png";
-        };
+        return sprite;
     }
 }
@@ -3,11 +3,17 @@ package ch.primeo.fridgely.model;
 import ch.primeo.fridgely.service.localization.AppLocalizationService;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Immutable;
 
 /**
  * Represents a product with localized names, descriptions, and attributes. JPA entity for database persistence.
  */
 @Entity
+@Cacheable // Read-only at runtime, served from the second-level cache
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "product")
+@Immutable
 @Getter
 @Setter
 public class Product {
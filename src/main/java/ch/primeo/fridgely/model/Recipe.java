@@ -3,6 +3,9 @@ package ch.primeo.fridgely.model;
 import ch.primeo.fridgely.service.localization.AppLocalizationService;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Immutable;
 
 import java.util.*;
 
@@ -10,6 +13,9 @@ import java.util.*;
  * Represents a recipe entity mapping to the 'Recipes' table.
  */
 @Entity
+@Cacheable // Read-only at runtime, served from the second-level cache
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "recipe")
+@Immutable
 @Getter
 @Setter
 // No explicit table name, Hibernate will use lowercase "recipe"
@@ -53,6 +59,8 @@ public class Recipe {
     /**
      * List of ingredients associated with this recipe. Mapped by the 'recipe' field in the RecipeIngredient entity.
      */
+    @Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "recipe-ingredients")
+    @Immutable
     @OneToMany(mappedBy = "recipe", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER)
     private List<RecipeIngredient> ingredients = new ArrayList<>();
 
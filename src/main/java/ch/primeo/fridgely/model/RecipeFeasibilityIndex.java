@@ -0,0 +1,187 @@
+package ch.primeo.fridgely.model;
+
+import java.util.*;
+
+/**
+ * In-memory index for checking which recipes can be made with a set of products. Every ingredient product gets a
+ * dense int id and every recipe is stored as a bitmask over those ids, so a feasibility check is a subset test over a
+ * few {@code long} words and never touches the database.
+ */
+public final class RecipeFeasibilityIndex {
+
+    private static final int WORD_BITS = Long.SIZE;
+
+    private final List<Recipe> recipes;
+    private final Map<String, Integer> productIds;
+    private final Map<Recipe, Integer> recipeSlots;
+    private final long[][] recipeMasks;
+    private final int wordCount;
+
+    /**
+     * Builds the index from the given recipes and their (already loaded) ingredients.
+     *
+     * @param indexedRecipes the recipes to index, in the order they should be returned
+     */
+    public RecipeFeasibilityIndex(List<Recipe> indexedRecipes) {
+        this.recipes = List.copyOf(indexedRecipes);
+        this.productIds = new HashMap<>();
+        this.recipeSlots = new HashMap<>();
+
+        // Assign dense ids to every product that appears in at least one recipe
+        for (Recipe recipe : recipes) {
+            for (Product product : recipe.getProducts()) {
+                if (product != null && product.getBarcode() != null) {
+                    productIds.putIfAbsent(product.getBarcode(), productIds.size());
+                }
+            }
+        }
+
+        this.wordCount = Math.max(1, (productIds.size() + WORD_BITS - 1) / WORD_BITS);
+        this.recipeMasks = new long[recipes.size()][];
+
+        for (int slot = 0; slot < recipes.size(); slot++) {
+            Recipe recipe = recipes.get(slot);
+            recipeSlots.putIfAbsent(recipe, slot);
+            recipeMasks[slot] = maskOf(recipe.getProducts());
+        }
+    }
+
+    /**
+     * Gets the number of distinct ingredient products known to the index.
+     *
+     * @return the number of product ids
+     */
+    public int getProductCount() {
+        return productIds.size();
+    }
+
+    /**
+     * Checks whether the given recipe is part of this index.
+     *
+     * @param recipe the recipe to look up
+     * @return true if the recipe was indexed, false otherwise
+     */
+    public boolean contains(Recipe recipe) {
+        return recipe != null && recipeSlots.containsKey(recipe);
+    }
+
+    /**
+     * Creates an empty stock mask sized for this index.
+     *
+     * @return a new mask with no bits set
+     */
+    public long[] emptyMask() {
+        return new long[wordCount];
+    }
+
+    /**
+     * Creates a stock mask containing the given products. Products that are not an ingredient of any indexed recipe
+     * are ignored, since they can never influence feasibility.
+     *
+     * @param products the products to include
+     * @return a new mask with the bits of all known products set
+     */
+    public long[] maskOf(Collection<Product> products) {
+        long[] mask = emptyMask();
+        if (products != null) {
+            for (Product product : products) {
+                addToMask(mask, product);
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Sets the bit of a product in an existing mask.
+     *
+     * @param mask    the mask to update
+     * @param product the product to add
+     * @return true if the product is known to the index, false otherwise
+     */
+    public boolean addToMask(long[] mask, Product product) {
+        if (product == null || product.getBarcode() == null) {
+            return false;
+        }
+
+        Integer id = productIds.get(product.getBarcode());
+        if (id == null) {
+            return false;
+        }
+
+        mask[id / WORD_BITS] |= 1L << (id % WORD_BITS);
+        return true;
+    }
+
+    /**
+     * Checks whether an indexed recipe can be made with the products in the given mask.
+     *
+     * @param recipe the recipe to check
+     * @param stock  the mask of available products
+     * @return true if every ingredient of the recipe is set in the mask, false otherwise or if the recipe is unknown
+     */
+    public boolean canMake(Recipe recipe, long[] stock) {
+        Integer slot = recipe != null ? recipeSlots.get(recipe) : null;
+        return slot != null && isSubset(recipeMasks[slot], stock);
+    }
+
+    /**
+     * Counts how many distinct ingredients of an indexed recipe are set in the given mask.
+     *
+     * @param recipe the recipe to check
+     * @param stock  the mask of available products
+     * @return the number of matching ingredients, or 0 if the recipe is unknown
+     */
+    public int countMatching(Recipe recipe, long[] stock) {
+        Integer slot = recipe != null ? recipeSlots.get(recipe) : null;
+        if (slot == null) {
+            return 0;
+        }
+
+        long[] required = recipeMasks[slot];
+        int count = 0;
+        for (int i = 0; i < wordCount; i++) {
+            count += Long.bitCount(required[i] & stock[i]);
+        }
+        return count;
+    }
+
+    /**
+     * Gets all indexed recipes that can be made with the products in the given mask, in index order.
+     *
+     * @param stock the mask of available products
+     * @return the list of possible recipes
+     */
+    public List<Recipe> possibleRecipes(long[] stock) {
+        List<Recipe> possible = new ArrayList<>();
+        for (int slot = 0; slot < recipeMasks.length; slot++) {
+            if (isSubset(recipeMasks[slot], stock)) {
+                possible.add(recipes.get(slot));
+            }
+        }
+        return possible;
+    }
+
+    /**
+     * Checks whether at least one indexed recipe can be made with the products in the given mask.
+     *
+     * @param stock the mask of available products
+     * @return true if any recipe is possible, false otherwise
+     */
+    public boolean anyPossible(long[] stock) {
+        for (long[] required : recipeMasks) {
+            if (isSubset(required, stock)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isSubset(long[] required, long[] stock) {
+        for (int i = 0; i < wordCount; i++) {
+            if ((required[i] & ~stock[i]) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
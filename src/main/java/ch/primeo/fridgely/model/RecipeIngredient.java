@@ -2,12 +2,18 @@ package ch.primeo.fridgely.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Immutable;
 
 /**
  * Represents the relationship between a Recipe and a Product (ingredient), mapping to the 'RecipeIngredients' join
  * table.
  */
 @Entity
+@Cacheable // Read-only at runtime, served from the second-level cache
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "recipe-ingredient")
+@Immutable
 @Getter
 @Setter
 // No explicit table name, Hibernate will use snake_case: "recipe_ingredient"
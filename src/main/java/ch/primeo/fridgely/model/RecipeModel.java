@@ -26,6 +26,13 @@ public class RecipeModel {
     private final RecipeRepository recipeRepository;
     private final PropertyChangeSupport propertyChangeSupport;
 
+    // Bitset index over the available recipes and the incrementally tracked fridge stock
+    private RecipeFeasibilityIndex feasibilityIndex;
+    private FridgeStockModel trackedStock;
+    private long[] defaultStockMask;
+    private long[] stockMask;
+    private final PropertyChangeListener stockListener = this::onFridgeContentsChanged;
+
     /**
      * Constructs a new recipe model.
      *
@@ -44,8 +51,14 @@ public class RecipeModel {
     void loadAvailableRecipes() {
         availableRecipes.clear();
 
-        // Directly get recipes using the repository's methods
-        List<RecipeRepository.RecipeDTO> recipeDTOs = recipeRepository.getAllRecipes();
+        // Load the whole recipe graph in one query; the per-recipe lookups below are only a fallback
+        List<Recipe> hydratedRecipes = recipeRepository.getAllRecipesWithIngredients();
+        if (hydratedRecipes != null) {
+            availableRecipes.addAll(hydratedRecipes);
+        }
+
+        List<RecipeRepository.RecipeDTO> recipeDTOs = availableRecipes.isEmpty() ? recipeRepository.getAllRecipes()
+                : null;
 
         // Convert DTOs to Recipe objects
         if (recipeDTOs != null && !recipeDTOs.isEmpty()) {
@@ -63,6 +76,57 @@ public class RecipeModel {
             System.out.println("Attempting to load recipes directly from JPA repository...");
             availableRecipes.addAll(recipeRepository.getAllRecipesEntities());
         }
+
+        feasibilityIndex = new RecipeFeasibilityIndex(availableRecipes);
+        if (trackedStock != null) {
+            resetStockMask();
+        }
+    }
+
+    /**
+     * Keeps an ingredient bitmask of the given fridge stock up to date by listening to its changes. Once tracking is
+     * active, {@link #hasPossibleRecipes()} and {@link #getPossibleRecipes()} answer from that mask without rebuilding
+     * it from the product list.
+     *
+     * @param stockModel the fridge stock to track
+     */
+    public void trackFridgeStock(FridgeStockModel stockModel) {
+        if (trackedStock != null) {
+            trackedStock.removePropertyChangeListener(stockListener);
+        }
+
+        trackedStock = stockModel;
+        resetStockMask();
+        trackedStock.addPropertyChangeListener(stockListener);
+    }
+
+    /**
+     * Updates the tracked stock mask after a change of the fridge contents. Additions only set one bit; clearing the
+     * fridge restores the default products mask; anything else rebuilds the mask from the model.
+     *
+     * @param evt the change event fired by the fridge stock model
+     */
+    private void onFridgeContentsChanged(PropertyChangeEvent evt) {
+        if (!FridgeStockModel.PROP_FRIDGE_CONTENTS.equals(evt.getPropertyName())) {
+            return;
+        }
+
+        List<?> oldProducts = (List<?>) evt.getOldValue();
+        List<?> newProducts = (List<?>) evt.getNewValue();
+
+        if (newProducts == null || newProducts.isEmpty()) {
+            stockMask = defaultStockMask.clone();
+        } else if (oldProducts != null && newProducts.size() == oldProducts.size() + 1
+                && newProducts.getLast() instanceof Product added) {
+            feasibilityIndex.addToMask(stockMask, added);
+        } else {
+            stockMask = feasibilityIndex.maskOf(trackedStock.getProducts());
+        }
+    }
+
+    private void resetStockMask() {
+        defaultStockMask = feasibilityIndex.maskOf(trackedStock.getDefaultProducts());
+        stockMask = feasibilityIndex.maskOf(trackedStock.getProducts());
     }
 
     /**
@@ -82,9 +146,35 @@ public class RecipeModel {
      * @return a list of possible recipes
      */
     public List<Recipe> getPossibleRecipes(List<Product> productsInStorage) {
-        return availableRecipes.stream()
-                .filter(recipe -> canMakeRecipe(recipe, productsInStorage))
-                .toList();
+        if (productsInStorage == null) {
+            return List.of();
+        }
+
+        return feasibilityIndex.possibleRecipes(feasibilityIndex.maskOf(productsInStorage));
+    }
+
+    /**
+     * Gets a list of recipes that can be made with the tracked fridge stock.
+     *
+     * @return a list of possible recipes, or an empty list if no fridge stock is tracked
+     * @see #trackFridgeStock(FridgeStockModel)
+     */
+    public List<Recipe> getPossibleRecipes() {
+        if (stockMask == null) {
+            return List.of();
+        }
+
+        return feasibilityIndex.possibleRecipes(stockMask);
+    }
+
+    /**
+     * Checks whether at least one recipe can be made with the tracked fridge stock.
+     *
+     * @return true if a recipe is possible, false otherwise or if no fridge stock is tracked
+     * @see #trackFridgeStock(FridgeStockModel)
+     */
+    public boolean hasPossibleRecipes() {
+        return stockMask != null && feasibilityIndex.anyPossible(stockMask);
     }
 
     /**
@@ -130,6 +220,11 @@ public class RecipeModel {
             return false;
         }
 
+        // Indexed recipes are answered from the bitmasks without a repository query
+        if (feasibilityIndex.contains(recipe)) {
+            return feasibilityIndex.canMake(recipe, feasibilityIndex.maskOf(productsInStorage));
+        }
+
         // Get ingredient barcodes for the recipe
         List<String> ingredientBarcodes = getRecipeIngredientBarcodes(recipe);
 
@@ -171,6 +266,10 @@ public class RecipeModel {
             return 0;
         }
 
+        if (feasibilityIndex.contains(recipe)) {
+            return feasibilityIndex.countMatching(recipe, feasibilityIndex.maskOf(products));
+        }
+
         // Get the ingredient barcodes for the recipe
         List<String> ingredientBarcodes = getRecipeIngredientBarcodes(recipe);
 
@@ -0,0 +1,112 @@
+package ch.primeo.fridgely.service;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.*;
+import org.slf4j.*;
+import org.springframework.context.annotation.Scope;
+import org.springframework.stereotype.Service;
+
+import javax.management.*;
+import java.lang.management.ManagementFactory;
+import java.util.*;
+
+/**
+ * Access to the Hibernate second-level and query cache holding the read-only catalog (products, recipes and their
+ * ingredients). The regions and their size bounds are configured in {@code ch/primeo/fridgely/cache/hibernate-cache.conf};
+ * hit, miss and put counts come from the Hibernate statistics and eviction counts from the JCache statistics of each
+ * region.
+ */
+@Service
+@Scope("singleton")
+public class EntityCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EntityCache.class.getName());
+
+    private final SessionFactory sessionFactory;
+
+    /**
+     * Constructs a new entity cache facade.
+     *
+     * @param entityManagerFactory the entity manager factory owning the cache
+     */
+    public EntityCache(EntityManagerFactory entityManagerFactory) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+    }
+
+    /**
+     * Evicts every entity, collection and query result. Call after the catalog tables were changed behind Hibernate's
+     * back, e.g. by a data script.
+     */
+    public void evictAll() {
+        sessionFactory.getCache().evictAllRegions();
+        LOGGER.info("Evicted all second-level cache regions");
+    }
+
+    /**
+     * Gets the statistics of every second-level cache region, including the query cache.
+     *
+     * @return the statistics ordered by region name
+     */
+    public List<RegionStatistics> getStatistics() {
+        Statistics statistics = sessionFactory.getStatistics();
+        List<RegionStatistics> regions = new ArrayList<>();
+        for (String region : new TreeSet<>(Arrays.asList(statistics.getSecondLevelCacheRegionNames()))) {
+            CacheRegionStatistics stats = statistics.getDomainDataRegionStatistics(region);
+            regions.add(new RegionStatistics(region, stats.getHitCount(), stats.getMissCount(), stats.getPutCount(),
+                    evictionCount(region)));
+        }
+
+        regions.add(new RegionStatistics("query-results", statistics.getQueryCacheHitCount(),
+                statistics.getQueryCacheMissCount(), statistics.getQueryCachePutCount(),
+                evictionCount("default-query-results-region")));
+        return regions;
+    }
+
+    /**
+     * Logs the statistics of every region. Called when the application shuts down.
+     */
+    @PreDestroy
+    public void logStatistics() {
+        if (!sessionFactory.getStatistics().isStatisticsEnabled()) {
+            return;
+        }
+        for (RegionStatistics region : getStatistics()) {
+            LOGGER.info("Cache region {}: {} hits, {} misses, {} puts, {} evictions", region.region(), region.hits(),
+                    region.misses(), region.puts(), region.evictions());
+        }
+    }
+
+    /**
+     * Reads the eviction count of a region from its JCache statistics MBean.
+     *
+     * @param region the region (cache) name
+     * @return the number of evictions, or -1 if the cache does not publish statistics
+     */
+    private static long evictionCount(String region) {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            long evictions = -1;
+            for (ObjectName name : server.queryNames(
+                    new ObjectName("javax.cache:type=CacheStatistics,Cache=" + region + ",*"), null)) {
+                evictions = Math.max(evictions, 0) + (Long) server.getAttribute(name, "CacheEvictions");
+            }
+            return evictions;
+        } catch (JMException | RuntimeException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Statistics of one cache region.
+     *
+     * @param region    the region name
+     * @param hits      the number of lookups served from the cache
+     * @param misses    the number of lookups that went to the database
+     * @param puts      the number of entries put into the cache
+     * @param evictions the number of entries evicted by the size bound, or -1 if unknown
+     */
+    public record RegionStatistics(String region, long hits, long misses, long puts, long evictions) {
+    }
+}
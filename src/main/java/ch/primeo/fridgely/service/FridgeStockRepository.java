@@ -3,6 +3,7 @@ package ch.primeo.fridgely.service;
 import ch.primeo.fridgely.model.QFridgeStock;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -12,6 +13,7 @@ import java.util.*;
  * Repository to manage the fridge stock using Spring Data JPA and QueryDSL.
  */
 @Service
+@Lazy // Only used once a game is launched
 public class FridgeStockRepository {
 
     private final JPAQueryFactory queryFactory;
@@ -0,0 +1,178 @@
+package ch.primeo.fridgely.service;
+
+import ch.primeo.fridgely.model.Product;
+import org.slf4j.*;
+import org.springframework.context.annotation.Scope;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+/**
+ * Shared in-memory snapshot of the product table. All products are loaded once from the {@link ProductRepository}
+ * and kept in an immutable open-addressing table, so resolving a scanned barcode never touches the database. The
+ * snapshot is loaded lazily on first use and can be dropped with {@link #invalidate()} or rebuilt with
+ * {@link #reload()} whenever the underlying data changes.
+ */
+@Service
+@Scope("singleton")
+public class ProductCatalog {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ProductCatalog.class.getName());
+
+    private final ProductRepository productRepository;
+    private volatile Snapshot snapshot;
+
+    /**
+     * Constructs a new product catalog.
+     *
+     * @param productRepo the repository the products are loaded from
+     */
+    public ProductCatalog(ProductRepository productRepo) {
+        this.productRepository = productRepo;
+    }
+
+    /**
+     * Gets the product with the given barcode from the snapshot.
+     *
+     * @param barcode the product barcode
+     * @return the Product object, or null if not found
+     */
+    public Product getProductByBarcode(String barcode) {
+        if (barcode == null) {
+            return null;
+        }
+        return current().find(barcode);
+    }
+
+    /**
+     * Gets all products of the snapshot.
+     *
+     * @return an unmodifiable list of all products
+     */
+    public List<Product> getAllProducts() {
+        return current().allProducts;
+    }
+
+    /**
+     * Gets all default products of the snapshot.
+     *
+     * @return an unmodifiable list of the default products
+     */
+    public List<Product> getDefaultProducts() {
+        return current().defaultProducts;
+    }
+
+    /**
+     * Gets the number of products in the snapshot.
+     *
+     * @return the product count
+     */
+    public int size() {
+        return current().allProducts.size();
+    }
+
+    /**
+     * Rebuilds the snapshot from the database right away.
+     */
+    public synchronized void reload() {
+        snapshot = load();
+    }
+
+    /**
+     * Drops the current snapshot. The next lookup loads a fresh one from the database.
+     */
+    public synchronized void invalidate() {
+        snapshot = null;
+    }
+
+    private Snapshot current() {
+        Snapshot loaded = snapshot;
+        if (loaded == null) {
+            synchronized (this) {
+                loaded = snapshot;
+                if (loaded == null) {
+                    loaded = load();
+                    snapshot = loaded;
+                }
+            }
+        }
+        return loaded;
+    }
+
+    private Snapshot load() {
+        List<Product> products = productRepository.getAllProducts();
+        Snapshot loaded = new Snapshot(products != null ? products : List.of());
+        LOGGER.info("Loaded product catalog with {} products", loaded.allProducts.size());
+        return loaded;
+    }
+
+    /**
+     * Immutable barcode table using linear probing. The cached hash of every slot is compared before the string
+     * itself, so a miss usually costs a few int comparisons.
+     */
+    private static final class Snapshot {
+
+        private final String[] keys;
+        private final int[] hashes;
+        private final Product[] values;
+        private final int mask;
+        private final List<Product> allProducts;
+        private final List<Product> defaultProducts;
+
+        Snapshot(List<Product> products) {
+            int capacity = Integer.highestOneBit(Math.max(2, products.size() * 2 - 1)) << 1;
+            this.keys = new String[capacity];
+            this.hashes = new int[capacity];
+            this.values = new Product[capacity];
+            this.mask = capacity - 1;
+
+            List<Product> all = new ArrayList<>(products.size());
+            List<Product> defaults = new ArrayList<>();
+            for (Product product : products) {
+                if (product == null || product.getBarcode() == null || !insert(product)) {
+                    continue;
+                }
+                all.add(product);
+                if (product.isDefaultProduct()) {
+                    defaults.add(product);
+                }
+            }
+
+            this.allProducts = Collections.unmodifiableList(all);
+            this.defaultProducts = Collections.unmodifiableList(defaults);
+        }
+
+        private boolean insert(Product product) {
+            String barcode = product.getBarcode();
+            int hash = spread(barcode.hashCode());
+            int slot = hash & mask;
+            while (keys[slot] != null) {
+                if (hashes[slot] == hash && keys[slot].equals(barcode)) {
+                    return false;
+                }
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = barcode;
+            hashes[slot] = hash;
+            values[slot] = product;
+            return true;
+        }
+
+        Product find(String barcode) {
+            int hash = spread(barcode.hashCode());
+            int slot = hash & mask;
+            String key;
+            while ((key = keys[slot]) != null) {
+                if (hashes[slot] == hash && key.equals(barcode)) {
+                    return values[slot];
+                }
+                slot = (slot + 1) & mask;
+            }
+            return null;
+        }
+
+        private static int spread(int h) {
+            return h ^ (h >>> 16);
+        }
+    }
+}
@@ -1,10 +1,14 @@
 package ch.primeo.fridgely.service;
 
 import ch.primeo.fridgely.model.Product;
-import org.springframework.data.jpa.repository.JpaRepository;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.*;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 /**
  * Spring Data JPA repository for the Product entity.
  * Includes Querydsl support via QuerydslPredicateExecutor.
@@ -16,4 +20,13 @@ public interface ProductJpaRepository extends JpaRepository<Product, String>, Qu
 
     // Custom query methods can be added here if needed, following Spring Data naming conventions
     // e.g., List<Product> findByIsDefaultProductTrue();
+
+    /**
+     * Returns all products. The result is kept in the query cache.
+     *
+     * @return all products
+     */
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Product> findAll();
 }
@@ -3,6 +3,7 @@ package ch.primeo.fridgely.service;
 import ch.primeo.fridgely.model.*;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -86,7 +87,7 @@ public class ProductRepository {
     }
 
     /**
-     * Returns all default products in the database using QueryDSL.
+     * Returns all default products in the database using QueryDSL. The result is kept in the query cache.
      *
      * @return a list of default Product objects
      */
@@ -95,6 +96,7 @@ public class ProductRepository {
         return createQueryFactory()
                 .selectFrom(qProduct)
                 .where(qProduct.isDefaultProduct.isTrue())
+                .setHint(HibernateHints.HINT_CACHEABLE, true)
                 .fetch();
     }
 
@@ -1,9 +1,13 @@
 package ch.primeo.fridgely.service;
 
 import ch.primeo.fridgely.model.Recipe;
-import org.springframework.data.jpa.repository.JpaRepository;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.*;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 /**
  * Spring Data JPA repository for the Recipe entity.
  */
@@ -11,4 +15,13 @@ import org.springframework.stereotype.Repository;
 public interface RecipeJpaRepository extends JpaRepository<Recipe, Integer> {
     // Basic CRUD methods are inherited from JpaRepository
     // Custom query methods can be added here if needed
+
+    /**
+     * Returns all recipes. The result is kept in the query cache.
+     *
+     * @return all recipes
+     */
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Recipe> findAll();
 }
@@ -2,11 +2,13 @@ package ch.primeo.fridgely.service;
 
 import ch.primeo.fridgely.model.*;
 import ch.primeo.fridgely.service.localization.AppLocalizationService;
-import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.querydsl.jpa.impl.*;
 import jakarta.persistence.EntityManager;
 import lombok.Getter;
+import org.hibernate.jpa.HibernateHints;
 import org.slf4j.*;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,6 +19,7 @@ import java.util.stream.Collectors;
  * Repository to manage recipes using Spring Data JPA and QueryDSL.
  */
 @Service
+@Lazy // Only used once a game is launched
 public class RecipeRepository {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(RecipeRepository.class.getName());
@@ -63,12 +66,12 @@ public class RecipeRepository {
 
         try {
             // Fetch all recipes
-            List<Recipe> recipes = queryFactory.selectFrom(qRecipe).fetch();
+            List<Recipe> recipes = cached(queryFactory.selectFrom(qRecipe)).fetch();
 
             // Fetch all ingredients for all recipes efficiently
-            Map<Integer, List<String>> ingredientsByRecipeId = queryFactory
+            Map<Integer, List<String>> ingredientsByRecipeId = cached(queryFactory
                     .select(qRecipeIngredient.recipe.recipeId, qRecipeIngredient.product.barcode)
-                    .from(qRecipeIngredient)
+                    .from(qRecipeIngredient))
                     .fetch()
                     .stream()
                     .map(tuple -> {
@@ -106,8 +109,8 @@ public class RecipeRepository {
     @Transactional(readOnly = true)
     public List<String> getRecipeIngredientBarcodes(int recipeId) {
         try {
-            return queryFactory.select(qRecipeIngredient.product.barcode).from(qRecipeIngredient)
-                    .where(qRecipeIngredient.recipe.recipeId.eq(recipeId)).fetch();
+            return cached(queryFactory.select(qRecipeIngredient.product.barcode).from(qRecipeIngredient)
+                    .where(qRecipeIngredient.recipe.recipeId.eq(recipeId))).fetch();
         } catch (Exception e) {
             LOGGER.error("Error fetching ingredients for recipe ID {}: {}", recipeId, e.getMessage());
             return List.of();
@@ -146,8 +149,36 @@ public class RecipeRepository {
         }
     }
 
+    /**
+     * Returns all Recipe entities together with their ingredients and the ingredient products. The whole graph is
+     * fetched with a single joined select, so the number of statements does not grow with the catalog size.
+     *
+     * @return a list of fully hydrated Recipe entities ordered by ID
+     */
+    @Transactional(readOnly = true)
+    public List<Recipe> getAllRecipesWithIngredients() {
+        try {
+            return cached(queryFactory.selectFrom(qRecipe)
+                    .distinct()
+                    .leftJoin(qRecipe.ingredients, qRecipeIngredient).fetchJoin()
+                    .leftJoin(qRecipeIngredient.product, QProduct.product).fetchJoin()
+                    .orderBy(qRecipe.recipeId.asc()))
+                    .fetch();
+        } catch (Exception e) {
+            LOGGER.error("Error fetching hydrated recipes: {}", e.getMessage());
+            return List.of();
+        }
+    }
+
     // --- Helper Methods --- //
 
+    /**
+     * Marks a query as cacheable, so its results are served from the query cache until a catalog table changes.
+     */
+    private static <T> JPAQuery<T> cached(JPAQuery<T> query) {
+        return query.setHint(HibernateHints.HINT_CACHEABLE, true);
+    }
+
     /**
      * Creates a RecipeDTO from a Recipe entity and related data.
      */
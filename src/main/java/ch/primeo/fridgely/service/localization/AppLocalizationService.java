@@ -15,7 +15,7 @@ public class AppLocalizationService {
     /**
      * Supported locales in the application (English, German, French).
      */
-    private final List<Locale> locales = Arrays.asList(
+    private static final List<Locale> LOCALES = Arrays.asList(
             Locale.forLanguageTag("en"),
             Locale.forLanguageTag("de"),
             Locale.forLanguageTag("fr")
@@ -46,28 +46,38 @@ public class AppLocalizationService {
                 ? "de"
                 : config.getConfiguredAppLanguage();
 
-        if (locales.contains(Locale.forLanguageTag(startupLanguage))) {
+        if (LOCALES.contains(Locale.forLanguageTag(startupLanguage))) {
             currentLocale = Locale.forLanguageTag(startupLanguage);
         } else {
-            currentLocale = locales.getFirst();
+            currentLocale = LOCALES.getFirst();
         }
 
         resource = ResourceBundle.getBundle(Fridgely.class.getPackageName() + ".languages", currentLocale);
     }
 
+    /**
+     * Loads the resource bundles of all supported locales into the {@link ResourceBundle} cache. Called during boot
+     * so switching languages (and creating this service) never has to parse a bundle.
+     */
+    public static void preloadBundles() {
+        for (Locale locale : LOCALES) {
+            ResourceBundle.getBundle(Fridgely.class.getPackageName() + ".languages", locale);
+        }
+    }
+
     /**
      * Switches to the next locale and notifies observers.
      */
     public void toggleLocale() {
-        var currentIndex = locales.indexOf(currentLocale);
+        var currentIndex = LOCALES.indexOf(currentLocale);
 
-        if (currentIndex == -1 || currentIndex == locales.size() - 1) {
+        if (currentIndex == -1 || currentIndex == LOCALES.size() - 1) {
             currentIndex = 0;
         } else {
             currentIndex++;
         }
 
-        currentLocale = locales.get(currentIndex);
+        currentLocale = LOCALES.get(currentIndex);
 
         resource = ResourceBundle.getBundle(Fridgely.class.getPackageName() + ".languages", currentLocale);
         notifyObservers();
@@ -0,0 +1,186 @@
+package ch.primeo.fridgely.util;
+
+import org.slf4j.*;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.*;
+
+import java.io.IOException;
+import java.net.*;
+import java.nio.charset.StandardCharsets;
+import java.security.*;
+import java.util.*;
+import java.util.jar.JarEntry;
+
+/**
+ * Registry of all image resources of the application, each identified by an int handle. Handles are assigned once at
+ * startup in path order and index into arrays, so code on hot paths can keep a handle instead of building and hashing
+ * resource path strings (see {@link ImageLoader#loadScaledImage(int, int, int)}).
+ */
+public final class AssetRegistry {
+
+    /**
+     * Handle of a resource that is not registered.
+     */
+    public static final int NO_ASSET = -1;
+
+    /**
+     * Resource folder of all application assets.
+     */
+    public static final String ASSET_ROOT = "/ch/primeo/fridgely/";
+
+    /**
+     * Resource folder of the product images, named by barcode.
+     */
+    public static final String PRODUCT_IMAGE_DIR = ASSET_ROOT + "productimages/";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AssetRegistry.class.getName());
+    private static final String IMAGE_SUFFIX = ".png";
+    private static final String NOT_FOUND_PATH = PRODUCT_IMAGE_DIR + "notfound" + IMAGE_SUFFIX;
+    private static final String SCAN_PATTERN = "classpath*:ch/primeo/fridgely/**/*" + IMAGE_SUFFIX;
+
+    private final String contentStamp;
+    private final String[] paths;
+    private final Map<String, Integer> handles;
+    private final Map<String, Integer> productHandles;
+    private final int notFoundHandle;
+
+    /**
+     * Creates a registry of the given resources.
+     *
+     * @param resourcePaths the absolute classpath paths of the resources, e.g.
+     *                      {@code /ch/primeo/fridgely/icons/home.png}
+     */
+    public AssetRegistry(Collection<String> resourcePaths) {
+        this(resourcePaths, null);
+    }
+
+    /**
+     * Creates a registry of the given resources with a known content stamp.
+     *
+     * @param resourcePaths the absolute classpath paths of the resources
+     * @param contentStamp  identifies the content of the resources, see {@link #contentStamp()}
+     */
+    public AssetRegistry(Collection<String> resourcePaths, String contentStamp) {
+        this.contentStamp = contentStamp;
+        this.paths = new TreeSet<>(resourcePaths).toArray(String[]::new);
+        this.handles = HashMap.newHashMap(paths.length);
+        this.productHandles = new HashMap<>();
+        for (int handle = 0; handle < paths.length; handle++) {
+            String path = paths[handle];
+            handles.put(path, handle);
+            if (path.startsWith(PRODUCT_IMAGE_DIR) && path.endsWith(IMAGE_SUFFIX)
+                    && path.indexOf('/', PRODUCT_IMAGE_DIR.length()) < 0) {
+                productHandles.put(path.substring(PRODUCT_IMAGE_DIR.length(), path.length() - IMAGE_SUFFIX.length()),
+                        handle);
+            }
+        }
+        this.notFoundHandle = handle(NOT_FOUND_PATH);
+    }
+
+    /**
+     * Scans the classpath for all images below {@link #ASSET_ROOT}. The content stamp is derived from the jar entry
+     * metadata (size and CRC) of each image, or from size and modification time outside a jar, so no image is read.
+     *
+     * @param classLoader the class loader to scan
+     * @return the registry
+     */
+    public static AssetRegistry scan(ClassLoader classLoader) {
+        Map<String, String> fingerprints = new TreeMap<>();
+        String contentStamp = null;
+        try {
+            PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver(classLoader);
+            for (Resource resource : resolver.getResources(SCAN_PATTERN)) {
+                String url = URLDecoder.decode(resource.getURL().toString(), StandardCharsets.UTF_8);
+                int root = url.lastIndexOf(ASSET_ROOT);
+                if (root >= 0) {
+                    fingerprints.put(url.substring(root), fingerprint(resource));
+                }
+            }
+            contentStamp = digest(fingerprints);
+        } catch (IOException e) {
+            LOGGER.error("Error scanning image resources: {}", e.getMessage());
+        }
+        return new AssetRegistry(fingerprints.keySet(), contentStamp);
+    }
+
+    /**
+     * Gets the content stamp of the registered resources: a digest that changes whenever an image is added, removed or
+     * replaced, e.g. by a new build with re-optimized sprites.
+     *
+     * @return the content stamp, or null if it is unknown
+     */
+    public String contentStamp() {
+        return contentStamp;
+    }
+
+    /**
+     * Gets the handle of a resource.
+     *
+     * @param resourcePath the absolute classpath path of the resource
+     * @return the handle, or {@link #NO_ASSET} if the resource is not registered
+     */
+    public int handle(String resourcePath) {
+        Integer handle = handles.get(resourcePath);
+        return handle != null ? handle : NO_ASSET;
+    }
+
+    /**
+     * Gets the handle of the image of a product.
+     *
+     * @param barcode the barcode of the product
+     * @return the handle, or {@link #NO_ASSET} if the product has no image
+     */
+    public int productImage(String barcode) {
+        Integer handle = barcode != null ? productHandles.get(barcode) : null;
+        return handle != null ? handle : NO_ASSET;
+    }
+
+    /**
+     * Gets the handle of the image shown for products without an image.
+     *
+     * @return the handle, or {@link #NO_ASSET} if the placeholder is missing
+     */
+    public int notFoundImage() {
+        return notFoundHandle;
+    }
+
+    /**
+     * Gets the resource path of a handle.
+     *
+     * @param handle the handle
+     * @return the absolute classpath path of the resource
+     * @throws IndexOutOfBoundsException if the handle is not registered
+     */
+    public String path(int handle) {
+        return paths[handle];
+    }
+
+    /**
+     * Gets the number of registered resources; handles range from 0 (inclusive) to this number (exclusive).
+     *
+     * @return the number of resources
+     */
+    public int size() {
+        return paths.length;
+    }
+
+    private static String fingerprint(Resource resource) throws IOException {
+        URLConnection connection = resource.getURL().openConnection();
+        if (connection instanceof JarURLConnection jarConnection) {
+            JarEntry entry = jarConnection.getJarEntry();
+            return entry.getSize() + ":" + entry.getCrc();
+        }
+        return resource.contentLength() + ":" + resource.lastModified();
+    }
+
+    private static String digest(Map<String, String> fingerprints) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            fingerprints.forEach((path, fingerprint) ->
+                    digest.update((path + '=' + fingerprint + '\n').getBytes(StandardCharsets.UTF_8)));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
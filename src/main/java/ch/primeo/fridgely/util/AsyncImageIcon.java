@@ -0,0 +1,101 @@
+package ch.primeo.fridgely.util;
+
+import javax.swing.*;
+import java.awt.*;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Icon of an image that is still loading. It has the final size from the start, so layouts do not change, and paints a
+ * placeholder until the image arrives. The image is applied on the event dispatch thread, which then repaints every
+ * component the placeholder was painted on.
+ */
+public final class AsyncImageIcon implements Icon {
+
+    private static final Color PLACEHOLDER_COLOR = new Color(0, 0, 0, 24);
+    private static final int PLACEHOLDER_ARC = 12;
+
+    private final int width;
+    private final int height;
+    private final CompletableFuture<ImageIcon> future;
+    // Only accessed on the event dispatch thread
+    private final Set<Component> owners = Collections.newSetFromMap(new WeakHashMap<>());
+    private volatile ImageIcon image;
+
+    private AsyncImageIcon(CompletableFuture<ImageIcon> future, int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.future = future;
+        future.whenComplete((icon, error) -> SwingUtilities.invokeLater(() -> complete(icon)));
+    }
+
+    /**
+     * Gets an icon for an image being loaded.
+     *
+     * @param future the load of the image
+     * @param width  the width of the icon
+     * @param height the height of the icon
+     * @return the image itself if it is already loaded, otherwise a placeholder replaced by the image once loaded
+     */
+    public static Icon of(CompletableFuture<ImageIcon> future, int width, int height) {
+        ImageIcon loaded = future.isDone() && !future.isCompletedExceptionally() ? future.join() : null;
+        return loaded != null ? loaded : new AsyncImageIcon(future, width, height);
+    }
+
+    /**
+     * Gets the load of the image.
+     *
+     * @return the future completing with the image, or null if the image is not available
+     */
+    public CompletableFuture<ImageIcon> getFuture() {
+        return future;
+    }
+
+    /**
+     * Checks whether the image is applied, i.e. the icon no longer paints the placeholder.
+     *
+     * @return true if the image is painted
+     */
+    public boolean isLoaded() {
+        return image != null;
+    }
+
+    @Override
+    public void paintIcon(Component c, Graphics g, int x, int y) {
+        if (image != null) {
+            g.drawImage(image.getImage(), x, y, width, height, c);
+            return;
+        }
+        if (c != null) {
+            owners.add(c);
+        }
+        Graphics2D g2d = (Graphics2D) g.create();
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g2d.setColor(PLACEHOLDER_COLOR);
+        g2d.fillRoundRect(x, y, width, height, PLACEHOLDER_ARC, PLACEHOLDER_ARC);
+        g2d.dispose();
+    }
+
+    @Override
+    public int getIconWidth() {
+        return width;
+    }
+
+    @Override
+    public int getIconHeight() {
+        return height;
+    }
+
+    private void complete(ImageIcon icon) {
+        if (icon == null) {
+            // Keep the placeholder, there is nothing better to show
+            owners.clear();
+            return;
+        }
+        image = icon;
+        for (Component owner : owners) {
+            owner.repaint();
+        }
+        owners.clear();
+    }
+}
@@ -0,0 +1,402 @@
+package ch.primeo.fridgely.util;
+
+import org.slf4j.*;
+
+import javax.swing.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+
+/**
+ * Watches the responsiveness of the event dispatch thread. A probe is posted to the event queue every
+ * {@value #PROBE_INTERVAL_MS} ms and its queue latency is recorded. When a probe waits longer than the stall threshold,
+ * the stack of the event dispatch thread is captured and logged while it is still blocked, so the log shows whether a
+ * repository call, a card rebuild or a paint is at fault. Paint times per component class are recorded by the
+ * {@code TimingRepaintManager} when paint timing is enabled. A summary is logged every minute and shown by the optional
+ * debug overlay.
+ * <p>
+ * A diagnostic, off by default. Configured with system properties: {@value #ENABLED_PROPERTY} (default false),
+ * {@value #STALL_MS_PROPERTY} (default {@value #DEFAULT_STALL_MS}), {@value #PAINT_TIMING_PROPERTY} and
+ * {@value #OVERLAY_PROPERTY} (both default false).
+ */
+public final class EdtMonitor {
+
+    /**
+     * System property enabling the monitor.
+     */
+    public static final String ENABLED_PROPERTY = "fridgely.edt-monitor.enabled";
+
+    /**
+     * System property overriding the queue latency (ms) reported as a stall.
+     */
+    public static final String STALL_MS_PROPERTY = "fridgely.edt-monitor.stall-ms";
+
+    /**
+     * System property enabling the paint time per component class.
+     */
+    public static final String PAINT_TIMING_PROPERTY = "fridgely.edt-monitor.paint-timing";
+
+    /**
+     * System property enabling the on-screen debug overlay.
+     */
+    public static final String OVERLAY_PROPERTY = "fridgely.edt-monitor.overlay";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EdtMonitor.class.getName());
+    private static final long DEFAULT_STALL_MS = 200;
+    private static final long PROBE_INTERVAL_MS = 50;
+    private static final long SUMMARY_INTERVAL_MS = 60_000;
+    private static final int SUMMARY_COMPONENTS = 5;
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+
+    private final LongSupplier clock;
+    private final long stallNanos;
+    private final Consumer<Runnable> eventQueue;
+    private final Map<String, PaintStatistics> paints = new HashMap<>();
+    private ScheduledExecutorService watchdog;
+
+    // Guarded by this
+    private Probe pending;
+    private long probes;
+    private long stalls;
+    private long lastLatencyNanos;
+    private long maxLatencyNanos;
+    private StackTraceElement[] lastStallStack;
+    private long stallsAtLastSummary;
+    private volatile Thread eventDispatchThread;
+
+    /**
+     * Creates a monitor. Use {@link #fromSystemProperties()} outside of tests.
+     *
+     * @param nanoClock   the clock measuring the latencies
+     * @param stallMillis the queue latency reported as a stall
+     * @param eventQueue  posts a task to the event dispatch thread
+     */
+    EdtMonitor(LongSupplier nanoClock, long stallMillis, Consumer<Runnable> eventQueue) {
+        this.clock = nanoClock;
+        this.stallNanos = stallMillis * NANOS_PER_MILLI;
+        this.eventQueue = eventQueue;
+    }
+
+    /**
+     * Creates the monitor configured by the system properties.
+     *
+     * @return the monitor, or null if it is disabled
+     */
+    public static EdtMonitor fromSystemProperties() {
+        if (!Boolean.parseBoolean(System.getProperty(ENABLED_PROPERTY, "false"))) {
+            return null;
+        }
+        long stallMillis = DEFAULT_STALL_MS;
+        try {
+            stallMillis = Long.parseLong(System.getProperty(STALL_MS_PROPERTY, String.valueOf(DEFAULT_STALL_MS)));
+        } catch (NumberFormatException e) {
+            LOGGER.warn("Invalid {}, using {} ms: {}", STALL_MS_PROPERTY, DEFAULT_STALL_MS, e.getMessage());
+        }
+        return new EdtMonitor(System::nanoTime, stallMillis, SwingUtilities::invokeLater);
+    }
+
+    /**
+     * Checks whether the paint time per component class should be recorded.
+     *
+     * @return true if paint timing is enabled
+     */
+    public static boolean isPaintTimingEnabled() {
+        return Boolean.getBoolean(PAINT_TIMING_PROPERTY) || isOverlayEnabled();
+    }
+
+    /**
+     * Checks whether the debug overlay should be shown.
+     *
+     * @return true if the overlay is enabled
+     */
+    public static boolean isOverlayEnabled() {
+        return Boolean.getBoolean(OVERLAY_PROPERTY);
+    }
+
+    /**
+     * Starts probing the event queue and logging summaries on a daemon thread.
+     */
+    public synchronized void start() {
+        if (watchdog != null) {
+            return;
+        }
+        recordEventDispatchThread();
+        watchdog = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "edt-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        watchdog.scheduleAtFixedRate(this::tick, PROBE_INTERVAL_MS, PROBE_INTERVAL_MS, TimeUnit.MILLISECONDS);
+        watchdog.scheduleAtFixedRate(this::logSummary, SUMMARY_INTERVAL_MS, SUMMARY_INTERVAL_MS,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops the monitor.
+     */
+    public synchronized void stop() {
+        if (watchdog != null) {
+            watchdog.shutdownNow();
+            watchdog = null;
+        }
+    }
+
+    /**
+     * Posts a task recording the event dispatch thread, so a stall before the first probe completed still shows its
+     * stack. Until the task ran, the thread is looked up by name.
+     */
+    void recordEventDispatchThread() {
+        eventQueue.accept(() -> eventDispatchThread = Thread.currentThread());
+    }
+
+    /**
+     * Posts a probe if none is pending, or reports the pending probe as a stall once it waits longer than the stall
+     * threshold. Called by the watchdog thread.
+     */
+    void tick() {
+        Probe stalled;
+        StackTraceElement[] stack;
+        synchronized (this) {
+            if (pending == null) {
+                pending = new Probe(clock.getAsLong());
+                eventQueue.accept(pending);
+                return;
+            }
+            long waited = clock.getAsLong() - pending.postedNanos;
+            if (pending.reported || waited < stallNanos) {
+                return;
+            }
+            // Captured while the event dispatch thread is still blocked, so it shows the culprit
+            Thread thread = eventDispatchThread != null ? eventDispatchThread : findEventDispatchThread();
+            stack = thread != null ? thread.getStackTrace() : new StackTraceElement[0];
+            pending.reported = true;
+            stalled = pending;
+            stalls++;
+            lastStallStack = stack;
+        }
+        LOGGER.warn("Event dispatch thread blocked for {} ms, currently at:{}",
+                (clock.getAsLong() - stalled.postedNanos) / NANOS_PER_MILLI, format(stack));
+    }
+
+    /**
+     * Records the time a component took to paint.
+     *
+     * @param componentClass the class of the painted component
+     * @param nanos          the paint time in nanoseconds
+     */
+    public synchronized void recordPaint(Class<?> componentClass, long nanos) {
+        paints.computeIfAbsent(componentClass.getSimpleName().isEmpty() ? componentClass.getName()
+                : componentClass.getSimpleName(), PaintStatistics::new).add(nanos);
+    }
+
+    /**
+     * Gets the paint statistics of every painted component class, the most expensive first.
+     *
+     * @return copies of the statistics ordered by total paint time
+     */
+    public synchronized List<PaintStatistics> getPaintStatistics() {
+        List<PaintStatistics> statistics = new ArrayList<>();
+        for (PaintStatistics paint : paints.values()) {
+            statistics.add(paint.copy());
+        }
+        statistics.sort(Comparator.comparingLong(PaintStatistics::getTotalNanos).reversed());
+        return statistics;
+    }
+
+    /**
+     * Gets the number of stalls.
+     *
+     * @return the number of probes that waited longer than the stall threshold
+     */
+    public synchronized long getStallCount() {
+        return stalls;
+    }
+
+    /**
+     * Gets the queue latency of the last probe.
+     *
+     * @return the latency in milliseconds
+     */
+    public synchronized long getLastLatencyMillis() {
+        return lastLatencyNanos / NANOS_PER_MILLI;
+    }
+
+    /**
+     * Gets the longest queue latency of any probe.
+     *
+     * @return the latency in milliseconds
+     */
+    public synchronized long getMaxLatencyMillis() {
+        return maxLatencyNanos / NANOS_PER_MILLI;
+    }
+
+    /**
+     * Gets the stack of the event dispatch thread captured during the last stall.
+     *
+     * @return the stack, or null if there was no stall yet
+     */
+    public synchronized StackTraceElement[] getLastStallStack() {
+        return lastStallStack;
+    }
+
+    /**
+     * Summarizes the latencies, stalls and the most expensive component classes to paint.
+     *
+     * @return the one-line summary
+     */
+    public synchronized String summary() {
+        StringBuilder summary = new StringBuilder(128);
+        summary.append("EDT latency ").append(getLastLatencyMillis()).append(" ms (max ").append(getMaxLatencyMillis())
+                .append(" ms, ").append(probes).append(" probes), ").append(stalls).append(" stalls");
+        List<PaintStatistics> statistics = getPaintStatistics();
+        for (int i = 0; i < Math.min(statistics.size(), SUMMARY_COMPONENTS); i++) {
+            summary.append(i == 0 ? "; paint " : ", ").append(statistics.get(i));
+        }
+        return summary.toString();
+    }
+
+    /**
+     * Logs the summary, at info level if there were stalls since the last summary.
+     */
+    void logSummary() {
+        boolean newStalls;
+        String summary;
+        synchronized (this) {
+            newStalls = stalls > stallsAtLastSummary;
+            stallsAtLastSummary = stalls;
+            summary = summary();
+        }
+        if (newStalls) {
+            LOGGER.info(summary);
+        } else {
+            LOGGER.debug(summary);
+        }
+    }
+
+    private void completed(Probe probe) {
+        long latency;
+        synchronized (this) {
+            eventDispatchThread = Thread.currentThread();
+            latency = clock.getAsLong() - probe.postedNanos;
+            probes++;
+            lastLatencyNanos = latency;
+            maxLatencyNanos = Math.max(maxLatencyNanos, latency);
+            if (pending == probe) {
+                pending = null;
+            }
+            if (!probe.reported) {
+                if (latency < stallNanos) {
+                    return;
+                }
+                // Ended before the watchdog saw it, there is no stack to show
+                stalls++;
+                probe.reported = true;
+                lastStallStack = new StackTraceElement[0];
+            }
+        }
+        LOGGER.warn("Event dispatch thread stall ended after {} ms", latency / NANOS_PER_MILLI);
+    }
+
+    private static Thread findEventDispatchThread() {
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            if (thread.getName().startsWith("AWT-EventQueue")) {
+                return thread;
+            }
+        }
+        return null;
+    }
+
+    private static String format(StackTraceElement[] stack) {
+        StringBuilder text = new StringBuilder();
+        for (StackTraceElement element : stack) {
+            text.append(System.lineSeparator()).append("\tat ").append(element);
+        }
+        return text.toString();
+    }
+
+    private final class Probe implements Runnable {
+
+        private final long postedNanos;
+        private boolean reported;
+
+        private Probe(long postedNanos) {
+            this.postedNanos = postedNanos;
+        }
+
+        @Override
+        public void run() {
+            completed(this);
+        }
+    }
+
+    /**
+     * Paint times of one component class.
+     */
+    public static final class PaintStatistics {
+
+        private final String component;
+        private long count;
+        private long totalNanos;
+        private long maxNanos;
+
+        private PaintStatistics(String component) {
+            this.component = component;
+        }
+
+        private void add(long nanos) {
+            count++;
+            totalNanos += nanos;
+            maxNanos = Math.max(maxNanos, nanos);
+        }
+
+        private PaintStatistics copy() {
+            PaintStatistics copy = new PaintStatistics(component);
+            copy.count = count;
+            copy.totalNanos = totalNanos;
+            copy.maxNanos = maxNanos;
+            return copy;
+        }
+
+        /**
+         * Gets the simple name of the component class.
+         *
+         * @return the component class name
+         */
+        public String getComponent() {
+            return component;
+        }
+
+        /**
+         * Gets the number of paints.
+         *
+         * @return the number of paints
+         */
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * Gets the time of all paints.
+         *
+         * @return the total paint time in nanoseconds
+         */
+        public long getTotalNanos() {
+            return totalNanos;
+        }
+
+        /**
+         * Gets the time of the slowest paint.
+         *
+         * @return the longest paint time in nanoseconds
+         */
+        public long getMaxNanos() {
+            return maxNanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "%s %.1f ms/%d (max %.1f ms)", component,
+                    totalNanos / (double) NANOS_PER_MILLI, count, maxNanos / (double) NANOS_PER_MILLI);
+        }
+    }
+}
@@ -0,0 +1,280 @@
+package ch.primeo.fridgely.util;
+
+import com.github.benmanes.caffeine.cache.*;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import javax.swing.ImageIcon;
+import java.awt.image.BufferedImage;
+import java.lang.ref.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.*;
+
+/**
+ * Memory cache of decoded and scaled images, bounded by the bytes of their pixels instead of the number of entries.
+ * Eviction uses Caffeine's W-TinyLFU policy, so a burst of one-off images (e.g. a long recipe list) does not push out
+ * the sprites every screen uses. Images of pinned resources weigh nothing and are never evicted. Evicted images can
+ * optionally be kept in a soft-reference tier, from which they are restored as long as the garbage collector did not
+ * need the memory.
+ * <p>
+ * Loads do not run inside the cache's own locking, so a loader may load other images from the same cache (a scaled
+ * image loads its original). Concurrent loads of the same key are deduplicated.
+ */
+public final class ImageCache {
+
+    private static final int BYTES_PER_PIXEL = 4;
+
+    private final Set<String> pinnedPaths = ConcurrentHashMap.newKeySet();
+    private final Cache<Key, Object> cache;
+    private final ConcurrentMap<Key, CompletableFuture<Object>> loading = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Key, SoftValue> softTier = new ConcurrentHashMap<>();
+    private final ReferenceQueue<Object> clearedSoftValues = new ReferenceQueue<>();
+    private final LongAdder softHits = new LongAdder();
+    private final List<Consumer<Key>> evictionListeners = new CopyOnWriteArrayList<>();
+    private volatile boolean softTierEnabled;
+
+    /**
+     * Creates a cache.
+     *
+     * @param budgetBytes     the maximum bytes of pixels of all unpinned images
+     * @param softTierEnabled whether evicted images are kept softly reachable
+     */
+    public ImageCache(long budgetBytes, boolean softTierEnabled) {
+        this(budgetBytes, softTierEnabled, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a cache running its maintenance on the given executor.
+     *
+     * @param budgetBytes     the maximum bytes of pixels of all unpinned images
+     * @param softTierEnabled whether evicted images are kept softly reachable
+     * @param executor        the executor for the eviction maintenance
+     */
+    ImageCache(long budgetBytes, boolean softTierEnabled, Executor executor) {
+        this.softTierEnabled = softTierEnabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(budgetBytes)
+                .weigher((Key key, Object image) -> pinnedPaths.contains(key.path()) ? 0 : weigh(image))
+                .evictionListener(this::onEviction)
+                .executor(executor)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Gets a cached image or loads it.
+     *
+     * @param key    the key of the image
+     * @param type   the type of the image
+     * @param loader loads the image, may return null if the image is not available (null is not cached)
+     * @param <V>    the type of the image
+     * @return the image, or null if the loader returned null
+     */
+    public <V> V get(Key key, Class<V> type, Function<Key, V> loader) {
+        Object cached = lookup(key);
+        if (cached != null) {
+            return type.cast(cached);
+        }
+
+        CompletableFuture<Object> load = new CompletableFuture<>();
+        CompletableFuture<Object> running = loading.putIfAbsent(key, load);
+        if (running != null) {
+            return type.cast(running.join());
+        }
+        try {
+            // Another thread may have finished loading between the lookup and registering the load
+            Object image = cache.asMap().get(key);
+            if (image == null) {
+                image = loader.apply(key);
+                if (image != null) {
+                    cache.put(key, image);
+                }
+            }
+            load.complete(image);
+            return type.cast(image);
+        } catch (RuntimeException e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(key, load);
+        }
+    }
+
+    /**
+     * Gets a cached image without loading it.
+     *
+     * @param key  the key of the image
+     * @param type the type of the image
+     * @param <V>  the type of the image
+     * @return the image, or null if it is not in memory (it may still be loading)
+     */
+    public <V> V getIfPresent(Key key, Class<V> type) {
+        return type.cast(lookup(key));
+    }
+
+    /**
+     * Pins the images of a resource: they no longer count against the budget and are never evicted. Only affects
+     * images cached after the call.
+     *
+     * @param path the path of the image resource
+     */
+    public void pin(String path) {
+        pinnedPaths.add(path);
+    }
+
+    /**
+     * Registers a listener called with the key of every image evicted from memory (not for {@link #clear()}).
+     *
+     * @param listener the listener, called on the thread doing the eviction
+     */
+    public void addEvictionListener(Consumer<Key> listener) {
+        evictionListeners.add(listener);
+    }
+
+    /**
+     * Changes the budget, evicting images if the new budget is smaller.
+     *
+     * @param budgetBytes the maximum bytes of pixels of all unpinned images
+     */
+    public void setBudget(long budgetBytes) {
+        cache.policy().eviction().ifPresent(eviction -> eviction.setMaximum(budgetBytes));
+    }
+
+    /**
+     * Enables or disables the soft-reference tier. Disabling it drops the images it holds.
+     *
+     * @param enabled whether evicted images are kept softly reachable
+     */
+    public void setSoftTierEnabled(boolean enabled) {
+        softTierEnabled = enabled;
+        if (!enabled) {
+            softTier.clear();
+        }
+    }
+
+    /**
+     * Checks whether an image is cached in memory, without counting a hit or miss.
+     *
+     * @param key the key of the image
+     * @return true if the image is cached (not counting the soft tier)
+     */
+    public boolean contains(Key key) {
+        return cache.asMap().containsKey(key);
+    }
+
+    /**
+     * Gets a snapshot of all cached images (without the soft tier).
+     *
+     * @return the images by key
+     */
+    public Map<Key, Object> asMap() {
+        return Map.copyOf(cache.asMap());
+    }
+
+    /**
+     * Removes all images, including the soft tier.
+     */
+    public void clear() {
+        cache.invalidateAll();
+        softTier.clear();
+    }
+
+    /**
+     * Runs pending maintenance such as evictions right away.
+     */
+    public void cleanUp() {
+        cache.cleanUp();
+    }
+
+    /**
+     * Gets the statistics of the cache.
+     *
+     * @return the statistics since the cache was created
+     */
+    public Statistics getStatistics() {
+        CacheStats stats = cache.stats();
+        long budget = cache.policy().eviction().map(Policy.Eviction::getMaximum).orElse(-1L);
+        long used = cache.policy().eviction().map(eviction -> eviction.weightedSize().orElse(-1)).orElse(-1L);
+        return new Statistics(stats.hitCount(), stats.missCount(), stats.evictionCount(), softHits.sum(), used, budget,
+                cache.estimatedSize(), softTier.size());
+    }
+
+    /**
+     * Gets the bytes of pixels of an image.
+     *
+     * @param image an {@link ImageIcon} or {@link BufferedImage}
+     * @return the bytes of the pixels, at least 1
+     */
+    static int weigh(Object image) {
+        long pixels = 0;
+        if (image instanceof BufferedImage buffered) {
+            pixels = (long) buffered.getWidth() * buffered.getHeight();
+        } else if (image instanceof ImageIcon icon) {
+            pixels = (long) Math.max(icon.getIconWidth(), 0) * Math.max(icon.getIconHeight(), 0);
+        }
+        return Math.clamp(pixels * BYTES_PER_PIXEL, 1, Integer.MAX_VALUE);
+    }
+
+    private Object lookup(Key key) {
+        Object cached = cache.getIfPresent(key);
+        if (cached != null || softTier.isEmpty()) {
+            return cached;
+        }
+        SoftValue soft = softTier.remove(key);
+        Object restored = soft != null ? soft.get() : null;
+        if (restored != null) {
+            softHits.increment();
+            cache.put(key, restored);
+        }
+        return restored;
+    }
+
+    private void onEviction(Key key, Object image, RemovalCause cause) {
+        if (key != null) {
+            evictionListeners.forEach(listener -> listener.accept(key));
+        }
+        if (!softTierEnabled || cause != RemovalCause.SIZE || key == null || image == null) {
+            return;
+        }
+        for (Reference<?> cleared; (cleared = clearedSoftValues.poll()) != null; ) {
+            softTier.remove(((SoftValue) cleared).key, cleared);
+        }
+        softTier.put(key, new SoftValue(key, image, clearedSoftValues));
+    }
+
+    /**
+     * Key of a cached image.
+     *
+     * @param path    the path of the image resource
+     * @param variant the variant of the image, e.g. the decoded type or the scaled size
+     */
+    public record Key(String path, String variant) {
+    }
+
+    /**
+     * Statistics of the cache.
+     *
+     * @param hits        the number of lookups served from memory (without the soft tier)
+     * @param misses      the number of lookups that were not in memory
+     * @param evictions   the number of images evicted to stay within the budget
+     * @param softHits    the number of misses restored from the soft tier
+     * @param usedBytes   the bytes of pixels of all unpinned cached images
+     * @param budgetBytes the budget
+     * @param entries     the approximate number of cached images
+     * @param softEntries the number of images in the soft tier (some may already be collected)
+     */
+    public record Statistics(long hits, long misses, long evictions, long softHits, long usedBytes, long budgetBytes,
+                             long entries, int softEntries) {
+    }
+
+    private static final class SoftValue extends SoftReference<Object> {
+
+        private final Key key;
+
+        private SoftValue(Key key, Object image, ReferenceQueue<Object> queue) {
+            super(image, queue);
+            this.key = key;
+        }
+    }
+}
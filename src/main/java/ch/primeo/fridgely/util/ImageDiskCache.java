@@ -0,0 +1,401 @@
+package ch.primeo.fridgely.util;
+
+import org.slf4j.*;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.*;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.nio.file.attribute.FileTime;
+import java.security.*;
+import java.util.*;
+import java.util.concurrent.atomic.*;
+import java.util.stream.Stream;
+
+/**
+ * Persistent cache of scaled images, so a restart does not decode and rescale the same images again. An entry is keyed
+ * by the resource path, a hash of the resource content and the target size, and holds the raw ARGB pixels, so reading
+ * it is a plain file read without PNG decoding. The cache is tied to the application version: a different version
+ * clears it on open. Once the entries exceed the size cap, the least recently used ones are deleted.
+ * <p>
+ * Packaged builds additionally keep a {@link TextureAtlas} of all preloaded images in the cache directory. It is
+ * keyed by resource path and size only, so no resource has to be read; instead the atlas carries the content stamp of
+ * the image resources it was packed from ({@link AssetRegistry#contentStamp()}) and is ignored when the resources of
+ * the running build have a different one. Unversioned development builds skip the atlas.
+ */
+public final class ImageDiskCache {
+
+    /**
+     * System property overriding the cache directory.
+     */
+    public static final String DIRECTORY_PROPERTY = "fridgely.image-cache.dir";
+
+    /**
+     * System property overriding the size cap in megabytes.
+     */
+    public static final String MAX_MB_PROPERTY = "fridgely.image-cache.max-mb";
+
+    /**
+     * System property to disable the cache ({@code false}).
+     */
+    public static final String ENABLED_PROPERTY = "fridgely.image-cache.enabled";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ImageDiskCache.class.getName());
+    private static final String DEFAULT_DIRECTORY = "image-cache";
+    private static final long DEFAULT_MAX_MB = 64;
+    private static final String VERSION_FILE = "version";
+    private static final String ATLAS_FILE = "atlas.bin";
+    private static final String DEV_VERSION = "dev";
+    private static final String ENTRY_SUFFIX = ".argb";
+    private static final String TEMP_SUFFIX = ".tmp";
+    // Bump when the entry layout or the scaling algorithm changes
+    private static final int FORMAT = 1;
+    private static final int MAGIC = 0x46524447;
+    private static final int HEADER_BYTES = 3 * Integer.BYTES;
+
+    private final Path directory;
+    private final long maxBytes;
+    private final boolean atlasEnabled;
+    private volatile String atlasStamp;
+    private volatile TextureAtlas atlas;
+    private final AtomicLong totalBytes = new AtomicLong();
+    private final AtomicInteger hits = new AtomicInteger();
+    private final AtomicInteger misses = new AtomicInteger();
+
+    /**
+     * Opens (and if needed creates) a cache. Entries of another version and temporary files left by an interrupted
+     * write are deleted.
+     *
+     * @param directory the cache directory
+     * @param version   the application version the entries belong to
+     * @param maxBytes  the size cap of all entries
+     * @throws IOException if the directory cannot be prepared
+     */
+    public ImageDiskCache(Path directory, String version, long maxBytes) throws IOException {
+        this.directory = directory;
+        this.maxBytes = maxBytes;
+        this.atlasEnabled = !DEV_VERSION.equals(version);
+
+        Files.createDirectories(directory);
+        Path versionFile = directory.resolve(VERSION_FILE);
+        String expected = FORMAT + ":" + version;
+        if (!Files.exists(versionFile) || !expected.equals(Files.readString(versionFile, StandardCharsets.UTF_8))) {
+            deleteEntries();
+            Files.writeString(versionFile, expected, StandardCharsets.UTF_8);
+        } else {
+            deleteTempFiles();
+        }
+        for (Path entry : entries()) {
+            totalBytes.addAndGet(Files.size(entry));
+        }
+        trim();
+    }
+
+    /**
+     * Opens the cache configured by the system properties, in {@code image-cache} of the working directory by default.
+     *
+     * @return the cache, or null if it is disabled or cannot be opened
+     */
+    public static ImageDiskCache fromSystemProperties() {
+        if (!Boolean.parseBoolean(System.getProperty(ENABLED_PROPERTY, "true"))) {
+            return null;
+        }
+        try {
+            long maxMb = Long.parseLong(System.getProperty(MAX_MB_PROPERTY, String.valueOf(DEFAULT_MAX_MB)));
+            return new ImageDiskCache(Path.of(System.getProperty(DIRECTORY_PROPERTY, DEFAULT_DIRECTORY)),
+                    applicationVersion(), maxMb * 1024 * 1024);
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("Image disk cache disabled: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Gets the key of a scaled image.
+     *
+     * @param resourcePath the path of the image resource
+     * @param content      the bytes of the image resource
+     * @param width        the target width
+     * @param height       the target height
+     * @return the key
+     */
+    public static String key(String resourcePath, byte[] content, int width, int height) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(content);
+            digest.update((resourcePath + '\n' + width + 'x' + height).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Reads a cached image.
+     *
+     * @param key the key of the image
+     * @return a screen-compatible image, or null if the image is not cached (or the entry is unreadable)
+     */
+    public BufferedImage get(String key) {
+        Path entry = entry(key);
+        try (FileChannel channel = FileChannel.open(entry, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate((int) channel.size());
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // read the whole entry
+            }
+            buffer.flip();
+            if (buffer.remaining() < HEADER_BYTES || buffer.getInt() != MAGIC) {
+                throw new IOException("Invalid header");
+            }
+            int width = buffer.getInt();
+            int height = buffer.getInt();
+            IntBuffer pixels = buffer.asIntBuffer();
+            if (width <= 0 || height <= 0 || pixels.remaining() != width * height) {
+                throw new IOException("Invalid size");
+            }
+            int[] argb = new int[width * height];
+            pixels.get(argb);
+
+            BufferedImage image = ImageScaler.createCompatibleImage(width, height);
+            image.setRGB(0, 0, width, height, argb, 0, width);
+            Files.setLastModifiedTime(entry, FileTime.fromMillis(System.currentTimeMillis()));
+            hits.incrementAndGet();
+            return image;
+        } catch (NoSuchFileException e) {
+            misses.incrementAndGet();
+            return null;
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("Discarding image cache entry {}: {}", key, e.getMessage());
+            delete(entry);
+            misses.incrementAndGet();
+            return null;
+        }
+    }
+
+    /**
+     * Stores an image. Failures are logged and otherwise ignored, the cache is only an optimization.
+     *
+     * @param key   the key of the image
+     * @param image the image to store
+     */
+    public void put(String key, BufferedImage image) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + width * height * Integer.BYTES);
+        buffer.putInt(MAGIC).putInt(width).putInt(height);
+        buffer.asIntBuffer().put(image.getRGB(0, 0, width, height, null, 0, width));
+        buffer.rewind();
+
+        Path entry = entry(key);
+        try {
+            // Write to a temporary file first, so concurrent readers never see a partial entry
+            Path temp = Files.createTempFile(directory, key, TEMP_SUFFIX);
+            long previous;
+            try {
+                try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                    while (buffer.hasRemaining()) {
+                        channel.write(buffer);
+                    }
+                }
+                previous = Files.exists(entry) ? Files.size(entry) : 0;
+                Files.move(temp, entry, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                deleteTempFile(temp);
+                throw e;
+            }
+            if (totalBytes.addAndGet(buffer.capacity() - previous) > maxBytes) {
+                trim();
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Could not cache image {}: {}", key, e.getMessage());
+        }
+    }
+
+    /**
+     * Maps the atlas of the cache directory if it was packed from resources with the given content stamp. Until then,
+     * and if the atlas is stale, {@link #getFromAtlas(String)} finds nothing.
+     *
+     * @param contentStamp the content stamp of the image resources of the running build, or null if unknown (which
+     *                     disables the atlas)
+     */
+    public synchronized void openAtlas(String contentStamp) {
+        if (!atlasEnabled || contentStamp == null || contentStamp.equals(atlasStamp)) {
+            return;
+        }
+        atlasStamp = contentStamp;
+        TextureAtlas mapped = mapAtlas();
+        if (mapped != null && !contentStamp.equals(mapped.contentStamp())) {
+            LOGGER.info("Ignoring texture atlas of changed image resources");
+            mapped = null;
+        }
+        atlas = mapped;
+    }
+
+    /**
+     * Reads an image from the atlas.
+     *
+     * @param key the key of the image in the atlas
+     * @return the image, or null if there is no atlas or it does not contain the image
+     */
+    public BufferedImage getFromAtlas(String key) {
+        return atlas != null ? atlas.get(key) : null;
+    }
+
+    /**
+     * Checks whether a new atlas should be written, i.e. the atlas was opened but no matching one was found.
+     *
+     * @return true if {@link #writeAtlas(Map)} should be called once all images are loaded
+     */
+    public boolean needsAtlas() {
+        return atlasStamp != null && atlas == null;
+    }
+
+    /**
+     * Writes the atlas used from the next start on, stamped with the content stamp it was opened with. Failures are
+     * logged and otherwise ignored.
+     *
+     * @param images the images to pack by their atlas key
+     */
+    public void writeAtlas(Map<String, BufferedImage> images) {
+        String contentStamp = atlasStamp;
+        if (contentStamp == null) {
+            return;
+        }
+        try {
+            Path temp = Files.createTempFile(directory, ATLAS_FILE, TEMP_SUFFIX);
+            try {
+                TextureAtlas.write(temp, contentStamp, images);
+                Files.move(temp, directory.resolve(ATLAS_FILE), StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                deleteTempFile(temp);
+                throw e;
+            }
+            LOGGER.info("Wrote texture atlas with {} images", images.size());
+        } catch (IOException e) {
+            LOGGER.warn("Could not write the texture atlas: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Gets the number of images read from the cache.
+     *
+     * @return the number of hits
+     */
+    public int getHits() {
+        return hits.get();
+    }
+
+    /**
+     * Gets the number of lookups of images that were not cached.
+     *
+     * @return the number of misses
+     */
+    public int getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * Gets the size of all entries.
+     *
+     * @return the size in bytes
+     */
+    public long getTotalBytes() {
+        return totalBytes.get();
+    }
+
+    /**
+     * Deletes the least recently used entries until the entries fit the size cap.
+     */
+    private synchronized void trim() {
+        if (totalBytes.get() <= maxBytes) {
+            return;
+        }
+        try {
+            List<Path> entries = entries();
+            Map<Path, FileTime> lastUsed = new HashMap<>();
+            for (Path entry : entries) {
+                lastUsed.put(entry, Files.getLastModifiedTime(entry));
+            }
+            entries.sort(Comparator.comparing(lastUsed::get));
+            for (Path entry : entries) {
+                if (totalBytes.get() <= maxBytes) {
+                    break;
+                }
+                long size = Files.size(entry);
+                if (Files.deleteIfExists(entry)) {
+                    totalBytes.addAndGet(-size);
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Could not trim the image cache: {}", e.getMessage());
+        }
+    }
+
+    private TextureAtlas mapAtlas() {
+        Path file = directory.resolve(ATLAS_FILE);
+        if (!Files.exists(file)) {
+            return null;
+        }
+        try {
+            return TextureAtlas.map(file);
+        } catch (IOException e) {
+            LOGGER.warn("Ignoring texture atlas: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void deleteEntries() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                if (Files.isRegularFile(file)) {
+                    Files.delete(file);
+                }
+            }
+        }
+    }
+
+    private void deleteTempFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.filter(file -> file.getFileName().toString().endsWith(TEMP_SUFFIX)).toList()) {
+                deleteTempFile(file);
+            }
+        }
+    }
+
+    private List<Path> entries() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return new ArrayList<>(files.filter(file -> file.getFileName().toString().endsWith(ENTRY_SUFFIX)).toList());
+        }
+    }
+
+    private Path entry(String key) {
+        return directory.resolve(key + ENTRY_SUFFIX);
+    }
+
+    private void delete(Path entry) {
+        try {
+            long size = Files.size(entry);
+            if (Files.deleteIfExists(entry)) {
+                totalBytes.addAndGet(-size);
+            }
+        } catch (IOException e) {
+            LOGGER.debug("Could not delete image cache entry {}", entry, e);
+        }
+    }
+
+    private static void deleteTempFile(Path temp) {
+        try {
+            Files.deleteIfExists(temp);
+        } catch (IOException e) {
+            LOGGER.debug("Could not delete temporary image cache file {}", temp, e);
+        }
+    }
+
+    private static String applicationVersion() {
+        String version = ImageDiskCache.class.getPackage().getImplementationVersion();
+        return version != null ? version : DEV_VERSION;
+    }
+}
@@ -1,57 +1,194 @@
 package ch.primeo.fridgely.util;
 
-import ch.primeo.fridgely.model.PenguinFacialExpression;
+import ch.primeo.fridgely.model.*;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.*;
+import org.springframework.beans.factory.annotation.*;
 import org.springframework.context.annotation.Scope;
 import org.springframework.core.io.*;
 import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
 import org.springframework.stereotype.Component;
 
 import javax.imageio.ImageIO;
-import javax.swing.ImageIcon;
-import java.awt.Image;
+import javax.imageio.stream.*;
+import javax.swing.*;
 import java.awt.image.BufferedImage;
-import java.io.IOException;
-import java.util.Arrays;
+import java.io.*;
+import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
 
 /**
  * Utility class for loading and caching images to improve performance. Provides methods for loading images as
- * ImageIcons and BufferedImages, with caching mechanisms to avoid redundant loading and scaling operations.
+ * ImageIcons and BufferedImages, with caching mechanisms to avoid redundant loading and scaling operations. All images
+ * share one {@link ImageCache} bounded by the bytes of their pixels ({@code app.images.cache-budget-mb}); the penguin
+ * sprites and UI elements are pinned. Hot paths can address images by {@link AssetRegistry} handle instead of path:
+ * scaled icons loaded that way are also kept in a table indexed by handle, so repeated lookups allocate nothing.
+ * Release builds ship display-sized variants of the sprites (see {@link SpriteOptimizer}), which are preferred over
+ * decoding and scaling the originals. Views on the event dispatch thread use the asynchronous variants, which return
+ * a placeholder right away and load on a worker pool.
  */
 @Component
 @Scope("singleton")
 public class ImageLoader {
 
     private final ResourceLoader resourceLoader;
+    private final ImageDiskCache diskCache;
 
-    private final ConcurrentMap<String, ImageIcon> imageCache = new ConcurrentHashMap<>();
-    private final ConcurrentMap<String, ImageIcon> scaledImageCache = new ConcurrentHashMap<>();
-    private final ConcurrentMap<String, BufferedImage> bufferedImageCache = new ConcurrentHashMap<>();
+    private final ImageCache cache = new ImageCache(DEFAULT_BUDGET_MB * BYTES_PER_MB, true);
+    private volatile AssetRegistry assets;
+    private volatile SpriteIndex spriteIndex;
+    private volatile AtomicReferenceArray<ScaledVariants> handleTable;
 
+    private static final String[] UI_ELEMENTS = {
+        "/ch/primeo/fridgely/vectors/dialog_arrow_up.png",
+        "/ch/primeo/fridgely/vectors/dialog_arrow_down.png",
+        "/ch/primeo/fridgely/sprites/fridge_interior.png"
+    };
+    private static final int PENGUIN_SIZE = 300;
+    private static final int PRODUCT_SIZE = 48;
+    private static final long DEFAULT_BUDGET_MB = 96;
+    private static final long BYTES_PER_MB = 1024 * 1024;
+    private static final String ICON_VARIANT = "icon";
+    private static final int MAX_TABLE_SIZE = 0xFFFF;
+    private static final String BUFFERED_VARIANT = "buffered";
+    private static final Logger LOGGER = LoggerFactory.getLogger(ImageLoader.class.getName());
+
+    private final ExecutorService asyncExecutor = newDaemonPool("image-loader-");
+    private final ConcurrentMap<ImageCache.Key, CompletableFuture<ImageIcon>> pendingLoads = new ConcurrentHashMap<>();
+    private volatile CompletableFuture<Void> preloadCompletion = CompletableFuture.completedFuture(null);
+
+    @Autowired
     public ImageLoader(ResourceLoader resourceLoader) {
+        this(resourceLoader, null);
+    }
+
+    /**
+     * Creates an image loader that keeps the scaled images in a disk cache across restarts.
+     *
+     * @param resourceLoader the loader of the image resources
+     * @param diskCache      the disk cache of scaled images, or null to scale them on every start
+     */
+    public ImageLoader(ResourceLoader resourceLoader, ImageDiskCache diskCache) {
         this.resourceLoader = resourceLoader;
+        this.diskCache = diskCache;
+
+        for (String path : UI_ELEMENTS) {
+            cache.pin(path);
+        }
+        for (String path : penguinExpressionSprites()) {
+            cache.pin(path);
+        }
+        for (PenguinHPState state : PenguinHPState.values()) {
+            cache.pin(state.getSpritePath());
+        }
+        cache.addEvictionListener(this::forgetHandleEntry);
+    }
+
+    /**
+     * Gets the registry of all image resources, scanning the classpath on first use. The scan is started by
+     * {@link #preloadAllImagesAsync(Executor, PreloadListener, Runnable...)}, so views on the event dispatch thread
+     * normally find the registry ready.
+     *
+     * @return the asset registry
+     */
+    public AssetRegistry getAssets() {
+        AssetRegistry registry = assets;
+        if (registry == null) {
+            synchronized (this) {
+                registry = assets;
+                if (registry == null) {
+                    registry = scanAssets();
+                    handleTable = new AtomicReferenceArray<>(registry.size());
+                    if (diskCache != null) {
+                        diskCache.openAtlas(registry.contentStamp());
+                    }
+                    assets = registry;
+                }
+            }
+        }
+        return registry;
+    }
+
+    /**
+     * Gets the index of the pre-scaled sprite variants, reading it on first use.
+     *
+     * @return the sprite index, empty if the build has no optimized sprites
+     */
+    public SpriteIndex getSpriteIndex() {
+        SpriteIndex index = spriteIndex;
+        if (index == null) {
+            index = loadSpriteIndex();
+            spriteIndex = index;
+        }
+        return index;
+    }
+
+    /**
+     * Applies the configured memory budget. Called by Spring, also for the instance created before the context.
+     *
+     * @param budgetMb        the maximum megabytes of pixels of all unpinned cached images
+     * @param softTierEnabled whether evicted images are kept softly reachable until memory runs low
+     */
+    @Autowired
+    public void configureCache(@Value("${app.images.cache-budget-mb:96}") long budgetMb,
+                               @Value("${app.images.soft-tier:true}") boolean softTierEnabled) {
+        cache.setBudget(budgetMb * BYTES_PER_MB);
+        cache.setSoftTierEnabled(softTierEnabled);
     }
 
     /**
-     * Loads an image as an ImageIcon from the given path. The loaded image is cached for future use.
+     * Pins the images of a resource, so they are never evicted from the memory cache. Use for images that are visible
+     * all the time.
+     *
+     * @param imagePath the path to the image resource
+     */
+    public void pin(String imagePath) {
+        cache.pin(imagePath);
+    }
+
+    /**
+     * Gets the statistics of the memory cache.
+     *
+     * @return the cache statistics
+     */
+    public ImageCache.Statistics getCacheStatistics() {
+        return cache.getStatistics();
+    }
+
+    /**
+     * Logs the cache statistics. Called when the application shuts down.
+     */
+    @PreDestroy
+    public void logCacheStatistics() {
+        ImageCache.Statistics stats = cache.getStatistics();
+        LOGGER.info("Image cache: {} hits, {} misses, {} evictions, {} soft hits, {} of {} bytes in {} images",
+                stats.hits(), stats.misses(), stats.evictions(), stats.softHits(), stats.usedBytes(),
+                stats.budgetBytes(), stats.entries());
+    }
+
+    /**
+     * Loads an image as an ImageIcon from the given path. The icon wraps the image of
+     * {@link #loadBufferedImage(String)}, so the resource is decoded once for both. The icon is cached for future use.
      *
      * @param imagePath the path to the image resource
      * @return the loaded ImageIcon, or null if the image is not found or an error occurs
      */
     public ImageIcon loadImage(String imagePath) {
-        return imageCache.computeIfAbsent(imagePath, path -> {
-            try {
-                Resource resource = resourceLoader.getResource("classpath:" + path);
-                return new ImageIcon(resource.getInputStream().readAllBytes());
-            } catch (IOException e) {
-                System.err.println("Error loading image: " + path);
-                return null;
-            }
+        return cache.get(new ImageCache.Key(imagePath, ICON_VARIANT), ImageIcon.class, key -> {
+            // The icon shares the pixels, the budget counts them twice, which errs on the safe side
+            BufferedImage image = loadBufferedImage(imagePath);
+            return image != null ? new ImageIcon(image) : null;
         });
     }
 
     /**
-     * Loads and scales an image to the specified width and height. The scaled image is cached for future use.
+     * Loads and scales an image to the specified width and height. The image is scaled eagerly by {@link ImageScaler}
+     * from the image of {@link #loadBufferedImage(String)} and cached, so painting the icon is a single copy. Sizes
+     * pre-scaled at build time are only decoded. With a disk
+     * cache, scaled images of earlier runs are copied out of its texture atlas or read from disk instead of being
+     * decoded and scaled again.
      *
      * @param imagePath the path to the image resource
      * @param width     the desired width of the scaled image
@@ -59,106 +196,505 @@ public class ImageLoader {
      * @return the scaled ImageIcon, or null if the image is not found or an error occurs
      */
     public ImageIcon loadScaledImage(String imagePath, int width, int height) {
-        String cacheKey = imagePath + "_" + width + "x" + height;
-        return scaledImageCache.computeIfAbsent(cacheKey, key -> {
-            ImageIcon original = loadImage(imagePath);
-            if (original == null) {
-                return null;
+        return cache.get(scaledCacheKey(imagePath, width, height), ImageIcon.class, key -> {
+            if (diskCache != null) {
+                return loadScaledThroughDiskCache(imagePath, width, height);
             }
-            Image scaledImage = original.getImage().getScaledInstance(width, height, Image.SCALE_SMOOTH);
-            return new ImageIcon(scaledImage);
+            ImageIcon prescaled = loadPrescaled(imagePath, width, height);
+            return prescaled != null ? prescaled : scale(loadBufferedImage(imagePath), width, height);
         });
     }
 
     /**
-     * Loads a BufferedImage from the given resource path. The loaded BufferedImage is cached for future use.
+     * Loads and scales the image of a handle, like {@link #loadScaledImage(String, int, int)}. Once loaded, the icon is
+     * found through a table indexed by handle without building a path or cache key.
+     *
+     * @param handle the handle of the image resource in {@link #getAssets()}
+     * @param width  the desired width of the scaled image
+     * @param height the desired height of the scaled image
+     * @return the scaled ImageIcon, or null if the handle is not registered or the image cannot be loaded
+     */
+    public ImageIcon loadScaledImage(int handle, int width, int height) {
+        AssetRegistry registry = getAssets();
+        if (handle < 0 || handle >= registry.size()) {
+            return null;
+        }
+        if (width <= 0 || height <= 0 || width > MAX_TABLE_SIZE || height > MAX_TABLE_SIZE) {
+            return loadScaledImage(registry.path(handle), width, height);
+        }
+
+        ImageIcon icon = findScaled(registry, handle, width, height);
+        if (icon != null) {
+            return icon;
+        }
+
+        String path = registry.path(handle);
+        ImageIcon loaded = loadScaledImage(path, width, height);
+        if (loaded != null) {
+            rememberScaled(handle, width, height, scaledCacheKey(path, width, height), loaded);
+        }
+        return loaded;
+    }
+
+    /**
+     * Loads the image of a product scaled to the given size, or the placeholder if the product has no image.
+     *
+     * @param barcode the barcode of the product
+     * @param width   the desired width of the scaled image
+     * @param height  the desired height of the scaled image
+     * @return the scaled ImageIcon, or null if neither the product image nor the placeholder can be loaded
+     */
+    public ImageIcon loadProductImage(String barcode, int width, int height) {
+        AssetRegistry registry = getAssets();
+        ImageIcon icon = loadScaledImage(registry.productImage(barcode), width, height);
+        return icon != null ? icon : loadScaledImage(registry.notFoundImage(), width, height);
+    }
+
+    /**
+     * Loads and scales an image on a worker thread, like {@link #loadScaledImage(String, int, int)}. Concurrent
+     * requests for the same image share one load.
+     *
+     * @param imagePath the path to the image resource
+     * @param width     the desired width of the scaled image
+     * @param height    the desired height of the scaled image
+     * @return a future completing with the scaled icon (or null, see {@link #loadScaledImage(String, int, int)});
+     *     already completed if the icon is in memory
+     */
+    public CompletableFuture<ImageIcon> loadScaledImageAsync(String imagePath, int width, int height) {
+        ImageIcon found = findScaled(imagePath, width, height);
+        if (found != null) {
+            return CompletableFuture.completedFuture(found);
+        }
+        // Only the registry published so far is used, a caller on the event dispatch thread must not scan
+        AssetRegistry registry = assets;
+        int handle = registry != null ? registry.handle(imagePath) : AssetRegistry.NO_ASSET;
+        ImageCache.Key key = scaledCacheKey(imagePath, width, height);
+        ImageIcon cached = cache.getIfPresent(key, ImageIcon.class);
+        if (cached != null) {
+            rememberScaled(handle, width, height, key, cached);
+            return CompletableFuture.completedFuture(cached);
+        }
+        return loadAsync(key, handle != AssetRegistry.NO_ASSET ? () -> loadScaledImage(handle, width, height)
+                : () -> loadScaledImage(imagePath, width, height));
+    }
+
+    /**
+     * Loads the image of a product on a worker thread, like {@link #loadProductImage(String, int, int)}.
+     *
+     * @param barcode the barcode of the product
+     * @param width   the desired width of the scaled image
+     * @param height  the desired height of the scaled image
+     * @return a future completing with the scaled icon, or null if neither the product image nor the placeholder can
+     *     be loaded; already completed if the icon is in memory
+     */
+    public CompletableFuture<ImageIcon> loadProductImageAsync(String barcode, int width, int height) {
+        AssetRegistry registry = getAssets();
+        int handle = productHandle(registry, barcode);
+        if (handle == AssetRegistry.NO_ASSET) {
+            return CompletableFuture.completedFuture(null);
+        }
+        ImageIcon found = findScaled(registry, handle, width, height);
+        if (found != null) {
+            return CompletableFuture.completedFuture(found);
+        }
+        ImageCache.Key key = scaledCacheKey(registry.path(handle), width, height);
+        ImageIcon cached = cache.getIfPresent(key, ImageIcon.class);
+        if (cached != null) {
+            rememberScaled(handle, width, height, key, cached);
+            return CompletableFuture.completedFuture(cached);
+        }
+        return loadAsync(key, () -> loadProductImage(barcode, width, height));
+    }
+
+    /**
+     * Gets a scaled image without blocking, for use on the event dispatch thread.
+     *
+     * @param imagePath the path to the image resource
+     * @param width     the desired width of the scaled image
+     * @param height    the desired height of the scaled image
+     * @return the icon if it is in memory, otherwise an {@link AsyncImageIcon} showing a placeholder until it is loaded
+     */
+    public Icon loadScaledIcon(String imagePath, int width, int height) {
+        ImageIcon found = findScaled(imagePath, width, height);
+        return found != null ? found : AsyncImageIcon.of(loadScaledImageAsync(imagePath, width, height), width, height);
+    }
+
+    /**
+     * Gets the image of a product without blocking, for use on the event dispatch thread.
+     *
+     * @param barcode the barcode of the product
+     * @param width   the desired width of the scaled image
+     * @param height  the desired height of the scaled image
+     * @return the icon if it is in memory, otherwise an {@link AsyncImageIcon} showing a placeholder until it is loaded
+     */
+    public Icon loadProductIcon(String barcode, int width, int height) {
+        AssetRegistry registry = assets;
+        ImageIcon found = registry != null ? findScaled(registry, productHandle(registry, barcode), width, height)
+                : null;
+        return found != null ? found : AsyncImageIcon.of(loadProductImageAsync(barcode, width, height), width, height);
+    }
+
+    private static int productHandle(AssetRegistry registry, String barcode) {
+        int handle = registry.productImage(barcode);
+        return handle != AssetRegistry.NO_ASSET ? handle : registry.notFoundImage();
+    }
+
+    /**
+     * Looks up an icon loaded earlier in the handle table. Allocates nothing, so it is cheap enough for every repaint.
+     */
+    private ImageIcon findScaled(String imagePath, int width, int height) {
+        AssetRegistry registry = assets;
+        return registry != null ? findScaled(registry, registry.handle(imagePath), width, height) : null;
+    }
+
+    private ImageIcon findScaled(AssetRegistry registry, int handle, int width, int height) {
+        if (handle < 0 || handle >= registry.size() || width <= 0 || height <= 0 || width > MAX_TABLE_SIZE
+                || height > MAX_TABLE_SIZE) {
+            return null;
+        }
+        ScaledVariants variants = handleTable.get(handle);
+        return variants != null ? variants.find(width << Short.SIZE | height) : null;
+    }
+
+    /**
+     * Records a loaded icon in the handle table, unless the handle is unknown or the size does not fit the table.
+     */
+    private void rememberScaled(int handle, int width, int height, ImageCache.Key key, ImageIcon icon) {
+        if (handle == AssetRegistry.NO_ASSET || width <= 0 || height <= 0 || width > MAX_TABLE_SIZE
+                || height > MAX_TABLE_SIZE) {
+            return;
+        }
+        int size = width << Short.SIZE | height;
+        handleTable.getAndUpdate(handle, current -> ScaledVariants.with(current, size, key, icon));
+        if (!cache.contains(key)) {
+            // Evicted while we were adding it; the table must not keep it alive
+            forgetHandleEntry(key);
+        }
+    }
+
+    private CompletableFuture<ImageIcon> loadAsync(ImageCache.Key key, Supplier<ImageIcon> loader) {
+        CompletableFuture<ImageIcon> load = new CompletableFuture<>();
+        CompletableFuture<ImageIcon> pending = pendingLoads.putIfAbsent(key, load);
+        if (pending != null) {
+            return pending;
+        }
+        try {
+            asyncExecutor.execute(() -> {
+                try {
+                    load.complete(loader.get());
+                } catch (RuntimeException e) {
+                    load.completeExceptionally(e);
+                } finally {
+                    pendingLoads.remove(key, load);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            pendingLoads.remove(key, load);
+            load.completeExceptionally(e);
+        }
+        return load;
+    }
+
+    private ImageIcon loadScaledThroughDiskCache(String imagePath, int width, int height) {
+        // The atlas is opened once the content stamp of the resources is known
+        getAssets();
+        BufferedImage atlased = diskCache.getFromAtlas(scaledKey(imagePath, width, height));
+        if (atlased != null) {
+            return new ImageIcon(atlased);
+        }
+        ImageIcon prescaled = loadPrescaled(imagePath, width, height);
+        if (prescaled != null) {
+            return prescaled;
+        }
+
+        byte[] content = readResource(sourcePath(imagePath));
+        if (content == null) {
+            return null;
+        }
+        String diskKey = ImageDiskCache.key(imagePath, content, width, height);
+        BufferedImage cached = diskCache.get(diskKey);
+        if (cached != null) {
+            return new ImageIcon(cached);
+        }
+
+        BufferedImage original = cache.get(new ImageCache.Key(imagePath, BUFFERED_VARIANT), BufferedImage.class,
+                key -> decode(imagePath, content));
+        ImageIcon scaled = scale(original, width, height);
+        if (scaled != null) {
+            diskCache.put(diskKey, (BufferedImage) scaled.getImage());
+        }
+        return scaled;
+    }
+
+    private ImageIcon loadPrescaled(String imagePath, int width, int height) {
+        String variant = getSpriteIndex().scaled(imagePath, width, height);
+        byte[] content = variant != null ? readResource(variant) : null;
+        BufferedImage image = content != null ? decode(variant, content) : null;
+        return image != null && image.getWidth() == width && image.getHeight() == height ? new ImageIcon(image) : null;
+    }
+
+    private String sourcePath(String imagePath) {
+        String display = getSpriteIndex().display(imagePath);
+        return display != null ? display : imagePath;
+    }
+
+    private static ImageCache.Key scaledCacheKey(String imagePath, int width, int height) {
+        return new ImageCache.Key(imagePath, width + "x" + height);
+    }
+
+    private void forgetHandleEntry(ImageCache.Key key) {
+        AssetRegistry registry = assets;
+        int handle = registry != null ? registry.handle(key.path()) : AssetRegistry.NO_ASSET;
+        if (handle != AssetRegistry.NO_ASSET) {
+            handleTable.getAndUpdate(handle, current -> ScaledVariants.without(current, key));
+        }
+    }
+
+    private static String scaledKey(String imagePath, int width, int height) {
+        return imagePath + "_" + width + "x" + height;
+    }
+
+    private static ImageIcon scale(BufferedImage original, int width, int height) {
+        return original != null ? new ImageIcon(ImageScaler.scale(original, width, height)) : null;
+    }
+
+    // The only place images are decoded, icons and scaled images are derived from the result
+    private static BufferedImage decode(String path, byte[] content) {
+        // Decode from memory, ImageIO's default stream caches in a temporary file. ImageIO.read closes the stream.
+        try {
+            BufferedImage image = ImageIO.read(new MemoryCacheImageInputStream(new ByteArrayInputStream(content)));
+            if (image == null) {
+                LOGGER.warn("Error decoding image {}: unsupported format", path);
+            }
+            return image;
+        } catch (IOException e) {
+            LOGGER.warn("Error decoding image {}: {}", path, e.getMessage());
+            return null;
+        }
+    }
+
+    private byte[] readResource(String path) {
+        Resource resource = resourceLoader.getResource("classpath:" + path);
+        try (InputStream in = resource.getInputStream()) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            LOGGER.warn("Error loading image {}: {}", path, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Loads a BufferedImage from the given resource path. The loaded BufferedImage is cached for future use and is the
+     * source of the icon and the scaled images of the same resource.
      *
      * @param resourcePath the path to the image resource
      * @return the loaded BufferedImage, or null if the image is not found or an error occurs
      */
     public BufferedImage loadBufferedImage(String resourcePath) {
-        return bufferedImageCache.computeIfAbsent(resourcePath, path -> {
-            try {
-                Resource resource = resourceLoader.getResource("classpath:" + path);
-                return ImageIO.read(resource.getInputStream());
-            } catch (IOException e) {
-                System.err.println("Error loading buffered image: " + resourcePath);
-                return null;
-            }
+        return cache.get(new ImageCache.Key(resourcePath, BUFFERED_VARIANT), BufferedImage.class, key -> {
+            byte[] content = readResource(sourcePath(resourcePath));
+            return content != null ? decode(resourcePath, content) : null;
         });
     }
 
     /**
-     * Preloads multiple images into the cache.
+     * Preloads multiple images into the cache, decoding them on all cores.
      *
      * @param imagePaths array of image resource paths to preload
      */
     public void preloadImages(String[] imagePaths) {
-        for (String path : imagePaths) {
-            loadImage(path);
-        }
+        // Parallel streams run on the common pool plus the caller, i.e. one thread per core
+        Arrays.stream(imagePaths).parallel().forEach(this::loadImage);
     }
 
     /**
-     * Preloads multiple scaled images into the cache.
+     * Preloads multiple scaled images into the cache, decoding and scaling them on all cores.
      *
      * @param imagePaths array of image resource paths to preload
      * @param width      target width for scaling
      * @param height     target height for scaling
      */
     public void preloadScaledImages(String[] imagePaths, int width, int height) {
-        for (String path : imagePaths) {
-            loadScaledImage(path, width, height);
-        }
+        Arrays.stream(imagePaths).parallel().forEach(path -> loadScaledImage(path, width, height));
     }
 
     /**
      * Clears all cached images.
      */
     public void clearCache() {
-        imageCache.clear();
-        scaledImageCache.clear();
-        bufferedImageCache.clear();
+        cache.clear();
+        AssetRegistry registry = assets;
+        if (registry != null) {
+            handleTable = new AtomicReferenceArray<>(registry.size());
+        }
     }
 
     /**
      * Preloads all application images including: - Penguin facial expressions - Common UI elements
      */
     public void preloadAllImages() {
-        String[] penguinExpressions = {
+        preloadScaledImages(penguinExpressionSprites(), PENGUIN_SIZE, PENGUIN_SIZE);
+        preloadScaledImages(productSpritePaths(), PRODUCT_SIZE, PRODUCT_SIZE);
+        preloadImages(UI_ELEMENTS);
+    }
+
+    /**
+     * Starts preloading all application images on the given executor and returns immediately. The first screen task
+     * runs first so the images of the first visible view are not competing for the CPU; afterwards every remaining
+     * image is decoded as its own task. The returned future is also available through {@link #getPreloadCompletion()}.
+     *
+     * @param executor        the executor to decode the images on
+     * @param firstScreenTask loads the images of the first visible view
+     * @return a future completing once all images are cached
+     */
+    public CompletableFuture<Void> preloadAllImagesAsync(Executor executor, Runnable firstScreenTask) {
+        return preloadAllImagesAsync(executor, (loaded, total) -> {
+        }, firstScreenTask);
+    }
+
+    /**
+     * Starts preloading all application images on the given executor and returns immediately. The priority tasks (the
+     * images of the first screens) run in parallel first, next to the scan of the {@link #getAssets() asset registry};
+     * once they are done, every remaining image is decoded as its own task. Each finished task is reported to the listener. A failing task is logged and counted as finished, so
+     * it neither stops the remaining tasks nor the completion; its images are simply loaded on demand later. The
+     * returned future is also available through {@link #getPreloadCompletion()}.
+     *
+     * @param executor      the executor to decode the images on, ideally {@link #newPreloadExecutor()}
+     * @param listener      notified after each task, on the thread that ran it
+     * @param priorityTasks load the images of the first visible views
+     * @return a future completing once all images are cached
+     */
+    public CompletableFuture<Void> preloadAllImagesAsync(Executor executor, PreloadListener listener,
+                                                         Runnable... priorityTasks) {
+        List<Runnable> tasks = createPreloadTasks();
+        int total = priorityTasks.length + tasks.size();
+        AtomicInteger loaded = new AtomicInteger();
+        Function<Runnable, CompletableFuture<Void>> start = task -> CompletableFuture.runAsync(task, executor)
+                .handle((ignored, error) -> {
+                    if (error != null) {
+                        LOGGER.warn("Error preloading images: {}", error.getMessage());
+                    }
+                    listener.onProgress(loaded.incrementAndGet(), total);
+                    return null;
+                });
+
+        // Scan the classpath for the asset registry up front, instead of on the first handle lookup of a view
+        CompletableFuture<Void> assetScan = CompletableFuture.runAsync(this::getAssets, executor)
+                .exceptionally(error -> {
+                    LOGGER.warn("Error scanning image resources: {}", error.getMessage());
+                    return null;
+                });
+        CompletableFuture<?>[] firstTasks = Arrays.copyOf(Arrays.stream(priorityTasks).map(start)
+                .toArray(CompletableFuture[]::new), priorityTasks.length + 1);
+        firstTasks[priorityTasks.length] = assetScan;
+
+        CompletableFuture<Void> completion = CompletableFuture.allOf(firstTasks)
+                .thenCompose(ignored -> CompletableFuture.allOf(tasks.stream().map(start)
+                        .toArray(CompletableFuture[]::new)));
+        preloadCompletion = completion;
+        if (diskCache != null) {
+            // Runs on the thread finishing the preload, after the completion is visible to the launchers. The atlas is
+            // only opened with the asset registry, so whether a new one is needed is known by then.
+            completion.thenRun(() -> {
+                if (diskCache.needsAtlas()) {
+                    writeAtlas();
+                }
+            });
+        }
+        return completion;
+    }
+
+    /**
+     * Packs every scaled image loaded so far into the texture atlas of the disk cache.
+     */
+    void writeAtlas() {
+        Map<String, BufferedImage> images = new HashMap<>();
+        cache.asMap().forEach((key, image) -> {
+            if (image instanceof ImageIcon icon && icon.getImage() instanceof BufferedImage scaled
+                    && !ICON_VARIANT.equals(key.variant())) {
+                images.put(key.path() + "_" + key.variant(), scaled);
+            }
+        });
+        diskCache.writeAtlas(images);
+    }
+
+    /**
+     * Creates the bounded pool for {@link #preloadAllImagesAsync}: one daemon thread per core, since decoding and
+     * scaling are CPU bound.
+     *
+     * @return a new executor, to be shut down by the caller once the preload completed
+     */
+    public static ExecutorService newPreloadExecutor() {
+        return newDaemonPool("image-preload-");
+    }
+
+    private static ExecutorService newDaemonPool(String threadPrefix) {
+        AtomicInteger threads = new AtomicInteger();
+        return Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), task -> {
+            Thread thread = new Thread(task, threadPrefix + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Gets the completion of the last asynchronous preload. Code that needs every image cached (e.g. launching a game)
+     * should continue from this future instead of blocking on it.
+     *
+     * @return the preload future, already completed if no asynchronous preload was started
+     */
+    public CompletableFuture<Void> getPreloadCompletion() {
+        return preloadCompletion;
+    }
+
+    /**
+     * Creates one task per image loaded by {@link #preloadAllImages()}.
+     *
+     * @return the preload tasks
+     */
+    List<Runnable> createPreloadTasks() {
+        List<Runnable> tasks = new ArrayList<>();
+        for (String path : penguinExpressionSprites()) {
+            tasks.add(() -> loadScaledImage(path, PENGUIN_SIZE, PENGUIN_SIZE));
+        }
+        for (String path : productSpritePaths()) {
+            tasks.add(() -> loadScaledImage(path, PRODUCT_SIZE, PRODUCT_SIZE));
+        }
+        for (String path : UI_ELEMENTS) {
+            tasks.add(() -> loadImage(path));
+        }
+        return tasks;
+    }
+
+    private static String[] penguinExpressionSprites() {
+        return new String[]{
                 PenguinFacialExpression.HAPPY.getSprite(),
                 PenguinFacialExpression.NEUTRAL.getSprite(),
                 PenguinFacialExpression.ALERT.getSprite(),
                 PenguinFacialExpression.ANGRY.getSprite(),
                 PenguinFacialExpression.CRITICAL.getSprite()
         };
+    }
 
-        preloadScaledImages(penguinExpressions, 300, 300);
-
+    private String[] productSpritePaths() {
         // product sprites are under classpath:ch/primeo/fridgely/productimages/
-        // get all .png files in the directory with ResourceLoader
-
-        String[] productSprites;
-
         try {
-            Resource[] resources = resolveProductImageResources();
-
-            productSprites = Arrays.stream(resources)
+            return Arrays.stream(resolveProductImageResources())
                     .map(resource -> "/ch/primeo/fridgely/productimages/" + resource.getFilename())
                     .toArray(String[]::new);
         } catch (IOException e) {
-            productSprites = new String[0];
+            return new String[0];
         }
+    }
 
-        preloadScaledImages(productSprites, 48, 48);
-
-        String[] uiElements = {
-            "/ch/primeo/fridgely/vectors/dialog_arrow_up.png",
-            "/ch/primeo/fridgely/vectors/dialog_arrow_down.png",
-            "/ch/primeo/fridgely/sprites/fridge_interior.png"
-        };
+    // This method is added for testing purposes apart from the main logic.
+    protected AssetRegistry scanAssets() {
+        return AssetRegistry.scan(ImageLoader.class.getClassLoader());
+    }
 
-        preloadImages(uiElements);
+    // This method is added for testing purposes apart from the main logic.
+    protected SpriteIndex loadSpriteIndex() {
+        return SpriteIndex.fromClasspath(ImageLoader.class.getClassLoader());
     }
 
     // This method is added for testing purposes apart from the main logic.
@@ -166,4 +702,90 @@ public class ImageLoader {
         PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
         return resolver.getResources("classpath:/ch/primeo/fridgely/productimages/*.png");
     }
+
+    /**
+     * Receives the progress of an asynchronous preload.
+     */
+    @FunctionalInterface
+    public interface PreloadListener {
+
+        /**
+         * Called after a preload task finished.
+         *
+         * @param loaded the number of finished tasks
+         * @param total  the number of all tasks
+         */
+        void onProgress(int loaded, int total);
+    }
+
+    /**
+     * Immutable list of the scaled icons of one handle, replaced as a whole when an icon is added or removed. Sizes are
+     * packed as {@code width << 16 | height}.
+     */
+    private static final class ScaledVariants {
+
+        private final int[] sizes;
+        private final ImageCache.Key[] keys;
+        private final ImageIcon[] icons;
+
+        private ScaledVariants(int[] sizes, ImageCache.Key[] keys, ImageIcon[] icons) {
+            this.sizes = sizes;
+            this.keys = keys;
+            this.icons = icons;
+        }
+
+        ImageIcon find(int size) {
+            for (int i = 0; i < sizes.length; i++) {
+                if (sizes[i] == size) {
+                    return icons[i];
+                }
+            }
+            return null;
+        }
+
+        static ScaledVariants with(ScaledVariants current, int size, ImageCache.Key key, ImageIcon icon) {
+            if (current == null) {
+                return new ScaledVariants(new int[]{size}, new ImageCache.Key[]{key}, new ImageIcon[]{icon});
+            }
+            if (current.find(size) != null) {
+                return current;
+            }
+            int length = current.sizes.length;
+            ScaledVariants added = new ScaledVariants(Arrays.copyOf(current.sizes, length + 1),
+                    Arrays.copyOf(current.keys, length + 1), Arrays.copyOf(current.icons, length + 1));
+            added.sizes[length] = size;
+            added.keys[length] = key;
+            added.icons[length] = icon;
+            return added;
+        }
+
+        static ScaledVariants without(ScaledVariants current, ImageCache.Key key) {
+            if (current == null) {
+                return null;
+            }
+            for (int i = 0; i < current.keys.length; i++) {
+                if (current.keys[i].equals(key)) {
+                    if (current.keys.length == 1) {
+                        return null;
+                    }
+                    return new ScaledVariants(remove(current.sizes, i), remove(current.keys, i),
+                            remove(current.icons, i));
+                }
+            }
+            return current;
+        }
+
+        private static int[] remove(int[] values, int index) {
+            int[] result = new int[values.length - 1];
+            System.arraycopy(values, 0, result, 0, index);
+            System.arraycopy(values, index + 1, result, index, result.length - index);
+            return result;
+        }
+
+        private static <T> T[] remove(T[] values, int index) {
+            T[] result = Arrays.copyOf(values, values.length - 1);
+            System.arraycopy(values, index + 1, result, index, result.length - index);
+            return result;
+        }
+    }
 }
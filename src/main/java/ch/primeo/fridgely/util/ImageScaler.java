@@ -0,0 +1,93 @@
+package ch.primeo.fridgely.util;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+/**
+ * Eagerly scales images into ready-to-blit images. Unlike {@link Image#getScaledInstance(int, int, int)}, which only
+ * records the request and does the (area-averaging) work on the EDT the first time the image is painted, the scaler
+ * rasterizes immediately: downscaling halves the image with bilinear interpolation until it is at most twice the target
+ * size and finishes with a bicubic step, which gives smooth results at a fraction of the cost. The target image is
+ * compatible with the default screen, so painting it is a plain copy without any format conversion.
+ */
+public final class ImageScaler {
+
+    private static volatile GraphicsConfiguration graphicsConfiguration;
+
+    private ImageScaler() {
+    }
+
+    /**
+     * Scales an image to the given size.
+     *
+     * @param source the image to scale, must be fully loaded
+     * @param width  the target width
+     * @param height the target height
+     * @return a new screen-compatible image of exactly the given size
+     * @throws IllegalArgumentException if the target size is not positive or the source has no size (yet)
+     */
+    public static BufferedImage scale(Image source, int width, int height) {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("Target size must be positive: " + width + "x" + height);
+        }
+        int currentWidth = source.getWidth(null);
+        int currentHeight = source.getHeight(null);
+        if (currentWidth <= 0 || currentHeight <= 0) {
+            throw new IllegalArgumentException("Source image has no size");
+        }
+
+        Image current = source;
+        // Halve with bilinear interpolation while the image is more than twice as large as the target
+        while (currentWidth / 2 >= width || currentHeight / 2 >= height) {
+            int nextWidth = Math.max(width, currentWidth / 2);
+            int nextHeight = Math.max(height, currentHeight / 2);
+            current = draw(current, nextWidth, nextHeight, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            currentWidth = nextWidth;
+            currentHeight = nextHeight;
+        }
+
+        if (current != source && currentWidth == width && currentHeight == height) {
+            return (BufferedImage) current;
+        }
+        return draw(current, width, height, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+    }
+
+    /**
+     * Creates an empty translucent image in the format of the default screen.
+     *
+     * @param width  the width of the image
+     * @param height the height of the image
+     * @return the new image
+     */
+    public static BufferedImage createCompatibleImage(int width, int height) {
+        GraphicsConfiguration configuration = graphicsConfiguration();
+        if (configuration == null) {
+            return new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB_PRE);
+        }
+        return configuration.createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+    }
+
+    private static BufferedImage draw(Image source, int width, int height, Object interpolation) {
+        BufferedImage target = createCompatibleImage(width, height);
+        Graphics2D g2d = target.createGraphics();
+        try {
+            g2d.setComposite(AlphaComposite.Src);
+            g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, interpolation);
+            g2d.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g2d.setRenderingHint(RenderingHints.KEY_ALPHA_INTERPOLATION,
+                    RenderingHints.VALUE_ALPHA_INTERPOLATION_QUALITY);
+            g2d.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            g2d.dispose();
+        }
+        return target;
+    }
+
+    private static GraphicsConfiguration graphicsConfiguration() {
+        if (graphicsConfiguration == null && !GraphicsEnvironment.isHeadless()) {
+            graphicsConfiguration = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice()
+                    .getDefaultConfiguration();
+        }
+        return graphicsConfiguration;
+    }
+}
@@ -0,0 +1,147 @@
+package ch.primeo.fridgely.util;
+
+import org.slf4j.*;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+
+/**
+ * Index of the pre-scaled image variants generated at build time by {@link SpriteOptimizer}. It maps an original image
+ * resource and a display size to the resource holding the image already scaled to that size, and optionally to a
+ * display-sized copy replacing the full-resolution original. Builds without optimized assets have an empty index, so
+ * {@link ImageLoader} falls back to the originals.
+ */
+public final class SpriteIndex {
+
+    /**
+     * Resource folder of the optimized variants.
+     */
+    public static final String OPTIMIZED_ROOT = AssetRegistry.ASSET_ROOT + "optimized/";
+
+    /**
+     * Resource path of the index.
+     */
+    public static final String INDEX_PATH = OPTIMIZED_ROOT + "index.properties";
+
+    /**
+     * Index without any variants.
+     */
+    public static final SpriteIndex EMPTY = new SpriteIndex(Map.of());
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SpriteIndex.class.getName());
+    private static final String DISPLAY_VARIANT = "display";
+
+    private final Map<String, String> variants;
+
+    /**
+     * Creates an index.
+     *
+     * @param variants the variant resource paths by {@link #scaledKey} or {@link #displayKey}
+     */
+    public SpriteIndex(Map<String, String> variants) {
+        this.variants = Map.copyOf(variants);
+    }
+
+    /**
+     * Reads an index.
+     *
+     * @param in the index in properties format
+     * @return the index
+     * @throws IOException if the index cannot be read
+     */
+    public static SpriteIndex read(InputStream in) throws IOException {
+        Properties properties = new Properties();
+        properties.load(new InputStreamReader(in, StandardCharsets.UTF_8));
+        Map<String, String> variants = HashMap.newHashMap(properties.size());
+        for (String key : properties.stringPropertyNames()) {
+            variants.put(key, properties.getProperty(key));
+        }
+        return new SpriteIndex(variants);
+    }
+
+    /**
+     * Reads the index shipped on the classpath.
+     *
+     * @param classLoader the class loader to read the index from
+     * @return the index, or {@link #EMPTY} if the build has no optimized assets
+     */
+    public static SpriteIndex fromClasspath(ClassLoader classLoader) {
+        try (InputStream in = classLoader.getResourceAsStream(INDEX_PATH.substring(1))) {
+            return in != null ? read(in) : EMPTY;
+        } catch (IOException e) {
+            LOGGER.warn("Error loading sprite index: {}", e.getMessage());
+            return EMPTY;
+        }
+    }
+
+    /**
+     * Writes the index.
+     *
+     * @param file the file to write
+     * @throws IOException if the file cannot be written
+     */
+    public void write(Path file) throws IOException {
+        // Sorted, so repeated builds produce the same file
+        StringBuilder content = new StringBuilder("# Generated by SpriteOptimizer\n");
+        for (Map.Entry<String, String> entry : new TreeMap<>(variants).entrySet()) {
+            content.append(entry.getKey()).append('=').append(entry.getValue()).append('\n');
+        }
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Gets the variant of an image pre-scaled to a size.
+     *
+     * @param resourcePath the path of the original image resource
+     * @param width        the width of the variant
+     * @param height       the height of the variant
+     * @return the resource path of the variant, or null if there is none
+     */
+    public String scaled(String resourcePath, int width, int height) {
+        return variants.isEmpty() ? null : variants.get(scaledKey(resourcePath, width, height));
+    }
+
+    /**
+     * Gets the display-sized copy of an image, which replaces the original when the image is not loaded scaled.
+     *
+     * @param resourcePath the path of the original image resource
+     * @return the resource path of the copy, or null if there is none
+     */
+    public String display(String resourcePath) {
+        return variants.isEmpty() ? null : variants.get(displayKey(resourcePath));
+    }
+
+    /**
+     * Gets the number of variants.
+     *
+     * @return the number of variants
+     */
+    public int size() {
+        return variants.size();
+    }
+
+    /**
+     * Gets the key of a pre-scaled variant.
+     *
+     * @param resourcePath the path of the original image resource
+     * @param width        the width of the variant
+     * @param height       the height of the variant
+     * @return the key
+     */
+    static String scaledKey(String resourcePath, int width, int height) {
+        return resourcePath + "@" + width + "x" + height;
+    }
+
+    /**
+     * Gets the key of a display-sized copy.
+     *
+     * @param resourcePath the path of the original image resource
+     * @return the key
+     */
+    static String displayKey(String resourcePath) {
+        return resourcePath + "@" + DISPLAY_VARIANT;
+    }
+}
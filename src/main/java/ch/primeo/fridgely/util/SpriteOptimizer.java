@@ -0,0 +1,211 @@
+package ch.primeo.fridgely.util;
+
+import javax.imageio.*;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Build tool that turns the full-resolution sprites into the sizes the views actually draw. A manifest declares the
+ * display sizes per image (relative to {@link AssetRegistry#ASSET_ROOT}, {@code *} matches file names):
+ * <pre>
+ * sprites/happy.png = 300x300, 120x120
+ * sprites/LocalAndBio/*.png = 50x50
+ * </pre>
+ * Every size gets a pre-scaled, maximally compressed PNG below {@link SpriteIndex#OPTIMIZED_ROOT}, so
+ * {@link ImageLoader#loadScaledImage(String, int, int)} decodes a small image instead of scaling the original. The
+ * original is shrunk to fit the largest declared size, either in place (release builds, shrinking the jar) or as a
+ * display copy next to the variants. Runs in the {@code prepare-package} phase of the release profile.
+ */
+public final class SpriteOptimizer {
+
+    private static final String REPLACE_ORIGINALS = "--replace-originals";
+    private static final String PNG_SUFFIX = ".png";
+
+    private SpriteOptimizer() {
+    }
+
+    /**
+     * Optimizes the sprites of a build.
+     *
+     * @param args the manifest, the classes directory containing the resources, and optionally
+     *             {@code --replace-originals}
+     * @throws IOException if an image cannot be read or written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: SpriteOptimizer <manifest> <classes directory> [" + REPLACE_ORIGINALS + "]");
+            System.exit(2);
+        }
+        System.setProperty("java.awt.headless", "true");
+        Path classesDirectory = Path.of(args[1]);
+        long before = imageBytes(classesDirectory);
+        SpriteIndex index = optimize(Path.of(args[0]), classesDirectory,
+                args.length > 2 && REPLACE_ORIGINALS.equals(args[2]));
+        System.out.println("Wrote " + index.size() + " optimized sprites, images now take "
+                + imageBytes(classesDirectory) / 1024 + " KB instead of " + before / 1024 + " KB");
+    }
+
+    /**
+     * Writes the variants declared by a manifest and their index.
+     *
+     * @param manifest         the manifest of display sizes
+     * @param classesDirectory the directory containing the image resources, receives the variants
+     * @param replaceOriginals whether to shrink the originals in place instead of writing display copies
+     * @return the written index
+     * @throws IOException if an image cannot be read or written
+     * @throws IllegalArgumentException if the manifest is malformed or an entry matches no image
+     */
+    public static SpriteIndex optimize(Path manifest, Path classesDirectory, boolean replaceOriginals)
+            throws IOException {
+        Properties entries = new Properties();
+        try (Reader reader = Files.newBufferedReader(manifest, StandardCharsets.UTF_8)) {
+            entries.load(reader);
+        }
+
+        Path assetRoot = classesDirectory.resolve(AssetRegistry.ASSET_ROOT.substring(1));
+        Path optimizedRoot = classesDirectory.resolve(SpriteIndex.OPTIMIZED_ROOT.substring(1));
+        Map<String, String> variants = new HashMap<>();
+        for (String pattern : new TreeSet<>(entries.stringPropertyNames())) {
+            List<Dimension> sizes = parseSizes(pattern, entries.getProperty(pattern));
+            for (Path file : resolve(assetRoot, pattern)) {
+                String relative = assetRoot.relativize(file).toString().replace(File.separatorChar, '/');
+                optimize(file, relative, sizes, optimizedRoot, replaceOriginals, variants);
+            }
+        }
+
+        SpriteIndex index = new SpriteIndex(variants);
+        index.write(classesDirectory.resolve(SpriteIndex.INDEX_PATH.substring(1)));
+        return index;
+    }
+
+    private static void optimize(Path file, String relative, List<Dimension> sizes, Path optimizedRoot,
+                                 boolean replaceOriginals, Map<String, String> variants) throws IOException {
+        BufferedImage original = ImageIO.read(file.toFile());
+        if (original == null) {
+            throw new IOException("Not a readable image: " + file);
+        }
+        String resourcePath = AssetRegistry.ASSET_ROOT + relative;
+        String baseName = relative.substring(0, relative.length() - PNG_SUFFIX.length());
+
+        int maxWidth = 0;
+        int maxHeight = 0;
+        for (Dimension size : sizes) {
+            maxWidth = Math.max(maxWidth, size.width);
+            maxHeight = Math.max(maxHeight, size.height);
+        }
+
+        // Keep the aspect ratio, the views scale the unscaled image themselves
+        double factor = Math.min((double) maxWidth / original.getWidth(), (double) maxHeight / original.getHeight());
+        Dimension displaySize = null;
+        String displayPath = resourcePath;
+        if (factor < 1) {
+            displaySize = new Dimension(Math.max(1, (int) Math.round(original.getWidth() * factor)),
+                    Math.max(1, (int) Math.round(original.getHeight() * factor)));
+            BufferedImage display = ImageScaler.scale(original, displaySize.width, displaySize.height);
+            if (replaceOriginals) {
+                writePng(display, file);
+            } else {
+                displayPath = SpriteIndex.OPTIMIZED_ROOT + relative;
+                writePng(display, optimizedRoot.resolve(relative));
+                variants.put(SpriteIndex.displayKey(resourcePath), displayPath);
+            }
+        }
+
+        for (Dimension size : sizes) {
+            String key = SpriteIndex.scaledKey(resourcePath, size.width, size.height);
+            if (size.equals(displaySize)) {
+                // The display copy already has this size
+                variants.put(key, displayPath);
+                continue;
+            }
+            String variant = baseName + "_" + size.width + "x" + size.height + PNG_SUFFIX;
+            writePng(ImageScaler.scale(original, size.width, size.height), optimizedRoot.resolve(variant));
+            variants.put(key, SpriteIndex.OPTIMIZED_ROOT + variant);
+        }
+    }
+
+    private static List<Dimension> parseSizes(String pattern, String value) {
+        List<Dimension> sizes = new ArrayList<>();
+        for (String size : value.split(",")) {
+            String[] parts = size.trim().split("x");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid size '" + size.trim() + "' for " + pattern);
+            }
+            try {
+                Dimension dimension = new Dimension(Integer.parseInt(parts[0]), Integer.parseInt(parts[1]));
+                if (dimension.width <= 0 || dimension.height <= 0) {
+                    throw new IllegalArgumentException("Invalid size '" + size.trim() + "' for " + pattern);
+                }
+                sizes.add(dimension);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid size '" + size.trim() + "' for " + pattern, e);
+            }
+        }
+        return sizes;
+    }
+
+    private static List<Path> resolve(Path assetRoot, String pattern) throws IOException {
+        Path file = assetRoot.resolve(pattern);
+        List<Path> files = new ArrayList<>();
+        if (!pattern.contains("*")) {
+            if (Files.isRegularFile(file)) {
+                files.add(file);
+            }
+        } else if (Files.isDirectory(file.getParent())) {
+            try (DirectoryStream<Path> matches = Files.newDirectoryStream(file.getParent(),
+                    file.getFileName().toString())) {
+                matches.forEach(files::add);
+            }
+        }
+        if (files.isEmpty()) {
+            throw new IllegalArgumentException("Manifest entry matches no image: " + pattern);
+        }
+        files.sort(Comparator.naturalOrder());
+        return files;
+    }
+
+    private static void writePng(BufferedImage image, Path file) throws IOException {
+        // The screen-compatible images of ImageScaler are premultiplied, which the PNG writer does not support
+        BufferedImage argb = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = argb.createGraphics();
+        g.setComposite(AlphaComposite.Src);
+        g.drawImage(image, 0, 0, null);
+        g.dispose();
+
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("png").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(0f);
+
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        Path temp = Files.createTempFile(file.toAbsolutePath().getParent(), file.getFileName().toString(), ".tmp");
+        try (ImageOutputStream out = ImageIO.createImageOutputStream(temp.toFile())) {
+            writer.setOutput(out);
+            writer.write(null, new IIOImage(argb, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private static long imageBytes(Path classesDirectory) throws IOException {
+        Path assetRoot = classesDirectory.resolve(AssetRegistry.ASSET_ROOT.substring(1));
+        if (!Files.isDirectory(assetRoot)) {
+            return 0;
+        }
+        long bytes = 0;
+        try (Stream<Path> files = Files.walk(assetRoot)) {
+            for (Path file : files.filter(path -> path.toString().endsWith(PNG_SUFFIX)).toList()) {
+                bytes += Files.size(file);
+            }
+        }
+        return bytes;
+    }
+}
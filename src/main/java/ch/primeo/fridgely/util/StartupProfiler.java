@@ -0,0 +1,352 @@
+package ch.primeo.fridgely.util;
+
+import org.slf4j.*;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline.TimelineEvent;
+import org.springframework.core.metrics.StartupStep;
+
+import java.io.*;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * Records the duration of every boot phase, the instantiation time of the slowest Spring beans and the time until
+ * the first frame is visible. All times are measured from JVM start. Once the boot sequence has completed and the
+ * first frame has been shown, a JSON report is written to {@code startup-report.json} in the working directory (or
+ * the file given by the {@value #REPORT_PROPERTY} system property). The last boot time of each boot mode (standard or
+ * fast-boot) is kept in {@code startup-history.properties} next to the report, so every report also compares the two
+ * modes.
+ */
+public final class StartupProfiler {
+
+    /**
+     * System property overriding the location of the startup report.
+     */
+    public static final String REPORT_PROPERTY = "fridgely.startup.report";
+
+    /**
+     * Boot mode using the regular JIT class loading path.
+     */
+    public static final String MODE_STANDARD = "standard";
+
+    /**
+     * Boot mode using a class data sharing archive and/or Spring AOT initializers.
+     */
+    public static final String MODE_FAST_BOOT = "fast-boot";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(StartupProfiler.class.getName());
+    private static final String DEFAULT_REPORT = "startup-report.json";
+    private static final String HISTORY_FILE = "startup-history.properties";
+    private static final int MAX_REPORTED_BEANS = 25;
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+    private static final StartupProfiler INSTANCE = new StartupProfiler(jvmClock(), reportPath());
+
+    private final LongSupplier clock;
+    private final Path reportFile;
+    private final String mode;
+    private final Properties history = new Properties();
+    private final List<Phase> phases = new ArrayList<>();
+    private final Map<String, Long> beanNanos = new HashMap<>();
+    private final BufferingApplicationStartup applicationStartup = new BufferingApplicationStartup(4096);
+
+    private long firstFrameNanos = -1;
+    private long bootCompleteNanos = -1;
+    private boolean reportWritten;
+
+    /**
+     * Creates a profiler. Use {@link #getInstance()} outside of tests.
+     *
+     * @param nanoClock  clock returning nanoseconds since JVM start
+     * @param reportPath where to write the report, or null to skip writing
+     */
+    StartupProfiler(LongSupplier nanoClock, Path reportPath) {
+        this(nanoClock, reportPath, detectMode());
+    }
+
+    /**
+     * Creates a profiler for an explicit boot mode.
+     *
+     * @param nanoClock  clock returning nanoseconds since JVM start
+     * @param reportPath where to write the report, or null to skip writing
+     * @param bootMode   {@link #MODE_STANDARD} or {@link #MODE_FAST_BOOT}
+     */
+    StartupProfiler(LongSupplier nanoClock, Path reportPath, String bootMode) {
+        this.clock = nanoClock;
+        this.reportFile = reportPath;
+        this.mode = bootMode;
+    }
+
+    /**
+     * Gets the profiler of the running application.
+     *
+     * @return the shared profiler
+     */
+    public static StartupProfiler getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Gets the Spring application startup that collects the per-bean timings. Pass it to the
+     * {@code SpringApplicationBuilder} before running the context.
+     *
+     * @return the buffering application startup
+     */
+    public BufferingApplicationStartup getApplicationStartup() {
+        return applicationStartup;
+    }
+
+    /**
+     * Gets the current time of this profiler's clock.
+     *
+     * @return nanoseconds since JVM start
+     */
+    public long nanoTime() {
+        return clock.getAsLong();
+    }
+
+    /**
+     * Runs and times a boot phase.
+     *
+     * @param name the name of the phase
+     * @param work the work of the phase
+     */
+    public void time(String name, Runnable work) {
+        time(name, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    /**
+     * Runs and times a boot phase that produces a result.
+     *
+     * @param name the name of the phase
+     * @param work the work of the phase
+     * @param <T>  the type of the result
+     * @return the result of the work
+     */
+    public <T> T time(String name, Supplier<T> work) {
+        long start = clock.getAsLong();
+        try {
+            return work.get();
+        } finally {
+            recordPhase(name, start, clock.getAsLong());
+        }
+    }
+
+    /**
+     * Records a phase that was measured elsewhere.
+     *
+     * @param name       the name of the phase
+     * @param startNanos start of the phase in nanoseconds since JVM start
+     * @param endNanos   end of the phase in nanoseconds since JVM start
+     */
+    public synchronized void recordPhase(String name, long startNanos, long endNanos) {
+        phases.add(new Phase(name, startNanos, endNanos - startNanos));
+    }
+
+    /**
+     * Records the instantiation time of a single bean.
+     *
+     * @param beanName the name of the bean
+     * @param nanos    the instantiation time in nanoseconds
+     */
+    public synchronized void recordBean(String beanName, long nanos) {
+        beanNanos.merge(beanName, nanos, Long::sum);
+    }
+
+    /**
+     * Moves the bean instantiation steps buffered by Spring into this profiler. The entity manager factory is also
+     * reported as the {@code jpa-bootstrap} phase.
+     */
+    public void collectSpringTimeline() {
+        long now = clock.getAsLong();
+        for (TimelineEvent event : applicationStartup.drainBufferedTimeline().getEvents()) {
+            StartupStep step = event.getStartupStep();
+            if (!"spring.beans.instantiate".equals(step.getName())) {
+                continue;
+            }
+            for (StartupStep.Tag tag : step.getTags()) {
+                if ("beanName".equals(tag.getKey())) {
+                    long nanos = event.getDuration().toNanos();
+                    recordBean(tag.getValue(), nanos);
+                    if ("entityManagerFactory".equals(tag.getValue())) {
+                        long end = now - millisBetween(event.getEndTime().toEpochMilli());
+                        recordPhase("jpa-bootstrap", end - nanos, end);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Marks the first application frame as visible. Only the first call is recorded.
+     */
+    public void markFirstFrameVisible() {
+        synchronized (this) {
+            if (firstFrameNanos >= 0) {
+                return;
+            }
+            firstFrameNanos = clock.getAsLong();
+        }
+        writeReportWhenComplete();
+    }
+
+    /**
+     * Marks the end of the boot sequence in {@code main}.
+     */
+    public void markBootComplete() {
+        synchronized (this) {
+            bootCompleteNanos = clock.getAsLong();
+        }
+        writeReportWhenComplete();
+    }
+
+    /**
+     * Gets the recorded duration of a phase.
+     *
+     * @param name the name of the phase
+     * @return the duration in milliseconds, or -1 if the phase was not recorded
+     */
+    public synchronized long getPhaseMillis(String name) {
+        return phases.stream().filter(p -> p.name.equals(name)).mapToLong(p -> p.nanos / NANOS_PER_MILLI)
+                .findFirst().orElse(-1);
+    }
+
+    /**
+     * Gets the boot time, i.e. the later of boot completion and first frame, since JVM start.
+     *
+     * @return the boot time in milliseconds, or -1 if neither has been marked yet
+     */
+    public synchronized long getBootMillis() {
+        long end = Math.max(bootCompleteNanos, firstFrameNanos);
+        return end < 0 ? -1 : end / NANOS_PER_MILLI;
+    }
+
+    /**
+     * Renders the report as JSON.
+     *
+     * @return the startup report
+     */
+    public synchronized String toJson() {
+        StringBuilder json = new StringBuilder(1024);
+        json.append("{\n");
+        json.append("  \"mode\": \"").append(mode).append("\",\n");
+        json.append("  \"bootMillis\": ").append(getBootMillis()).append(",\n");
+        json.append("  \"bootCompleteMillis\": ").append(toMillis(bootCompleteNanos)).append(",\n");
+        json.append("  \"firstFrameMillis\": ").append(toMillis(firstFrameNanos)).append(",\n");
+
+        json.append("  \"phases\": [");
+        for (int i = 0; i < phases.size(); i++) {
+            Phase phase = phases.get(i);
+            json.append(i == 0 ? "\n" : ",\n").append("    {\"name\": \"").append(escape(phase.name))
+                    .append("\", \"startMillis\": ").append(toMillis(phase.startNanos))
+                    .append(", \"durationMillis\": ").append(toMillis(phase.nanos)).append('}');
+        }
+        json.append(phases.isEmpty() ? "],\n" : "\n  ],\n");
+
+        List<Map.Entry<String, Long>> beans = new ArrayList<>(beanNanos.entrySet());
+        beans.sort(Map.Entry.<String, Long>comparingByValue().reversed());
+        int beanCount = Math.min(beans.size(), MAX_REPORTED_BEANS);
+        json.append("  \"beans\": [");
+        for (int i = 0; i < beanCount; i++) {
+            Map.Entry<String, Long> bean = beans.get(i);
+            json.append(i == 0 ? "\n" : ",\n").append("    {\"name\": \"").append(escape(bean.getKey()))
+                    .append("\", \"durationMillis\": ").append(toMillis(bean.getValue())).append('}');
+        }
+        json.append(beanCount == 0 ? "],\n" : "\n  ],\n");
+
+        long standardMillis = historyMillis(MODE_STANDARD);
+        long fastBootMillis = historyMillis(MODE_FAST_BOOT);
+        json.append("  \"comparison\": {\"standardMillis\": ").append(standardMillis)
+                .append(", \"fastBootMillis\": ").append(fastBootMillis)
+                .append(", \"savedMillis\": ")
+                .append(standardMillis < 0 || fastBootMillis < 0 ? -1 : standardMillis - fastBootMillis).append("}\n");
+        json.append("}\n");
+        return json.toString();
+    }
+
+    private void writeReportWhenComplete() {
+        String report;
+        synchronized (this) {
+            if (reportWritten || firstFrameNanos < 0 || bootCompleteNanos < 0) {
+                return;
+            }
+            reportWritten = true;
+            loadHistory();
+            history.setProperty(mode + ".bootMillis", Long.toString(getBootMillis()));
+            report = toJson();
+        }
+
+        LOGGER.info("Boot ({}) finished after {} ms (first frame after {} ms)", mode, getBootMillis(),
+                toMillis(firstFrameNanos));
+        if (reportFile == null) {
+            return;
+        }
+        try {
+            Files.writeString(reportFile, report, StandardCharsets.UTF_8);
+            try (Writer writer = Files.newBufferedWriter(historyFile(), StandardCharsets.UTF_8)) {
+                history.store(writer, "Last boot time per boot mode");
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Could not write startup report to {}: {}", reportFile, e.getMessage());
+        }
+    }
+
+    private void loadHistory() {
+        if (reportFile == null || !Files.exists(historyFile())) {
+            return;
+        }
+        try (Reader reader = Files.newBufferedReader(historyFile(), StandardCharsets.UTF_8)) {
+            history.load(reader);
+        } catch (IOException e) {
+            LOGGER.warn("Could not read startup history: {}", e.getMessage());
+        }
+    }
+
+    private long historyMillis(String bootMode) {
+        try {
+            return Long.parseLong(history.getProperty(bootMode + ".bootMillis", "-1"));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private Path historyFile() {
+        return reportFile.resolveSibling(HISTORY_FILE);
+    }
+
+    private long millisBetween(long epochMillis) {
+        return (System.currentTimeMillis() - epochMillis) * NANOS_PER_MILLI;
+    }
+
+    private static long toMillis(long nanos) {
+        return nanos < 0 ? -1 : nanos / NANOS_PER_MILLI;
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
+    private static LongSupplier jvmClock() {
+        long origin = System.nanoTime() - ManagementFactory.getRuntimeMXBean().getUptime() * NANOS_PER_MILLI;
+        return () -> System.nanoTime() - origin;
+    }
+
+    private static String detectMode() {
+        boolean aot = Boolean.getBoolean("spring.aot.enabled");
+        boolean cds = ManagementFactory.getRuntimeMXBean().getInputArguments().stream()
+                .anyMatch(arg -> arg.startsWith("-XX:SharedArchiveFile"));
+        return aot || cds ? MODE_FAST_BOOT : MODE_STANDARD;
+    }
+
+    private static Path reportPath() {
+        return Path.of(System.getProperty(REPORT_PROPERTY, DEFAULT_REPORT));
+    }
+
+    private record Phase(String name, long startNanos, long nanos) {
+    }
+}
@@ -0,0 +1,196 @@
+package ch.primeo.fridgely.util;
+
+import java.awt.image.BufferedImage;
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+
+/**
+ * Many images packed into one memory-mapped file. The file starts with the content stamp of the images it was packed
+ * from and a manifest (key and rectangle of every image), followed by the ARGB pixels of the whole atlas. Opening an atlas maps the file and reads only the manifest; the
+ * pixels of an image are copied out of the mapping when the image is requested, so the heap only holds the images in
+ * use.
+ */
+public final class TextureAtlas {
+
+    private static final int MAGIC = 0x46415431;
+    private static final int FORMAT = 2;
+    private static final int MIN_WIDTH = 2048;
+
+    private final String contentStamp;
+    private final Map<String, Region> regions;
+    private final IntBuffer pixels;
+    private final int atlasWidth;
+
+    private TextureAtlas(String contentStamp, Map<String, Region> regions, IntBuffer pixels, int atlasWidth) {
+        this.contentStamp = contentStamp;
+        this.regions = regions;
+        this.pixels = pixels;
+        this.atlasWidth = atlasWidth;
+    }
+
+    /**
+     * Packs images into an atlas file. Images are placed on shelves ordered by height, which wastes little space for
+     * the few distinct sizes the application uses.
+     *
+     * @param file         the file to write
+     * @param contentStamp identifies the resources the images were loaded from, see {@link #contentStamp()}
+     * @param images       the images by key
+     * @throws IOException if the file cannot be written
+     */
+    public static void write(Path file, String contentStamp, Map<String, BufferedImage> images) throws IOException {
+        List<String> keys = new ArrayList<>(images.keySet());
+        keys.sort(Comparator.comparingInt((String key) -> images.get(key).getHeight()).reversed()
+                .thenComparing(Comparator.naturalOrder()));
+
+        int atlasWidth = MIN_WIDTH;
+        for (BufferedImage image : images.values()) {
+            atlasWidth = Math.max(atlasWidth, image.getWidth());
+        }
+        Map<String, Region> regions = new LinkedHashMap<>();
+        int x = 0;
+        int y = 0;
+        int shelfHeight = 0;
+        for (String key : keys) {
+            BufferedImage image = images.get(key);
+            if (x + image.getWidth() > atlasWidth) {
+                x = 0;
+                y += shelfHeight;
+                shelfHeight = 0;
+            }
+            regions.put(key, new Region(x, y, image.getWidth(), image.getHeight()));
+            x += image.getWidth();
+            shelfHeight = Math.max(shelfHeight, image.getHeight());
+        }
+        int atlasHeight = y + shelfHeight;
+
+        int[] atlas = new int[atlasWidth * atlasHeight];
+        for (Map.Entry<String, Region> entry : regions.entrySet()) {
+            Region region = entry.getValue();
+            images.get(entry.getKey()).getRGB(0, 0, region.width(), region.height(), atlas,
+                    region.y() * atlasWidth + region.x(), atlasWidth);
+        }
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT);
+            byte[] stamp = contentStamp.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(stamp.length);
+            out.write(stamp);
+            out.writeInt(regions.size());
+            for (Map.Entry<String, Region> entry : regions.entrySet()) {
+                byte[] key = entry.getKey().getBytes(StandardCharsets.UTF_8);
+                Region region = entry.getValue();
+                out.writeInt(key.length);
+                out.write(key);
+                out.writeInt(region.x());
+                out.writeInt(region.y());
+                out.writeInt(region.width());
+                out.writeInt(region.height());
+            }
+            // Align the pixels, so the int view of the mapping is aligned
+            while (out.size() % Integer.BYTES != 0) {
+                out.writeByte(0);
+            }
+            out.writeInt(atlasWidth);
+            out.writeInt(atlasHeight);
+            for (int pixel : atlas) {
+                out.writeInt(pixel);
+            }
+        }
+    }
+
+    /**
+     * Maps an atlas file.
+     *
+     * @param file the atlas file
+     * @return the atlas
+     * @throws IOException if the file cannot be mapped or is not an atlas
+     */
+    public static TextureAtlas map(Path file) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        try {
+            if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT) {
+                throw new IOException("Not a texture atlas: " + file);
+            }
+            byte[] stamp = new byte[buffer.getInt()];
+            buffer.get(stamp);
+            int count = buffer.getInt();
+            Map<String, Region> regions = HashMap.newHashMap(count);
+            for (int i = 0; i < count; i++) {
+                byte[] key = new byte[buffer.getInt()];
+                buffer.get(key);
+                regions.put(new String(key, StandardCharsets.UTF_8),
+                        new Region(buffer.getInt(), buffer.getInt(), buffer.getInt(), buffer.getInt()));
+            }
+            buffer.position((buffer.position() + Integer.BYTES - 1) / Integer.BYTES * Integer.BYTES);
+            int atlasWidth = buffer.getInt();
+            int atlasHeight = buffer.getInt();
+            IntBuffer pixels = buffer.slice().asIntBuffer();
+            if (pixels.remaining() != atlasWidth * atlasHeight) {
+                throw new IOException("Truncated texture atlas: " + file);
+            }
+            return new TextureAtlas(new String(stamp, StandardCharsets.UTF_8), regions, pixels, atlasWidth);
+        } catch (BufferUnderflowException | IllegalArgumentException | NegativeArraySizeException e) {
+            throw new IOException("Corrupt texture atlas: " + file, e);
+        }
+    }
+
+    /**
+     * Copies an image out of the atlas.
+     *
+     * @param key the key of the image
+     * @return a new screen-compatible image, or null if the atlas does not contain the key
+     */
+    public BufferedImage get(String key) {
+        Region region = regions.get(key);
+        if (region == null) {
+            return null;
+        }
+        int[] argb = new int[region.width() * region.height()];
+        for (int row = 0; row < region.height(); row++) {
+            pixels.get((region.y() + row) * atlasWidth + region.x(), argb, row * region.width(), region.width());
+        }
+        BufferedImage image = ImageScaler.createCompatibleImage(region.width(), region.height());
+        image.setRGB(0, 0, region.width(), region.height(), argb, 0, region.width());
+        return image;
+    }
+
+    /**
+     * Gets the content stamp the atlas was written with. Keys only name a resource and a size, so an atlas is only
+     * valid for resources with the same stamp.
+     *
+     * @return the content stamp
+     */
+    public String contentStamp() {
+        return contentStamp;
+    }
+
+    /**
+     * Checks whether the atlas contains an image.
+     *
+     * @param key the key of the image
+     * @return true if the atlas contains the image
+     */
+    public boolean contains(String key) {
+        return regions.containsKey(key);
+    }
+
+    /**
+     * Gets the number of images in the atlas.
+     *
+     * @return the number of images
+     */
+    public int size() {
+        return regions.size();
+    }
+
+    private record Region(int x, int y, int width, int height) {
+    }
+}
@@ -37,6 +37,8 @@ public class ChooseGameModeView implements LocalizationObserver {
     private JLabel multiplayerTextLabel;
 
     private static final String MULTIPLAYER_IMAGE = "/ch/primeo/fridgely/sprites/multi_player.png";
+    private static final int MULTIPLAYER_IMAGE_WIDTH = 250;
+    private static final int MULTIPLAYER_IMAGE_HEIGHT = 200;
 
     private final ImageLoader imageLoader;
 
@@ -130,6 +132,15 @@ public class ChooseGameModeView implements LocalizationObserver {
         panel.add(textLabel);
     }
 
+    /**
+     * Loads the images this view needs into the cache, so the view can be shown without decoding anything.
+     *
+     * @param imageLoader the image loader to warm up
+     */
+    public static void preloadAssets(ImageLoader imageLoader) {
+        imageLoader.loadScaledImage(MULTIPLAYER_IMAGE, MULTIPLAYER_IMAGE_WIDTH, MULTIPLAYER_IMAGE_HEIGHT);
+    }
+
     /**
      * Creates a JLabel with an image icon.
      *
@@ -138,7 +149,8 @@ public class ChooseGameModeView implements LocalizationObserver {
     private JLabel createMultiplayerImageLabel() {
         JLabel label = new JLabel();
         label.setAlignmentX(Component.CENTER_ALIGNMENT);
-        ImageIcon scaledIcon = imageLoader.loadScaledImage(ChooseGameModeView.MULTIPLAYER_IMAGE, 250, 200);
+        ImageIcon scaledIcon = imageLoader.loadScaledImage(ChooseGameModeView.MULTIPLAYER_IMAGE,
+                MULTIPLAYER_IMAGE_WIDTH, MULTIPLAYER_IMAGE_HEIGHT);
 
         if (scaledIcon != null) {
             label.setIcon(scaledIcon);
@@ -4,8 +4,8 @@ import ch.primeo.fridgely.Fridgely;
 import ch.primeo.fridgely.controller.multiplayer.MultiplayerGameController;
 import ch.primeo.fridgely.model.*;
 import ch.primeo.fridgely.service.localization.*;
-import ch.primeo.fridgely.util.ImageLoader;
-import ch.primeo.fridgely.view.util.ProductCardUtils;
+import ch.primeo.fridgely.util.*;
+import ch.primeo.fridgely.view.util.*;
 
 import javax.swing.*;
 import java.awt.*;
@@ -26,10 +26,13 @@ public class ScannedItemsView extends JPanel implements PropertyChangeListener,
     private final MultiplayerGameController gameController;
     private final AppLocalizationService localizationService;
     private final ImageLoader imageLoader;
-    private final Image backgroundImg;
+    private final PrescaledImage background;
 
     private JPanel productCardsPanel; // Regular products
     private JPanel defaultProductCardsPanel; // Default products
+    private CardReconciler<Product> productCards;
+    private CardReconciler<Product> defaultProductCards;
+    private String cardLanguage;
     //private JLabel headerLabel;
 
     private static final double PERCENTAGE_CARDHEIGHT = .168;
@@ -38,14 +41,14 @@ public class ScannedItemsView extends JPanel implements PropertyChangeListener,
     private static final double PERCENTAGE_HGAPSIZE = .03;
     private static final double PERCENTAGE_FONTSIZE = .009;
     private static final double PERCENTAGE_IMAGESIZE = .85;
-    private static final int CARD_OPACITY = 180;
-    private static final int BG_CARD_OPACITY = 120;
+    private static final Color CARD_BACKGROUND = new Color(255, 255, 255, 180); // Semi-opaque white
+    private static final Color DEFAULT_CARD_BACKGROUND = new Color(255, 255, 255, 120); // Slightly more transparent
     private final Dimension screenSize = new Dimension(1080, 1920);
     private final Dimension cardSize;
     private final int imageSize;
     private final int gapSizeH;
     private final int gapSizeV;
-    private final int fontSize;
+    private final Font nameFont;
 
     /**
      * Constructs a new ScannedItemsView.
@@ -65,14 +68,15 @@ public class ScannedItemsView extends JPanel implements PropertyChangeListener,
         imageSize = (int) (cardSize.width * PERCENTAGE_IMAGESIZE);
         gapSizeH = (int) ((screenSize.width * PERCENTAGE_HGAPSIZE));
         gapSizeV = (int) ((screenSize.height * PERCENTAGE_VGAPSIZE));
-        fontSize = (int) (screenSize.height * PERCENTAGE_FONTSIZE);
+        nameFont = new Font(Font.DIALOG, Font.BOLD, (int) (screenSize.height * PERCENTAGE_FONTSIZE));
 
         // Load images
         LABEL_LOCAL = imageLoader.loadScaledImage("/ch/primeo/fridgely/sprites/LocalAndBio/local.png", 50, 50);
         LABEL_NON_LOCAL = imageLoader.loadScaledImage("/ch/primeo/fridgely/sprites/LocalAndBio/non-local.png", 50, 50);
         LABEL_BIO = imageLoader.loadScaledImage("/ch/primeo/fridgely/sprites/LocalAndBio/bio.png", 50, 50);
         LABEL_NON_BIO = imageLoader.loadScaledImage("/ch/primeo/fridgely/sprites/LocalAndBio/non-bio.png", 50, 50);
-        backgroundImg = imageLoader.loadImage("/ch/primeo/fridgely/sprites/fridge_interior.png").getImage();
+        background = new PrescaledImage(imageLoader.loadImage("/ch/primeo/fridgely/sprites/fridge_interior.png")
+                .getImage());
         initializeComponents();
         setupLayout();
         registerListeners();
@@ -105,6 +109,10 @@ public class ScannedItemsView extends JPanel implements PropertyChangeListener,
         defaultProductCardsPanel = new JPanel();
         defaultProductCardsPanel.setLayout(new FlowLayout(FlowLayout.LEFT, gapSizeH, gapSizeV));
         defaultProductCardsPanel.setOpaque(false);
+
+        productCards = new CardReconciler<>(productCardsPanel, Product::getBarcode, this::createProductCard);
+        defaultProductCards = new CardReconciler<>(defaultProductCardsPanel, Product::getBarcode,
+                this::createDefaultProductCard);
     }
 
     /**
@@ -132,11 +140,9 @@ public class ScannedItemsView extends JPanel implements PropertyChangeListener,
     }
 
     /**
-     * Updates the product list from the fridge stock model.
+     * Updates the product list from the fridge stock model. Only the cards of added, removed or moved products change.
      */
     private void updateProductList() {
-        productCardsPanel.removeAll();
-        defaultProductCardsPanel.removeAll();
         List<Product> products = gameController.getFridgeStockModel().getFridgeProducts();
         List<Product> defaultProducts = gameController.getFridgeStockModel().getDefaultProducts();
         java.util.Set<String> inStockBarcodes = new java.util.HashSet<>();
@@ -151,91 +157,35 @@ public class ScannedItemsView extends JPanel implements PropertyChangeListener,
                 filteredDefaults.add(p);
             }
         }
-        // Add fridge stock products (non-default and default in stock) to regular panel
-        for (Product product : products) {
-            productCardsPanel.add(createProductCard(product));
-        }
-        // Add default products (not in stock) to default panel at the bottom
-        for (Product product : filteredDefaults) {
-            defaultProductCardsPanel.add(createDefaultProductCard(product));
-        }
-        productCardsPanel.revalidate();
-        productCardsPanel.repaint();
-        defaultProductCardsPanel.revalidate();
-        defaultProductCardsPanel.repaint();
+        // Fridge stock products (non-default and default in stock) in the regular panel
+        productCards.reconcile(products);
+        // Default products (not in stock) in the default panel at the bottom
+        defaultProductCards.reconcile(filteredDefaults);
     }
 
-    private JPanel createProductCard(Product product) {
-        JPanel card = new JPanel();
-        card.setLayout(new BorderLayout(0, 0));
-        card.setPreferredSize(cardSize);
-        card.setOpaque(true);
-        card.setBackground(new Color(255, 255, 255, 0)); // Semi-opaque white
-        //card.setBorder(BorderFactory.createLineBorder(new Color(180, 180, 180), 3));
-
-        JPanel text = new JPanel();
-        text.setLayout(new BorderLayout(0, 0));
-
-        text.setOpaque(true); // Enable background painting
-        text.setBackground(new Color(255, 255, 255, CARD_OPACITY)); // Semi-opaque white
-        text.setBorder(
-                BorderFactory.createCompoundBorder(BorderFactory.createLineBorder(new Color(180, 180, 180), 2, true),
-                        BorderFactory.createEmptyBorder(4, 8, 8, 8)));
-
-        // Title at the top
-        String name = product.getName(localizationService.getLanguage());
-        JLabel nameLabel = new JLabel(name);
-        nameLabel.setFont(new Font(nameLabel.getFont().getName(), Font.BOLD, fontSize));
-
-        ImageIcon icon = imageLoader.loadScaledImage(product.getProductImagePath(), imageSize, imageSize);
-        ImageIcon fallbackIcon = imageLoader.loadScaledImage(Product.PRODUCT_IMAGE_NOT_FOUND_PATH, imageSize, imageSize);
-
-        ProductCardUtils.buildProductCard(card, nameLabel, text, icon, fallbackIcon, imageSize);
-
-        // Labels at the bottom
-        JPanel tagsPanel = new JPanel(new FlowLayout(FlowLayout.CENTER, 6, 0));
-        tagsPanel.setOpaque(false);
-        // bio tag
-        JLabel bioLabel = new JLabel();
-        bioLabel.setIcon(product.isBio() ? LABEL_BIO : LABEL_NON_BIO);
-        bioLabel.setMaximumSize(new Dimension(cardSize.width / 3, cardSize.height / 3));
-
-        tagsPanel.add(bioLabel);
-        // local tag
-        JLabel localLabel = new JLabel();
-        localLabel.setIcon(product.isLocal() ? LABEL_LOCAL : LABEL_NON_LOCAL);
-        localLabel.setMaximumSize(new Dimension(cardSize.width / 3, cardSize.height / 3));
-
-        tagsPanel.add(localLabel);
-        text.add(tagsPanel, BorderLayout.CENTER);
-        text.setMaximumSize(new Dimension(cardSize.width, (int) (cardSize.height * .2)));
-        card.add(text, BorderLayout.PAGE_START);
-        return card;
+    private ProductCard createProductCard(Product product) {
+        // Placeholder until the image is loaded off the EDT, falls back to the default image if the product has none
+        Icon icon = imageLoader.loadProductIcon(product.getBarcode(), imageSize, imageSize);
+        List<Icon> tags = List.of(product.isBio() ? LABEL_BIO : LABEL_NON_BIO,
+                product.isLocal() ? LABEL_LOCAL : LABEL_NON_LOCAL);
+        return ProductCard.inStock(product.getName(localizationService.getLanguage()), nameFont, icon, tags,
+                CARD_BACKGROUND, cardSize);
     }
 
-    private JPanel createDefaultProductCard(Product product) {
-        JPanel card = new JPanel();
-        card.setLayout(new BorderLayout(0, 0));
-        card.setPreferredSize(cardSize);
-        card.setOpaque(true); // Enable background painting
-        card.setBackground(new Color(255, 255, 255, BG_CARD_OPACITY)); // Semi-opaque white, slightly more transparent
-        card.setBorder(
-                BorderFactory.createCompoundBorder(BorderFactory.createDashedBorder(new Color(180, 180, 180), 2, 4),
-                        BorderFactory.createEmptyBorder(6, 6, 6, 6)));
-        // Title at the top
-        JLabel nameLabel = new JLabel(product.getName(localizationService.getLanguage()));
-        nameLabel.setFont(new Font(nameLabel.getFont().getName(), Font.PLAIN, fontSize));
-
-        ImageIcon icon = imageLoader.loadScaledImage(product.getProductImagePath(), imageSize, imageSize);
-        ImageIcon fallbackIcon = imageLoader.loadScaledImage(Product.PRODUCT_IMAGE_NOT_FOUND_PATH, imageSize, imageSize);
-
-        ProductCardUtils.buildProductCard(card, nameLabel, null, icon, fallbackIcon, imageSize);
-
-        return card;
+    private ProductCard createDefaultProductCard(Product product) {
+        Icon icon = imageLoader.loadProductIcon(product.getBarcode(), imageSize, imageSize);
+        return ProductCard.placeholder(icon, DEFAULT_CARD_BACKGROUND, cardSize);
     }
 
     @Override
     public void onLocaleChanged() {
+        String language = localizationService.getLanguage();
+        if (!language.equals(cardLanguage)) {
+            // The cards show the product names, so they are created again in the new language
+            productCards.clear();
+            defaultProductCards.clear();
+            cardLanguage = language;
+        }
         updateProductList();
     }
 
@@ -250,9 +200,7 @@ public class ScannedItemsView extends JPanel implements PropertyChangeListener,
     @Override
     protected void paintComponent(Graphics g) {
         super.paintComponent(g);
-        if (backgroundImg != null) {
-            // Draw the background image scaled to fit the panel
-            g.drawImage(backgroundImg, 0, 0, getWidth(), getHeight(), this);
-        }
+        // Draw the background image scaled to fit the panel, resampled only when the panel is resized
+        background.paint(this, g, 0, 0, getWidth(), getHeight());
     }
 }
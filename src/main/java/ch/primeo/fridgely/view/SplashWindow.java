@@ -0,0 +1,81 @@
+package ch.primeo.fridgely.view;
+
+import ch.primeo.fridgely.config.UIConfig;
+
+import javax.swing.*;
+import java.awt.*;
+
+/**
+ * Lightweight window shown while the application starts, reporting the progress of the image preload. It draws no
+ * images and needs no Spring beans, so it can be shown before the Spring context is up.
+ */
+public final class SplashWindow {
+
+    private static final int WIDTH = 400;
+    private static final int HEIGHT = 120;
+    private static final int PADDING = 20;
+
+    // Created on the event dispatch thread by the first task posted for this splash, so later tasks see them
+    private JWindow window;
+    private JProgressBar progressBar;
+
+    private SplashWindow() {
+    }
+
+    private void create(GraphicsDevice screen) {
+        window = new JWindow(screen.getDefaultConfiguration());
+        progressBar = new JProgressBar();
+        progressBar.setStringPainted(true);
+        progressBar.setIndeterminate(true);
+
+        JLabel titleLabel = new JLabel("Fridgely", SwingConstants.CENTER);
+        titleLabel.setFont(new Font("SansSerif", Font.BOLD, UIConfig.FONT_SIZE));
+
+        JPanel panel = new JPanel(new BorderLayout(0, PADDING / 2));
+        panel.setBackground(UIConfig.BACKGROUND_COLOR);
+        panel.setBorder(BorderFactory.createCompoundBorder(BorderFactory.createLineBorder(UIConfig.ACTIVE_COLOR, 2),
+                BorderFactory.createEmptyBorder(PADDING, PADDING, PADDING, PADDING)));
+        panel.add(titleLabel, BorderLayout.CENTER);
+        panel.add(progressBar, BorderLayout.SOUTH);
+
+        window.setContentPane(panel);
+        window.setSize(WIDTH, HEIGHT);
+        Rectangle bounds = screen.getDefaultConfiguration().getBounds();
+        window.setLocation(bounds.x + (bounds.width - WIDTH) / 2, bounds.y + (bounds.height - HEIGHT) / 2);
+        window.setVisible(true);
+    }
+
+    /**
+     * Shows a splash window centered on a screen. The window is created and shown on the event dispatch thread, so
+     * this may be called from any thread.
+     *
+     * @param screen the screen to show the window on
+     * @return the splash window
+     */
+    public static SplashWindow showOn(GraphicsDevice screen) {
+        SplashWindow splash = new SplashWindow();
+        SwingUtilities.invokeLater(() -> splash.create(screen));
+        return splash;
+    }
+
+    /**
+     * Updates the progress bar. May be called from any thread.
+     *
+     * @param loaded the number of finished preload tasks
+     * @param total  the number of all preload tasks
+     */
+    public void onProgress(int loaded, int total) {
+        SwingUtilities.invokeLater(() -> {
+            progressBar.setIndeterminate(false);
+            progressBar.setMaximum(total);
+            progressBar.setValue(loaded);
+        });
+    }
+
+    /**
+     * Closes the window. May be called from any thread.
+     */
+    public void close() {
+        SwingUtilities.invokeLater(() -> window.dispose());
+    }
+}
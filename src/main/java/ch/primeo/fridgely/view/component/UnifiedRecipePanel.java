@@ -5,32 +5,42 @@ import ch.primeo.fridgely.controller.multiplayer.MultiplayerGameController;
 import ch.primeo.fridgely.model.*;
 import ch.primeo.fridgely.service.localization.AppLocalizationService;
 import ch.primeo.fridgely.util.ImageLoader;
+import ch.primeo.fridgely.view.util.VirtualList;
 import lombok.Setter;
 
 import javax.swing.*;
+import javax.swing.border.Border;
 import java.awt.*;
 import java.util.*;
 import java.util.List;
 
 /**
  * A unified panel that displays recipes with their ingredients inline. This combines the recipe list and ingredient
- * details into a single view with lazy loading for improved performance.
+ * details into a single view. Only the visible recipes have a card, and cards scrolled out of view are reused for the
+ * recipes scrolled into view, so long recipe lists cost no more than short ones.
  */
 public class UnifiedRecipePanel extends JPanel {
 
     private final int INGREDIENT_ICON_SIZE = 75; // Size of ingredient icons
+    private static final int RECIPE_CARD_HEIGHT = 150;
+    private static final int RECIPE_CARD_GAP = 10;
+    private static final Color CARD_BORDER_COLOR = Color.LIGHT_GRAY;
+    private static final Color SELECTED_CARD_BORDER_COLOR = new Color(100, 149, 237);
+    private static final Border CARD_BORDER = BorderFactory.createCompoundBorder(
+            BorderFactory.createLineBorder(CARD_BORDER_COLOR, 1, true),
+            BorderFactory.createEmptyBorder(10, 10, 10, 10));
+    private static final Border SELECTED_CARD_BORDER = BorderFactory.createCompoundBorder(
+            BorderFactory.createLineBorder(SELECTED_CARD_BORDER_COLOR, 2, true),
+            BorderFactory.createEmptyBorder(10, 10, 10, 10));
     private final MultiplayerGameController gameController;
     private final RecipeModel recipeModel;
 
     // View components
-    private final JPanel recipesViewport;  // Contains the visible recipe cards
+    private final VirtualList<Recipe, RecipeCard> recipesViewport;  // Contains the visible recipe cards
     private final JScrollPane scrollPane;  // Main scroll container
 
     private Recipe selectedRecipe;
 
-    // Lazy loading support
-    private final Map<Recipe, JPanel> loadedRecipeCards;
-
     private final ImageLoader imageLoader;
 
     //Y-coordinate for mouse dragging/touchscrolling
@@ -49,7 +59,6 @@ public class UnifiedRecipePanel extends JPanel {
                               ImageLoader imageLoader, AppLocalizationService localizationService) {
         this.gameController = controller;
         this.recipeModel = gameController.getRecipeModel();
-        this.loadedRecipeCards = new HashMap<>();
         this.imageLoader = imageLoader;
         this.localizationService = localizationService;
 
@@ -57,8 +66,7 @@ public class UnifiedRecipePanel extends JPanel {
         setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
 
         // Create a panel to hold the visible recipe cards
-        recipesViewport = new JPanel();
-        recipesViewport.setLayout(new BoxLayout(recipesViewport, BoxLayout.Y_AXIS));
+        recipesViewport = new VirtualList<>(RECIPE_CARD_HEIGHT, RECIPE_CARD_GAP, RecipeCard::new, RecipeCard::bind);
 
         // Add scrolling to handle many recipes
         scrollPane = new JScrollPane(recipesViewport);
@@ -68,9 +76,6 @@ public class UnifiedRecipePanel extends JPanel {
         scrollPane.setVerticalScrollBar(scrollBar);
         scrollPane.setBorder(BorderFactory.createEmptyBorder());
 
-        // Implement lazy loading when scrolling
-        scrollPane.getViewport().addChangeListener(e -> SwingUtilities.invokeLater(this::checkVisibleRecipes));
-
         // Add mouse dragging support for touch devices
         scrollPane.getViewport().addMouseMotionListener(new java.awt.event.MouseMotionAdapter() {
             @Override
@@ -116,205 +121,32 @@ public class UnifiedRecipePanel extends JPanel {
      * Updates the recipe list with the current recipes from the model. This clears and reloads the entire list.
      */
     public void updateRecipeList() {
-        // Get fresh recipe data and randomize
-        List<Product> productsInStorage = gameController.getFridgeStockModel().getProducts();
-        // Recipe data
-        List<Recipe> possibleRecipes = new ArrayList<>(recipeModel.getPossibleRecipes(productsInStorage));
+        // Get fresh recipe data for the tracked fridge stock and randomize
+        List<Recipe> possibleRecipes = new ArrayList<>(recipeModel.getPossibleRecipes());
         Collections.shuffle(possibleRecipes);  // Randomize recipe order
         updateRecipeList(possibleRecipes);
     }
 
     public void updateRecipeList(List<Recipe> recipes) {
-        // Clear old data
-        recipesViewport.removeAll();
-        loadedRecipeCards.clear();
-
-        // Create placeholder panels for each recipe
-        for (Recipe recipe : recipes) {
-            JPanel placeholder = createRecipePlaceholder(recipe);
-            recipesViewport.add(placeholder);
-            recipesViewport.add(Box.createRigidArea(new Dimension(0, 10)));
-        }
-
         // Reset selection
         selectedRecipe = null;
 
-        // Update UI
+        // Cards are created for the visible recipes only
+        recipesViewport.setItems(recipes);
         revalidate();
         repaint();
-
-        // Check visible recipes after layout is complete
-        SwingUtilities.invokeLater(this::checkVisibleRecipes);
     }
 
-
     /**
-     * Creates a lightweight placeholder panel for a recipe. This will be replaced with the full card when it becomes
-     * visible.
-     *
-     * @param recipe the recipe to create a placeholder for
-     * @return a placeholder panel
-     */
-    private JPanel createRecipePlaceholder(Recipe recipe) {
-        JPanel placeholder = new JPanel(new BorderLayout());
-        placeholder.setPreferredSize(new Dimension(500, 150));  // Approximate size of actual card
-        placeholder.putClientProperty("recipe", recipe);        // Store reference to recipe
-        placeholder.setOpaque(false);
-        return placeholder;
-    }
-
-    /**
-     * Checks which recipes are currently visible and loads their full content. This is called when the viewport changes
-     * due to scrolling.
-     */
-    private void checkVisibleRecipes() {
-        Rectangle viewRect = scrollPane.getViewport().getViewRect();
-        Component[] components = recipesViewport.getComponents();
-
-        for (Component comp : components) {
-            if (!(comp instanceof JPanel panel) || panel.getClientProperty("recipe") == null) {
-                continue;  // Skip non-recipe panels (like spacers)
-            }
-
-            Recipe recipe = (Recipe) panel.getClientProperty("recipe");
-
-            // Check if this panel is in the visible area
-            Rectangle panelRect = panel.getBounds();
-            boolean isVisible = viewRect.intersects(panelRect);
-
-            // Load full content if visible and not already loaded
-            if (isVisible && !loadedRecipeCards.containsKey(recipe)) {
-                JPanel fullCard = createRecipeCard(recipe);
-                loadedRecipeCards.put(recipe, fullCard);
-
-                // Replace placeholder with full card
-                int index = Arrays.asList(components).indexOf(panel);
-                if (index >= 0 && index < components.length) {
-                    recipesViewport.remove(index);
-                    recipesViewport.add(fullCard, index);
-
-                    // Apply selection if this is the selected recipe
-                    if (recipe.equals(selectedRecipe)) {
-                        highlightSelectedCard(fullCard);
-                    }
-                }
-            }
-        }
-
-        recipesViewport.revalidate();
-        recipesViewport.repaint();
-    }
-
-    /**
-     * Creates a card-like panel for a single recipe with its ingredients.
-     *
-     * @param recipe the recipe to create a card for
-     * @return a panel containing the recipe information and ingredients
-     */
-    private JPanel createRecipeCard(Recipe recipe) {
-        JPanel card = new JPanel(new BorderLayout(5, 10));
-        card.putClientProperty("recipe", recipe);  // Store reference to recipe
-        card.setBorder(BorderFactory.createCompoundBorder(BorderFactory.createLineBorder(Color.LIGHT_GRAY, 1, true),
-                BorderFactory.createEmptyBorder(10, 10, 10, 10)));
-
-        // Create header panel with recipe name (no select button)
-        JPanel headerPanel = new JPanel(new BorderLayout(5, 0));
-
-        // Recipe title
-        JLabel titleLabel = new JLabel(recipe.getName(localizationService.getLanguage()));
-        headerPanel.add(titleLabel, BorderLayout.CENTER);
-
-
-        // Create ingredients panel
-        JPanel ingredientsPanel = createIngredientsPanel(recipe);
-
-
-        // Assemble the card
-        JPanel contentPanel = new JPanel(new BorderLayout(0, 10));
-        contentPanel.setOpaque(false);
-        contentPanel.add(ingredientsPanel, BorderLayout.CENTER);
-
-        card.add(headerPanel, BorderLayout.NORTH);
-        card.add(contentPanel, BorderLayout.CENTER);
-
-        // Add click behavior to select this recipe
-        card.addMouseListener(new java.awt.event.MouseAdapter() {
-            @Override
-            public void mouseClicked(java.awt.event.MouseEvent e) {
-                setSelectedRecipe(recipe);
-                if (recipeSelectionListener != null) {
-                    recipeSelectionListener.recipeSelected(recipe);
-                }
-            }
-        });
-
-        // Add scroll behavior to the card
-        card.addMouseMotionListener(new java.awt.event.MouseMotionAdapter() {
-            @Override
-            public void mouseDragged(java.awt.event.MouseEvent e) {
-                scrollPane.getViewport().dispatchEvent(SwingUtilities.convertMouseEvent(card, e,
-                        scrollPane.getViewport()));
-            }
-        });
-        // Add mouse press to start dragging
-        card.addMouseListener(new java.awt.event.MouseAdapter() {
-            @Override
-            public void mousePressed(java.awt.event.MouseEvent e) {
-                scrollPane.getViewport().dispatchEvent(SwingUtilities.convertMouseEvent(card, e,
-                        scrollPane.getViewport()));
-            }
-        });
-
-
-        return card;
-    }
-
-    /**
-     * Creates a panel showing all ingredients for a recipe, with availability status.
-     *
-     * @param recipe the recipe to show ingredients for
-     * @return a panel containing the ingredient information
-     */
-    private JPanel createIngredientsPanel(Recipe recipe) {
-        JPanel panel = new JPanel();
-        panel.setLayout(new FlowLayout(FlowLayout.LEFT, 10, 10));
-
-        // Get ingredients for the recipe
-        List<Product> productsInRecipe = recipe.getProducts();
-
-        //Load product image
-        for (Product product : productsInRecipe) {
-            // Load the image icon for the ingredient
-            ImageIcon icon = getProductImageIcon(product.getBarcode());
-
-            JLabel imageLabel = new JLabel(icon);
-            imageLabel.setPreferredSize(new Dimension(INGREDIENT_ICON_SIZE, INGREDIENT_ICON_SIZE));
-
-            panel.add(imageLabel);
-        }
-
-        return panel;
-    }
-
-
-    /**
-     * Gets an image icon for a product barcode, with caching.
+     * Gets an image icon for a product barcode, with caching. A cache miss does not block the EDT: the icon shows a
+     * placeholder until the image is loaded.
      *
      * @param barcode the product barcode
      * @return an image icon for the product
      */
-    private ImageIcon getProductImageIcon(String barcode) {
-        // Try to load from product images folder
-        ImageIcon icon = imageLoader.loadScaledImage("/ch/primeo/fridgely/productimages/" + barcode + ".png",
-                INGREDIENT_ICON_SIZE, INGREDIENT_ICON_SIZE);
-
-        if (icon == null) {
-            // If not found, try the default image
-            icon = imageLoader.loadScaledImage("/ch/primeo/fridgely/productimages/notfound.png", INGREDIENT_ICON_SIZE
-                    , INGREDIENT_ICON_SIZE);
-        }
-
-        return icon;
+    private Icon getProductImageIcon(String barcode) {
+        // Looked up by asset handle, falls back to the default image if the product has none
+        return imageLoader.loadProductIcon(barcode, INGREDIENT_ICON_SIZE, INGREDIENT_ICON_SIZE);
     }
 
     /**
@@ -327,33 +159,92 @@ public class UnifiedRecipePanel extends JPanel {
             // Already selected, do nothing
             return;
         }
-        Recipe oldSelection = this.selectedRecipe;
         this.selectedRecipe = recipe;
 
-        // Update UI for previously selected card if loaded
-        if (oldSelection != null && loadedRecipeCards.containsKey(oldSelection)) {
-            JPanel oldCard = loadedRecipeCards.get(oldSelection);
-            oldCard.setBackground(UIManager.getColor("Panel.background"));
-            oldCard.setBorder(
-                    BorderFactory.createCompoundBorder(BorderFactory.createLineBorder(Color.LIGHT_GRAY, 1, true),
-                            BorderFactory.createEmptyBorder(10, 10, 10, 10)));
-        }
-
-        // Update UI for newly selected card if loaded
-        if (recipe != null && loadedRecipeCards.containsKey(recipe)) {
-            JPanel newCard = loadedRecipeCards.get(recipe);
-            highlightSelectedCard(newCard);
-        }
+        // Only the visible recipes have a card to update
+        recipesViewport.refresh();
     }
 
     /**
-     * Highlights a recipe card to show it's selected.
-     *
-     * @param card the card to highlight
+     * Card of a recipe with its ingredients. Cards are reused for other recipes while scrolling, so everything shown
+     * depends on the recipe last bound.
      */
-    private void highlightSelectedCard(JPanel card) {
-        card.setBorder(
-                BorderFactory.createCompoundBorder(BorderFactory.createLineBorder(new Color(100, 149, 237), 2, true),
-                BorderFactory.createEmptyBorder(10, 10, 10, 10)));
+    private final class RecipeCard extends JPanel {
+
+        private final JLabel titleLabel = new JLabel();
+        private final JPanel ingredientsPanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 10, 10));
+        private Recipe recipe;
+
+        private RecipeCard() {
+            super(new BorderLayout(5, 10));
+
+            // Create header panel with recipe name (no select button)
+            JPanel headerPanel = new JPanel(new BorderLayout(5, 0));
+            headerPanel.add(titleLabel, BorderLayout.CENTER);
+
+            // Assemble the card
+            JPanel contentPanel = new JPanel(new BorderLayout(0, 10));
+            contentPanel.setOpaque(false);
+            contentPanel.add(ingredientsPanel, BorderLayout.CENTER);
+
+            add(headerPanel, BorderLayout.NORTH);
+            add(contentPanel, BorderLayout.CENTER);
+
+            // Add click behavior to select this recipe
+            addMouseListener(new java.awt.event.MouseAdapter() {
+                @Override
+                public void mouseClicked(java.awt.event.MouseEvent e) {
+                    setSelectedRecipe(recipe);
+                    if (recipeSelectionListener != null) {
+                        recipeSelectionListener.recipeSelected(recipe);
+                    }
+                }
+
+                // Start dragging
+                @Override
+                public void mousePressed(java.awt.event.MouseEvent e) {
+                    scrollPane.getViewport().dispatchEvent(SwingUtilities.convertMouseEvent(RecipeCard.this, e,
+                            scrollPane.getViewport()));
+                }
+            });
+
+            // Add scroll behavior to the card
+            addMouseMotionListener(new java.awt.event.MouseMotionAdapter() {
+                @Override
+                public void mouseDragged(java.awt.event.MouseEvent e) {
+                    scrollPane.getViewport().dispatchEvent(SwingUtilities.convertMouseEvent(RecipeCard.this, e,
+                            scrollPane.getViewport()));
+                }
+            });
+        }
+
+        /**
+         * Shows a recipe in this card.
+         *
+         * @param shownRecipe the recipe to show
+         */
+        private void bind(Recipe shownRecipe) {
+            recipe = shownRecipe;
+            titleLabel.setText(recipe.getName(localizationService.getLanguage()));
+            setBorder(recipe.equals(selectedRecipe) ? SELECTED_CARD_BORDER : CARD_BORDER);
+
+            // Reuse the ingredient labels of the previous recipe, hiding the ones not needed
+            List<Product> productsInRecipe = recipe.getProducts();
+            for (int i = 0; i < productsInRecipe.size(); i++) {
+                JLabel imageLabel;
+                if (i < ingredientsPanel.getComponentCount()) {
+                    imageLabel = (JLabel) ingredientsPanel.getComponent(i);
+                } else {
+                    imageLabel = new JLabel();
+                    imageLabel.setPreferredSize(new Dimension(INGREDIENT_ICON_SIZE, INGREDIENT_ICON_SIZE));
+                    ingredientsPanel.add(imageLabel);
+                }
+                imageLabel.setIcon(getProductImageIcon(productsInRecipe.get(i).getBarcode()));
+                imageLabel.setVisible(true);
+            }
+            for (int i = productsInRecipe.size(); i < ingredientsPanel.getComponentCount(); i++) {
+                ingredientsPanel.getComponent(i).setVisible(false);
+            }
+        }
     }
 }
@@ -9,6 +9,7 @@ import ch.primeo.fridgely.view.component.ControlButton;
 import javax.swing.*;
 import java.awt.*;
 import java.beans.*;
+import java.util.Objects;
 
 public class MultiplayerEndGameView extends JPanel implements PropertyChangeListener, LocalizationObserver {
 
@@ -44,10 +45,9 @@ public class MultiplayerEndGameView extends JPanel implements PropertyChangeList
         penguinImageLabel = new JLabel();
         penguinImageLabel.setHorizontalAlignment(SwingConstants.CENTER);
         try {
-            ImageIcon penguinIcon =
-                    imageLoader.loadImage(PenguinHPState.fromHP(gameController.getGameStateModel().getScore()).getSpritePath());
-            Image scaledImage = penguinIcon.getImage().getScaledInstance(350, 350, Image.SCALE_SMOOTH);
-            penguinImageLabel.setIcon(new ImageIcon(scaledImage));
+            ImageIcon penguinIcon = imageLoader.loadScaledImage(
+                    PenguinHPState.fromHP(gameController.getGameStateModel().getScore()).getSpritePath(), 350, 350);
+            penguinImageLabel.setIcon(Objects.requireNonNull(penguinIcon));
         } catch (Exception e) {
             penguinImageLabel.setText("Penguin Image Placeholder");
         }
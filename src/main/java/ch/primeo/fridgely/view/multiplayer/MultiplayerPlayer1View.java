@@ -12,7 +12,6 @@ import ch.primeo.fridgely.view.component.ControlButton;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.KeyEvent;
-import java.awt.image.BufferedImage;
 import java.beans.*;
 
 /**
@@ -42,6 +41,9 @@ public class MultiplayerPlayer1View extends JPanel implements PropertyChangeList
     private final AppLocalizationService localizationService;
     private final ImageLoader imageLoader;
     private final PenguinReactionOverlay overlay;
+    private final KeyEventDispatcher barcodeDispatcher = new BarcodeDispatcher();
+    private ScanPipeline scanPipeline;
+    private int pendingScans = 0;
     private JLabel scanPromptLabel;
     private JLabel scanningPenguinLabel;
     private String scanPromptBase;
@@ -131,32 +133,6 @@ public class MultiplayerPlayer1View extends JPanel implements PropertyChangeList
             requestFocusInWindow();
         });
 
-        // Instead, use a KeyEventDispatcher for global key capture
-        KeyboardFocusManager.getCurrentKeyboardFocusManager().addKeyEventDispatcher(new KeyEventDispatcher() {
-            private final StringBuilder barcodeBuffer = new StringBuilder();
-
-            @Override
-            public boolean dispatchKeyEvent(KeyEvent e) {
-                if (e.getID() != KeyEvent.KEY_PRESSED) {
-                    return false;
-                }
-
-                if (e.getKeyCode() == KeyEvent.VK_ENTER) {
-                    String barcode = barcodeBuffer.toString().trim();
-                    barcodeBuffer.setLength(0);
-                    if (!barcode.isEmpty()) {
-                        scanBarcode(barcode);
-                    }
-                } else {
-                    char c = e.getKeyChar();
-                    if (!Character.isISOControl(c)) {
-                        barcodeBuffer.append(c);
-                    }
-                }
-                return false; // Let other components also process the event
-            }
-        });
-
         // Set focus to this panel by default to be ready for scanner input
         requestFocusInWindow();
 
@@ -169,18 +145,52 @@ public class MultiplayerPlayer1View extends JPanel implements PropertyChangeList
         });
     }
 
+    /**
+     * Starts the scan pipeline and the global barcode capture once the view is displayed.
+     */
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        scanPipeline = new ScanPipeline(player1Controller);
+        KeyboardFocusManager.getCurrentKeyboardFocusManager().addKeyEventDispatcher(barcodeDispatcher);
+    }
+
+    /**
+     * Stops the barcode capture and the worker of the scan pipeline when the view is removed, e.g. when the game
+     * frame is disposed, so finished games neither keep a worker nor receive scans.
+     */
+    @Override
+    public void removeNotify() {
+        KeyboardFocusManager.getCurrentKeyboardFocusManager().removeKeyEventDispatcher(barcodeDispatcher);
+        scanPipeline.close();
+        scanPipeline = null;
+        super.removeNotify();
+    }
+
     /**
      * Scans a product based on the barcode in the barcode field. Optimized for barcode scanner input which sends
-     * barcode as keyboard input followed by Enter key. Toggles the product: adds it if not in stock or removes it if
-     * already in stock.
+     * barcode as keyboard input followed by Enter key. The product is looked up off the event dispatch thread, so the
+     * key handling returns right away; the results are applied in scan order by {@link #applyScan}.
      */
     private void scanBarcode(String barcode) {
-        System.out.println("[DEBUG] scanBarcode called with: '" + barcode + "'");
+        pendingScans++;
         setCursor(java.awt.Cursor.getPredefinedCursor(java.awt.Cursor.WAIT_CURSOR));
-
         statusLabel.setText(localizationService.get(KEY_SCANNING_PRODUCT));
 
-        Product product = player1Controller.scanProduct(barcode);
+        scanPipeline.submit(barcode, this::applyScan);
+    }
+
+    /**
+     * Applies a looked up scan to the game. Toggles the product: adds it if not in stock or removes it if already in
+     * stock.
+     *
+     * @param barcode the scanned barcode
+     * @param scanned the product of the barcode, or null if it is unknown
+     */
+    private void applyScan(String barcode, Product scanned) {
+        pendingScans--;
+        // Looked up products only change the models on the event dispatch thread, where their listeners run
+        Product product = player1Controller.addScannedProduct(scanned);
         // If product not null --> product was added to fridge
         if (product != null) {
             String language = localizationService.getLanguage();
@@ -193,17 +203,14 @@ public class MultiplayerPlayer1View extends JPanel implements PropertyChangeList
 
             // Addition
             statusLabel.setText(String.format(localizationService.get(KEY_ADDED_TO_STOCK_FMT), productName));
-            overlay.showAndAutoHide(reaction, product);
-            System.out.println("[DEBUG] continue");
-
-            // java.awt.Toolkit.getDefaultToolkit().beep();
-
             // Show penguin reaction overlay
-
+            overlay.showAndAutoHide(reaction, product);
         } else {
             statusLabel.setText(String.format(localizationService.get(KEY_PRODUCT_NOT_FOUND_FMT), barcode));
         }
-        setCursor(java.awt.Cursor.getDefaultCursor());
+        if (pendingScans == 0) {
+            setCursor(java.awt.Cursor.getDefaultCursor());
+        }
         updateComponentStates();
         requestFocusInWindow();
     }
@@ -253,11 +260,9 @@ public class MultiplayerPlayer1View extends JPanel implements PropertyChangeList
         contentPanel.setOpaque(false);
 
         // Load and display disappointed penguin image
-        BufferedImage penguinImage = imageLoader.loadBufferedImage(PenguinFacialExpression.DISAPPOINTED.getSprite());
-        if (penguinImage != null) {
-            // Scale the image to appropriate size
-            Image scaledImage = penguinImage.getScaledInstance(120, 120, Image.SCALE_SMOOTH);
-            JLabel penguinLabel = new JLabel(new ImageIcon(scaledImage));
+        ImageIcon penguinIcon = imageLoader.loadScaledImage(PenguinFacialExpression.DISAPPOINTED.getSprite(), 120, 120);
+        if (penguinIcon != null) {
+            JLabel penguinLabel = new JLabel(penguinIcon);
             penguinLabel.setHorizontalAlignment(SwingConstants.CENTER);
             contentPanel.add(penguinLabel, BorderLayout.WEST);
         }
@@ -385,4 +390,33 @@ public class MultiplayerPlayer1View extends JPanel implements PropertyChangeList
         minProductsLabel.setText(String.format(localizationService.get(KEY_MIN_PRODUCTS_INITIAL_FMT),
                 GameConfig.MIN_PRODUCTS_PER_ROUND));
     }
+
+    /**
+     * Collects the keystrokes of the barcode scanner, which types a barcode followed by Enter.
+     */
+    private final class BarcodeDispatcher implements KeyEventDispatcher {
+
+        private final StringBuilder barcodeBuffer = new StringBuilder();
+
+        @Override
+        public boolean dispatchKeyEvent(KeyEvent e) {
+            if (e.getID() != KeyEvent.KEY_PRESSED) {
+                return false;
+            }
+
+            if (e.getKeyCode() == KeyEvent.VK_ENTER) {
+                String barcode = barcodeBuffer.toString().trim();
+                barcodeBuffer.setLength(0);
+                if (!barcode.isEmpty()) {
+                    scanBarcode(barcode);
+                }
+            } else {
+                char c = e.getKeyChar();
+                if (!Character.isISOControl(c)) {
+                    barcodeBuffer.append(c);
+                }
+            }
+            return false; // Let other components also process the event
+        }
+    }
 }
@@ -0,0 +1,116 @@
+package ch.primeo.fridgely.view.util;
+
+import javax.swing.*;
+import java.awt.*;
+import java.util.*;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Keeps the cards of a panel in sync with a list of items, keyed by an item identity such as the barcode. Instead of
+ * rebuilding every card, only the cards of new items are created, cards of removed items are dropped and existing cards
+ * are moved only if their position changed. Afterwards only the panel is laid out again and only the region from the
+ * first changed card on is repainted, so adding an item to the end costs the work of a single card. Only used on the
+ * event dispatch thread.
+ *
+ * @param <T> the type of the items shown as cards
+ */
+public final class CardReconciler<T> {
+
+    private final JPanel panel;
+    private final Function<T, String> keyOf;
+    private final Function<T, ? extends Component> cardFactory;
+    private final Map<String, Component> cards = new HashMap<>();
+
+    /**
+     * Creates a reconciler. The panel must contain no other components.
+     *
+     * @param panel       the panel holding the cards
+     * @param keyOf       the identity of an item, unique within the list
+     * @param cardFactory creates the card of an item
+     */
+    public CardReconciler(JPanel panel, Function<T, String> keyOf, Function<T, ? extends Component> cardFactory) {
+        this.panel = panel;
+        this.keyOf = keyOf;
+        this.cardFactory = cardFactory;
+    }
+
+    /**
+     * Updates the cards to show the given items in the given order.
+     *
+     * @param items the items to show
+     * @return true if any card was added, removed or moved
+     */
+    public boolean reconcile(List<T> items) {
+        Map<String, T> wanted = new LinkedHashMap<>();
+        for (T item : items) {
+            wanted.putIfAbsent(keyOf.apply(item), item);
+        }
+
+        int firstChanged = Integer.MAX_VALUE;
+
+        Iterator<Map.Entry<String, Component>> existing = cards.entrySet().iterator();
+        while (existing.hasNext()) {
+            Map.Entry<String, Component> entry = existing.next();
+            if (!wanted.containsKey(entry.getKey())) {
+                Component card = entry.getValue();
+                firstChanged = Math.min(firstChanged, indexOf(card));
+                panel.remove(card);
+                existing.remove();
+            }
+        }
+
+        int index = 0;
+        for (Map.Entry<String, T> entry : wanted.entrySet()) {
+            Component card = cards.get(entry.getKey());
+            if (card == null) {
+                card = cardFactory.apply(entry.getValue());
+                cards.put(entry.getKey(), card);
+                panel.add(card, index);
+                firstChanged = Math.min(firstChanged, index);
+            } else if (panel.getComponent(index) != card) {
+                // Adding a child again moves it
+                panel.add(card, index);
+                firstChanged = Math.min(firstChanged, index);
+            }
+            index++;
+        }
+
+        if (firstChanged == Integer.MAX_VALUE) {
+            return false;
+        }
+        layOut(firstChanged);
+        return true;
+    }
+
+    /**
+     * Drops all cards, e.g. after the language changed, so the next {@link #reconcile} creates them again.
+     */
+    public void clear() {
+        if (cards.isEmpty()) {
+            return;
+        }
+        cards.clear();
+        panel.removeAll();
+        panel.revalidate();
+        panel.repaint();
+    }
+
+    private void layOut(int firstChanged) {
+        // Cards in a flow only move from the first changed one on. The cards before it keep their bounds, so the row
+        // of the last unchanged card is the first one that can change, including the old bounds of moved cards.
+        int top = firstChanged == 0 ? 0 : panel.getComponent(firstChanged - 1).getY();
+        // Lays out the panel and the new cards only, and its parent if the panel has to grow or shrink
+        panel.revalidate();
+        panel.repaint(0, top, panel.getWidth(), Math.max(0, panel.getHeight() - top));
+    }
+
+    private int indexOf(Component card) {
+        for (int i = 0; i < panel.getComponentCount(); i++) {
+            if (panel.getComponent(i) == card) {
+                return i;
+            }
+        }
+        return Integer.MAX_VALUE;
+    }
+}
@@ -28,8 +28,10 @@ public class DialogBox extends JPanel {
     private final PenguinHPState penguinHPState;
     private BufferedImage penguinImage;
     private BufferedImage penguinHPImage;
-    private BufferedImage dialogArrowUp;
-    private BufferedImage dialogArrowDown;
+    // Kept scaled to the painted size, so the arrow animation repaints without resampling
+    private PrescaledImage penguinSprite;
+    private PrescaledImage dialogArrowUp;
+    private PrescaledImage dialogArrowDown;
     private boolean showArrowUp = true;
     private final Timer arrowAnimationTimer;
     private Runnable onCompleteCallback; // Made non-final to be replaced by showDialog
@@ -42,6 +44,8 @@ public class DialogBox extends JPanel {
     private static final int HP_IMAGE_SIZE = 600; // New constant for HP image size
     private static final int SKIP_BUTTON_WIDTH = 220;
     private static final int SKIP_BUTTON_HEIGHT = 40;
+    private static final String ARROW_UP_PATH = "/ch/primeo/fridgely/vectors/dialog_arrow_up.png";
+    private static final String ARROW_DOWN_PATH = "/ch/primeo/fridgely/vectors/dialog_arrow_down.png";
 
     private final ImageLoader imageLoader;
 
@@ -140,6 +144,21 @@ public class DialogBox extends JPanel {
         }
     }
 
+    /**
+     * Loads the images of a dialog box into the cache ahead of time, so the dialog opens without decoding.
+     *
+     * @param imageLoader the image loader to fill
+     * @param expression  the penguin facial expression the dialog will show
+     * @param state       the penguin HP state the dialog will show
+     */
+    public static void preloadAssets(ImageLoader imageLoader, PenguinFacialExpression expression,
+                                     PenguinHPState state) {
+        imageLoader.loadBufferedImage(expression.getSprite());
+        imageLoader.loadBufferedImage(state.getSpritePath());
+        imageLoader.loadBufferedImage(ARROW_UP_PATH);
+        imageLoader.loadBufferedImage(ARROW_DOWN_PATH);
+    }
+
     /**
      * Loads images for the dialog box, penguin, HP, and arrows.
      */
@@ -149,6 +168,8 @@ public class DialogBox extends JPanel {
         penguinImage = imageLoader.loadBufferedImage(spritePath);
         if (penguinImage == null) {
             System.err.println("Could not find Penguin sprite: " + spritePath);
+        } else {
+            penguinSprite = new PrescaledImage(penguinImage);
         }
 
         // Load HP image
@@ -159,16 +180,18 @@ public class DialogBox extends JPanel {
         }
 
         // Load dialog box background images with arrows
-        String arrowUpPath = "/ch/primeo/fridgely/vectors/dialog_arrow_up.png";
-        dialogArrowUp = imageLoader.loadBufferedImage(arrowUpPath);
-        if (dialogArrowUp == null) {
+        BufferedImage arrowUp = imageLoader.loadBufferedImage(ARROW_UP_PATH);
+        if (arrowUp == null) {
             System.err.println("Could not find dialog_arrow_up.png");
+        } else {
+            dialogArrowUp = new PrescaledImage(arrowUp);
         }
 
-        String arrowDownPath = "/ch/primeo/fridgely/vectors/dialog_arrow_down.png";
-        dialogArrowDown = imageLoader.loadBufferedImage(arrowDownPath);
-        if (dialogArrowDown == null) {
+        BufferedImage arrowDown = imageLoader.loadBufferedImage(ARROW_DOWN_PATH);
+        if (arrowDown == null) {
             System.err.println("Could not find dialog_arrow_down.png");
+        } else {
+            dialogArrowDown = new PrescaledImage(arrowDown);
         }
     }
 
@@ -218,10 +241,10 @@ public class DialogBox extends JPanel {
         g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
 
         // Draw the dialog box background based on which arrow to show
-        BufferedImage dialogBackground = showArrowUp ? dialogArrowUp : dialogArrowDown;
+        PrescaledImage dialogBackground = showArrowUp ? dialogArrowUp : dialogArrowDown;
         if (dialogBackground != null) {
             // Draw the dialog background stretched to fit the panel
-            g2d.drawImage(dialogBackground, 0, 0, width, height, null);
+            dialogBackground.paint(this, g2d, 0, 0, width, height);
         } else {
             // Fallback if dialog background not loaded
             g2d.setColor(new Color(240, 240, 250, 230));
@@ -240,8 +263,7 @@ public class DialogBox extends JPanel {
 
             // Draw the image with more right padding (increased from DIALOG_PADDING)
             int penguinXPosition = DIALOG_PADDING * 3; // Increased horizontal position
-            g2d.drawImage(penguinImage, penguinXPosition, (height - scaledHeight) / 2,
-                    scaledWidth, scaledHeight, null);
+            penguinSprite.paint(this, g2d, penguinXPosition, (height - scaledHeight) / 2, scaledWidth, scaledHeight);
         }
 
         // Draw HP image if available
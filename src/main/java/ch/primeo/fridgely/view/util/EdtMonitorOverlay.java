@@ -0,0 +1,95 @@
+package ch.primeo.fridgely.view.util;
+
+import ch.primeo.fridgely.util.EdtMonitor;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.*;
+
+/**
+ * Debug overlay showing the {@link EdtMonitor} summary in the top left corner of a frame. It has no listeners, so
+ * touches pass through to the components below. Enabled with {@link EdtMonitor#OVERLAY_PROPERTY}.
+ */
+public final class EdtMonitorOverlay extends JComponent {
+
+    private static final int REFRESH_MS = 1000;
+    private static final int PADDING = 6;
+    private static final Color BACKGROUND = new Color(0, 0, 0, 160);
+    private static final Font FONT = new Font(Font.MONOSPACED, Font.PLAIN, 12);
+
+    private final EdtMonitor monitor;
+    private final Timer timer;
+    private String text = "";
+
+    private EdtMonitorOverlay(EdtMonitor monitor) {
+        this.monitor = monitor;
+        this.timer = new Timer(REFRESH_MS, e -> refresh());
+        setFont(FONT);
+        setForeground(Color.WHITE);
+        setOpaque(false);
+    }
+
+    /**
+     * Adds an overlay to every frame opened from now on.
+     *
+     * @param monitor the monitor to show
+     */
+    public static void installOnNewFrames(EdtMonitor monitor) {
+        Toolkit.getDefaultToolkit().addAWTEventListener(event -> {
+            if (event.getID() == WindowEvent.WINDOW_OPENED && event.getSource() instanceof JFrame frame) {
+                install(frame, monitor);
+            }
+        }, AWTEvent.WINDOW_EVENT_MASK);
+    }
+
+    /**
+     * Adds an overlay to a frame.
+     *
+     * @param frame   the frame to show the overlay on
+     * @param monitor the monitor to show
+     */
+    public static void install(JFrame frame, EdtMonitor monitor) {
+        for (Component component : frame.getLayeredPane().getComponentsInLayer(JLayeredPane.DRAG_LAYER)) {
+            if (component instanceof EdtMonitorOverlay) {
+                // Frames are opened again after being disposed
+                return;
+            }
+        }
+        EdtMonitorOverlay overlay = new EdtMonitorOverlay(monitor);
+        frame.getLayeredPane().add(overlay, JLayeredPane.DRAG_LAYER);
+        overlay.refresh();
+    }
+
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        timer.start();
+    }
+
+    @Override
+    public void removeNotify() {
+        timer.stop();
+        super.removeNotify();
+    }
+
+    private void refresh() {
+        text = monitor.summary();
+        FontMetrics metrics = getFontMetrics(getFont());
+        Container parent = getParent();
+        int maxWidth = parent != null && parent.getWidth() > 0 ? parent.getWidth() : Integer.MAX_VALUE;
+        int width = Math.min(metrics.stringWidth(text) + 2 * PADDING, maxWidth);
+        setBounds(0, 0, width, metrics.getHeight() + 2 * PADDING);
+        repaint();
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        Graphics2D g2d = (Graphics2D) g.create();
+        g2d.setColor(BACKGROUND);
+        g2d.fillRect(0, 0, getWidth(), getHeight());
+        g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        g2d.setColor(getForeground());
+        g2d.drawString(text, PADDING, PADDING + g2d.getFontMetrics().getAscent());
+        g2d.dispose();
+    }
+}
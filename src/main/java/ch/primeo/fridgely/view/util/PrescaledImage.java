@@ -0,0 +1,88 @@
+package ch.primeo.fridgely.view.util;
+
+import ch.primeo.fridgely.util.ImageScaler;
+
+import java.awt.*;
+import java.awt.image.*;
+
+/**
+ * An image kept scaled to the size it is painted at. The image is resampled only when the painted size changes; every
+ * other paint is a plain copy, from an accelerated {@link VolatileImage} where the screen supports it. Meant for
+ * backgrounds and sprites repainted often at a stable size, e.g. on every animation tick. Only used on the event
+ * dispatch thread.
+ */
+public final class PrescaledImage {
+
+    private final Image source;
+    private BufferedImage scaled;
+    private VolatileImage accelerated;
+
+    /**
+     * Creates a prescaled image.
+     *
+     * @param source the full-resolution image
+     */
+    public PrescaledImage(Image source) {
+        this.source = source;
+    }
+
+    /**
+     * Paints the image scaled to the given size.
+     *
+     * @param c      the component painted on, provides the graphics configuration of the accelerated copy
+     * @param g      the graphics to paint with
+     * @param x      the x coordinate
+     * @param y      the y coordinate
+     * @param width  the painted width
+     * @param height the painted height
+     */
+    public void paint(Component c, Graphics g, int x, int y, int width, int height) {
+        if (width <= 0 || height <= 0) {
+            return;
+        }
+        if (scaled == null || scaled.getWidth() != width || scaled.getHeight() != height) {
+            scaled = ImageScaler.scale(source, width, height);
+            flushAccelerated();
+        }
+
+        GraphicsConfiguration gc = c.getGraphicsConfiguration();
+        if (gc == null) {
+            g.drawImage(scaled, x, y, null);
+            return;
+        }
+        // The accelerated copy can be lost at any time (e.g. display mode changes); restore it from the scaled image
+        do {
+            int status = accelerated != null ? accelerated.validate(gc) : VolatileImage.IMAGE_INCOMPATIBLE;
+            if (status == VolatileImage.IMAGE_INCOMPATIBLE) {
+                flushAccelerated();
+                accelerated = gc.createCompatibleVolatileImage(width, height, Transparency.TRANSLUCENT);
+                render();
+            } else if (status == VolatileImage.IMAGE_RESTORED) {
+                render();
+            }
+            g.drawImage(accelerated, x, y, null);
+        } while (accelerated.contentsLost());
+    }
+
+    /**
+     * Releases the scaled copies; the next paint scales the image again.
+     */
+    public void invalidate() {
+        scaled = null;
+        flushAccelerated();
+    }
+
+    private void render() {
+        Graphics2D g = accelerated.createGraphics();
+        g.setComposite(AlphaComposite.Src);
+        g.drawImage(scaled, 0, 0, null);
+        g.dispose();
+    }
+
+    private void flushAccelerated() {
+        if (accelerated != null) {
+            accelerated.flush();
+            accelerated = null;
+        }
+    }
+}
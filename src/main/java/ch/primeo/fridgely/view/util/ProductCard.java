@@ -0,0 +1,168 @@
+package ch.primeo.fridgely.view.util;
+
+import javax.swing.*;
+import javax.swing.border.Border;
+import java.awt.*;
+import java.awt.font.*;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Card of a product painted as a single component: the product image and, for products in stock, a framed header with
+ * the name and the tag icons. It replaces a tree of panels and labels, so a screen of cards holds one component per
+ * product. Colors and borders are shared by all cards, and the layout of the name is computed once per card and reused
+ * on every repaint.
+ */
+public final class ProductCard extends JComponent {
+
+    private static final Color BORDER_COLOR = new Color(180, 180, 180);
+    private static final Border HEADER_BORDER = BorderFactory.createLineBorder(BORDER_COLOR, 2, true);
+    private static final Border PLACEHOLDER_BORDER = BorderFactory.createDashedBorder(BORDER_COLOR, 2, 4);
+    private static final Insets HEADER_PADDING = new Insets(6, 10, 10, 10); // including the border
+    private static final Insets PLACEHOLDER_PADDING = new Insets(8, 8, 8, 8); // including the border
+    private static final int TAG_GAP = 6;
+    private static final String ELLIPSIS = "...";
+
+    private final String name;
+    private final Font nameFont;
+    private final Icon image;
+    private final List<Icon> tags;
+    private final Color background;
+    private final boolean placeholder;
+
+    private FontRenderContext nameContext;
+    private int nameWidth;
+    private GlyphVector nameGlyphs;
+
+    private ProductCard(String name, Font nameFont, Icon image, List<Icon> tags, Color background,
+                        boolean placeholder, Dimension size) {
+        this.name = name;
+        this.nameFont = nameFont;
+        this.image = image;
+        this.tags = tags;
+        this.background = background;
+        this.placeholder = placeholder;
+        setPreferredSize(size);
+        setForeground(UIManager.getColor("Label.foreground"));
+        setOpaque(false);
+    }
+
+    /**
+     * Creates the card of a product in stock, with the name and tags in a framed header above the image.
+     *
+     * @param name       the product name
+     * @param nameFont   the font of the name
+     * @param image      the product image
+     * @param tags       the tag icons shown in a row below the name
+     * @param background the translucent background of the header
+     * @param size       the size of the card
+     * @return the card
+     */
+    public static ProductCard inStock(String name, Font nameFont, Icon image, List<Icon> tags, Color background,
+                                      Dimension size) {
+        return new ProductCard(Objects.requireNonNullElse(name, ""), nameFont, image, List.copyOf(tags), background,
+                false, size);
+    }
+
+    /**
+     * Creates the card of a product not in stock, showing only the image on a translucent background with a dashed
+     * border.
+     *
+     * @param image      the product image
+     * @param background the translucent background of the card
+     * @param size       the size of the card
+     * @return the card
+     */
+    public static ProductCard placeholder(Icon image, Color background, Dimension size) {
+        return new ProductCard(null, null, image, List.of(), background, true, size);
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        Graphics2D g2d = (Graphics2D) g.create();
+        try {
+            if (placeholder) {
+                paintPlaceholder(g2d);
+            } else {
+                paintInStock(g2d);
+            }
+        } finally {
+            g2d.dispose();
+        }
+    }
+
+    private void paintPlaceholder(Graphics2D g2d) {
+        int width = getWidth();
+        int height = getHeight();
+        g2d.setColor(background);
+        g2d.fillRect(0, 0, width, height);
+        PLACEHOLDER_BORDER.paintBorder(this, g2d, 0, 0, width, height);
+        paintImage(g2d, PLACEHOLDER_PADDING.top, height - PLACEHOLDER_PADDING.bottom);
+    }
+
+    private void paintInStock(Graphics2D g2d) {
+        int width = getWidth();
+        g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        FontMetrics metrics = g2d.getFontMetrics(nameFont);
+        int tagsHeight = 0;
+        int tagsWidth = -TAG_GAP;
+        for (Icon tag : tags) {
+            tagsHeight = Math.max(tagsHeight, tag.getIconHeight());
+            tagsWidth += tag.getIconWidth() + TAG_GAP;
+        }
+        int headerHeight = HEADER_PADDING.top + metrics.getHeight() + tagsHeight + HEADER_PADDING.bottom;
+
+        g2d.setColor(background);
+        g2d.fillRect(0, 0, width, headerHeight);
+        HEADER_BORDER.paintBorder(this, g2d, 0, 0, width, headerHeight);
+
+        GlyphVector glyphs = nameGlyphs(g2d.getFontRenderContext(), width - HEADER_PADDING.left
+                - HEADER_PADDING.right);
+        g2d.setColor(getForeground());
+        float nameX = (width - (float) glyphs.getLogicalBounds().getWidth()) / 2;
+        g2d.drawGlyphVector(glyphs, nameX, HEADER_PADDING.top + metrics.getAscent());
+
+        int tagX = (width - tagsWidth) / 2;
+        int tagY = HEADER_PADDING.top + metrics.getHeight();
+        for (Icon tag : tags) {
+            tag.paintIcon(this, g2d, tagX, tagY + (tagsHeight - tag.getIconHeight()) / 2);
+            tagX += tag.getIconWidth() + TAG_GAP;
+        }
+
+        paintImage(g2d, headerHeight, getHeight());
+    }
+
+    private void paintImage(Graphics2D g2d, int top, int bottom) {
+        if (image == null) {
+            return;
+        }
+        int x = (getWidth() - image.getIconWidth()) / 2;
+        int y = top + (bottom - top - image.getIconHeight()) / 2;
+        image.paintIcon(this, g2d, x, y);
+    }
+
+    private GlyphVector nameGlyphs(FontRenderContext context, int availableWidth) {
+        // The layout only changes with the render context or the size of the card
+        if (nameGlyphs == null || nameWidth != availableWidth || !context.equals(nameContext)) {
+            nameGlyphs = layOutName(context, availableWidth);
+            nameContext = context;
+            nameWidth = availableWidth;
+        }
+        return nameGlyphs;
+    }
+
+    private GlyphVector layOutName(FontRenderContext context, int availableWidth) {
+        GlyphVector glyphs = nameFont.createGlyphVector(context, name);
+        if (glyphs.getLogicalBounds().getWidth() <= availableWidth) {
+            return glyphs;
+        }
+        // Shorten names that do not fit, like a label does
+        for (int length = name.length() - 1; length > 0; length--) {
+            glyphs = nameFont.createGlyphVector(context, name.substring(0, length).strip() + ELLIPSIS);
+            if (glyphs.getLogicalBounds().getWidth() <= availableWidth) {
+                return glyphs;
+            }
+        }
+        return nameFont.createGlyphVector(context, ELLIPSIS);
+    }
+}
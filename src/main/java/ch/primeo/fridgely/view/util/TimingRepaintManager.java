@@ -0,0 +1,91 @@
+package ch.primeo.fridgely.view.util;
+
+import ch.primeo.fridgely.util.EdtMonitor;
+
+import javax.swing.*;
+import java.awt.*;
+import java.util.*;
+import java.util.List;
+
+/**
+ * Repaint manager recording the paint time of every repainted component in an {@link EdtMonitor}. It paints the dirty
+ * components itself, one timed {@link JComponent#paintImmediately} per dirty root, after merging the dirty regions of
+ * components into the region of a dirty ancestor like the default manager does. Everything else, e.g. the repaint of
+ * whole windows, is left to the default implementation. Meant for diagnostics only, see
+ * {@link EdtMonitor#PAINT_TIMING_PROPERTY}.
+ */
+public final class TimingRepaintManager extends RepaintManager {
+
+    private final EdtMonitor monitor;
+    private final Set<JComponent> dirtyComponents = new LinkedHashSet<>(); // guarded by itself
+
+    private TimingRepaintManager(EdtMonitor monitor) {
+        this.monitor = monitor;
+    }
+
+    /**
+     * Replaces the repaint manager of the application. Must be called on the event dispatch thread.
+     *
+     * @param monitor the monitor receiving the paint times
+     */
+    public static void install(EdtMonitor monitor) {
+        RepaintManager.setCurrentManager(new TimingRepaintManager(monitor));
+    }
+
+    @Override
+    public void addDirtyRegion(JComponent c, int x, int y, int w, int h) {
+        super.addDirtyRegion(c, x, y, w, h);
+        synchronized (dirtyComponents) {
+            dirtyComponents.add(c);
+        }
+    }
+
+    @Override
+    public void paintDirtyRegions() {
+        List<JComponent> components;
+        synchronized (dirtyComponents) {
+            components = new ArrayList<>(dirtyComponents);
+            dirtyComponents.clear();
+        }
+
+        Map<JComponent, Rectangle> regions = new LinkedHashMap<>();
+        for (JComponent component : components) {
+            Rectangle region = getDirtyRegion(component);
+            if (!region.isEmpty()) {
+                regions.put(component, region);
+            }
+        }
+
+        // Paint a dirty ancestor once instead of each of its dirty descendants
+        Map<JComponent, Rectangle> roots = new LinkedHashMap<>();
+        for (Map.Entry<JComponent, Rectangle> entry : regions.entrySet()) {
+            JComponent root = entry.getKey();
+            Rectangle region = entry.getValue();
+            Component child = root;
+            Rectangle translated = new Rectangle(region);
+            for (Container parent = child.getParent(); parent instanceof JComponent ancestor;
+                 parent = parent.getParent()) {
+                translated.translate(child.getX(), child.getY());
+                child = ancestor;
+                if (regions.containsKey(ancestor)) {
+                    root = ancestor;
+                    region = new Rectangle(translated);
+                }
+            }
+            roots.merge(root, region, Rectangle::union);
+            markCompletelyClean(entry.getKey());
+        }
+
+        for (Map.Entry<JComponent, Rectangle> entry : roots.entrySet()) {
+            JComponent component = entry.getKey();
+            if (!component.isShowing()) {
+                continue;
+            }
+            long start = System.nanoTime();
+            component.paintImmediately(entry.getValue());
+            monitor.recordPaint(component.getClass(), System.nanoTime() - start);
+        }
+
+        super.paintDirtyRegions();
+    }
+}
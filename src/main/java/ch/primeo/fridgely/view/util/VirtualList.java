@@ -0,0 +1,186 @@
+package ch.primeo.fridgely.view.util;
+
+import javax.swing.*;
+import java.awt.*;
+import java.util.*;
+import java.util.List;
+import java.util.function.*;
+
+/**
+ * Vertical list of fixed-height rows meant as the view of a {@link JScrollPane}. Only the rows in the visible area plus
+ * a few rows of overscan have a component. Components of rows scrolled out of view are recycled for the rows scrolled
+ * into view, so the number of components, the memory and the work per scroll step stay constant however long the list
+ * is. Only used on the event dispatch thread.
+ *
+ * @param <T> the type of the items
+ * @param <C> the type of the row components
+ */
+public final class VirtualList<T, C extends JComponent> extends JPanel implements Scrollable {
+
+    private static final int OVERSCAN = 2;
+
+    private final int rowHeight;
+    private final int gap;
+    private final Supplier<C> cellFactory;
+    private final BiConsumer<C, T> binder;
+
+    private List<T> items = List.of();
+    // Cells by the index of the row they show
+    private final Map<Integer, C> boundCells = new HashMap<>();
+    private final Deque<C> freeCells = new ArrayDeque<>();
+
+    /**
+     * Creates an empty list.
+     *
+     * @param rowHeight   the height of every row
+     * @param gap         the space between two rows
+     * @param cellFactory creates a row component
+     * @param binder      shows an item in a row component, must reset everything set for a previous item
+     */
+    public VirtualList(int rowHeight, int gap, Supplier<C> cellFactory, BiConsumer<C, T> binder) {
+        super(null);
+        this.rowHeight = rowHeight;
+        this.gap = gap;
+        this.cellFactory = cellFactory;
+        this.binder = binder;
+        setOpaque(false);
+    }
+
+    /**
+     * Replaces the items of the list.
+     *
+     * @param newItems the items to show
+     */
+    public void setItems(List<T> newItems) {
+        items = List.copyOf(newItems);
+        releaseAll();
+        revalidate();
+        repaint();
+        updateCells();
+    }
+
+    /**
+     * Gets the items of the list.
+     *
+     * @return the items
+     */
+    public List<T> getItems() {
+        return items;
+    }
+
+    /**
+     * Shows the items of the visible rows again, e.g. after their selection or language changed.
+     */
+    public void refresh() {
+        for (Map.Entry<Integer, C> entry : boundCells.entrySet()) {
+            binder.accept(entry.getValue(), items.get(entry.getKey()));
+        }
+    }
+
+    /**
+     * Gets the number of row components, visible or free for reuse.
+     *
+     * @return the number of row components
+     */
+    public int getCellCount() {
+        return boundCells.size() + freeCells.size();
+    }
+
+    @Override
+    public Dimension getPreferredSize() {
+        if (isPreferredSizeSet()) {
+            return super.getPreferredSize();
+        }
+        Insets insets = getInsets();
+        int height = items.isEmpty() ? 0 : items.size() * (rowHeight + gap) - gap;
+        return new Dimension(insets.left + insets.right, insets.top + height + insets.bottom);
+    }
+
+    @Override
+    public void doLayout() {
+        updateCells();
+    }
+
+    @Override
+    public void setBounds(int x, int y, int width, int height) {
+        super.setBounds(x, y, width, height);
+        // A scroll pane scrolls by moving its view, so this is called on every scroll step
+        updateCells();
+    }
+
+    private void updateCells() {
+        Rectangle visible = getVisibleRect();
+        Insets insets = getInsets();
+        int stride = rowHeight + gap;
+        int first = Math.max(0, (visible.y - insets.top) / stride - OVERSCAN);
+        int last = Math.min(items.size() - 1, (visible.y + visible.height - insets.top) / stride + OVERSCAN);
+
+        // Release the rows scrolled out of view before binding the new ones, so their cells can be reused
+        Iterator<Map.Entry<Integer, C>> bound = boundCells.entrySet().iterator();
+        while (bound.hasNext()) {
+            Map.Entry<Integer, C> entry = bound.next();
+            if (entry.getKey() < first || entry.getKey() > last) {
+                release(entry.getValue());
+                bound.remove();
+            }
+        }
+
+        int width = getWidth() - insets.left - insets.right;
+        for (int index = first; index <= last; index++) {
+            C cell = boundCells.get(index);
+            if (cell == null) {
+                cell = acquire();
+                binder.accept(cell, items.get(index));
+                boundCells.put(index, cell);
+            }
+            cell.setBounds(insets.left, insets.top + index * stride, width, rowHeight);
+        }
+    }
+
+    private C acquire() {
+        C cell = freeCells.poll();
+        if (cell == null) {
+            cell = cellFactory.get();
+            add(cell);
+        }
+        cell.setVisible(true);
+        return cell;
+    }
+
+    private void release(C cell) {
+        cell.setVisible(false);
+        freeCells.push(cell);
+    }
+
+    private void releaseAll() {
+        for (C cell : boundCells.values()) {
+            release(cell);
+        }
+        boundCells.clear();
+    }
+
+    @Override
+    public Dimension getPreferredScrollableViewportSize() {
+        return getPreferredSize();
+    }
+
+    @Override
+    public int getScrollableUnitIncrement(Rectangle visibleRect, int orientation, int direction) {
+        return orientation == SwingConstants.VERTICAL ? (rowHeight + gap) / 4 : 1;
+    }
+
+    @Override
+    public int getScrollableBlockIncrement(Rectangle visibleRect, int orientation, int direction) {
+        return orientation == SwingConstants.VERTICAL ? visibleRect.height : visibleRect.width;
+    }
+
+    @Override
+    public boolean getScrollableTracksViewportWidth() {
+        return true;
+    }
+
+    @Override
+    public boolean getScrollableTracksViewportHeight() {
+        return false;
+    }
+}
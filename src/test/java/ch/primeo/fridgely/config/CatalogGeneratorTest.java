@@ -0,0 +1,136 @@
+package ch.primeo.fridgely.config;
+
+import ch.primeo.fridgely.model.*;
+import ch.primeo.fridgely.service.*;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+import org.sqlite.SQLiteDataSource;
+
+import javax.imageio.ImageIO;
+import java.nio.file.*;
+import java.sql.*;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CatalogGeneratorTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void recipes_shouldFollowIngredientDistribution() {
+        CatalogGenerator generator = new CatalogGenerator(new CatalogGenerator.Settings(20, 500,
+                CatalogGenerator.parseWeights("2:1,4:1"), 0.25, 7L));
+
+        List<Product> products = generator.products();
+        List<Recipe> recipes = generator.recipes(products);
+
+        assertEquals(20, products.size());
+        assertEquals(500, recipes.size());
+        assertEquals(1, recipes.getFirst().getRecipeId());
+        for (Recipe recipe : recipes) {
+            List<Product> ingredients = recipe.getProducts();
+            assertTrue(ingredients.size() == 2 || ingredients.size() == 4);
+            assertEquals(ingredients.size(), new HashSet<>(ingredients).size(), "Ingredients must be distinct");
+        }
+        assertTrue(recipes.stream().anyMatch(r -> r.getProducts().size() == 2));
+        assertTrue(recipes.stream().anyMatch(r -> r.getProducts().size() == 4));
+        assertTrue(products.stream().anyMatch(Product::isDefaultProduct));
+    }
+
+    @Test
+    void generate_shouldBeDeterministic() {
+        CatalogGenerator.Settings settings = CatalogGenerator.Settings.of(50, 100);
+        List<Recipe> first = new CatalogGenerator(settings).recipes(new CatalogGenerator(settings).products());
+        List<Recipe> second = new CatalogGenerator(settings).recipes(new CatalogGenerator(settings).products());
+
+        for (int i = 0; i < first.size(); i++) {
+            assertEquals(barcodes(first.get(i)), barcodes(second.get(i)));
+        }
+    }
+
+    @Test
+    void settings_shouldRejectMoreIngredientsThanProducts() {
+        SortedMap<Integer, Integer> weights = CatalogGenerator.parseWeights("2:1,8:1");
+
+        assertThrows(IllegalArgumentException.class, () -> new CatalogGenerator.Settings(5, 10, weights, 0.1, 1L));
+    }
+
+    @Test
+    void writeSqlScript_shouldBeLoadableByDataLoader() throws Exception {
+        SQLiteDataSource dataSource = emptySchema();
+        Path script = tempDir.resolve("catalog.sql");
+        CatalogGenerator generator = new CatalogGenerator(CatalogGenerator.Settings.of(60, 1200));
+        generator.writeSqlScript(script);
+
+        ProductCatalog productCatalog = mock(ProductCatalog.class);
+        new DataLoader(dataSource, productCatalog, new SeedDatabase(dataSource, "file:" + script),
+                mock(EntityCache.class), "file:" + script.toAbsolutePath()).run();
+
+        assertEquals(60, count(dataSource, "product"));
+        assertEquals(1200, count(dataSource, "recipe"));
+        assertEquals(ingredientCount(generator), count(dataSource, "recipe_ingredient"));
+        verify(productCatalog).invalidate();
+    }
+
+    @Test
+    void insert_shouldBulkLoadCatalog() throws Exception {
+        SQLiteDataSource dataSource = emptySchema();
+        CatalogGenerator generator = new CatalogGenerator(CatalogGenerator.Settings.of(100, 25_000));
+
+        generator.insert(dataSource);
+
+        assertEquals(100, count(dataSource, "product"));
+        assertEquals(25_000, count(dataSource, "recipe"));
+        assertEquals(ingredientCount(generator), count(dataSource, "recipe_ingredient"));
+    }
+
+    @Test
+    void writePlaceholderImages_shouldWriteImagePerProduct() throws Exception {
+        CatalogGenerator generator = new CatalogGenerator(CatalogGenerator.Settings.of(12, 0));
+
+        int written = generator.writePlaceholderImages(tempDir);
+
+        assertEquals(12, written);
+        Path image = tempDir.resolve(CatalogGenerator.PRODUCT_IMAGE_DIR).resolve(CatalogGenerator.barcode(11) + ".png");
+        assertNotNull(ImageIO.read(image.toFile()));
+        assertEquals("/" + tempDir.relativize(image).toString().replace('\\', '/'),
+                generator.products().get(11).getProductImagePath());
+    }
+
+    private SQLiteDataSource emptySchema() throws Exception {
+        Path db = tempDir.resolve("catalog.db");
+        SeedDatabaseBuilder.build(db);
+
+        SQLiteDataSource dataSource = new SQLiteDataSource();
+        dataSource.setUrl("jdbc:sqlite:" + db.toAbsolutePath());
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.executeUpdate("DELETE FROM recipe_ingredient");
+            statement.executeUpdate("DELETE FROM recipe");
+            statement.executeUpdate("DELETE FROM product");
+        }
+        return dataSource;
+    }
+
+    private static int ingredientCount(CatalogGenerator generator) {
+        int[] total = {0};
+        generator.forEachRecipe(generator.products(), r -> total[0] += r.getIngredients().size());
+        return total[0];
+    }
+
+    private static List<String> barcodes(Recipe recipe) {
+        return recipe.getProducts().stream().map(Product::getBarcode).toList();
+    }
+
+    private static int count(SQLiteDataSource dataSource, String table) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT COUNT(*) FROM " + table)) {
+            rs.next();
+            return rs.getInt(1);
+        }
+    }
+}
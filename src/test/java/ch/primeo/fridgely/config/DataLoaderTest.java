@@ -1,5 +1,6 @@
 package ch.primeo.fridgely.config;
 
+import ch.primeo.fridgely.service.*;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
@@ -21,6 +22,15 @@ class DataLoaderTest {
     @Mock
     private DataSource mockDataSource;
 
+    @Mock
+    private ProductCatalog productCatalog;
+
+    @Mock
+    private SeedDatabase seedDatabase;
+
+    @Mock
+    private EntityCache entityCache;
+
     @InjectMocks
     private DataLoader dataLoader;
 
@@ -51,6 +61,10 @@ class DataLoaderTest {
             ResourceDatabasePopulator capturedPopulator = populatorCaptor.getValue();
             assertNotNull(capturedPopulator, "Captured populator should not be null.");
 
+            // 3. Verify the product catalog snapshot and the second-level cache were dropped after loading
+            verify(productCatalog).invalidate();
+            verify(entityCache).evictAll();
+
             // Verification of the script "ch/primeo/fridgely/sql/data.sql" being added to the
             // populator is challenging without refactoring DataLoader or using more advanced
             // mocking tools (like PowerMock to mock `new ClassPathResource(...)` or `new ResourceDatabasePopulator(...)`).
@@ -59,6 +73,23 @@ class DataLoaderTest {
         }
     }
 
+    @Test
+    void run_whenPrebuiltDatabaseMatches_shouldSkipDataLoad() {
+        // Arrange
+        when(seedDatabase.isSeeded()).thenReturn(true);
+
+        try (MockedStatic<DatabasePopulatorUtils> populatorUtilsMockedStatic = Mockito.mockStatic(
+                DatabasePopulatorUtils.class)) {
+
+            // Act
+            dataLoader.run();
+
+            // Assert
+            populatorUtilsMockedStatic.verifyNoInteractions();
+            verifyNoInteractions(mockDataSource, productCatalog, entityCache);
+        }
+    }
+
     @Test
     void run_whenScriptExecutionFails_shouldPropagateException() {
         // Arrange
@@ -0,0 +1,111 @@
+package ch.primeo.fridgely.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+import org.sqlite.SQLiteDataSource;
+
+import java.nio.file.Path;
+import java.sql.*;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SeedDatabaseTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void isSeeded_shouldAcceptDatabaseFromBuilder() throws Exception {
+        Path db = tempDir.resolve("fridgely.db");
+        SeedDatabaseBuilder.build(db);
+
+        SeedDatabase seedDatabase = new SeedDatabase(dataSource(db));
+        Map<String, Object> properties = new HashMap<>(Map.of(AvailableSettings.HBM2DDL_AUTO, "create-drop"));
+        seedDatabase.customize(properties);
+
+        assertTrue(seedDatabase.isSeeded());
+        assertEquals("none", properties.get(AvailableSettings.HBM2DDL_AUTO));
+        assertTrue(count(db, "product") > 0);
+        assertTrue(count(db, "recipe_ingredient") > 0);
+    }
+
+    @Test
+    void isSeeded_shouldRejectChecksumMismatch() throws Exception {
+        Path db = tempDir.resolve("fridgely.db");
+        SeedDatabaseBuilder.build(db);
+        execute(db, "UPDATE " + SeedDatabase.SEED_TABLE + " SET checksum = 'outdated'");
+
+        SeedDatabase seedDatabase = new SeedDatabase(dataSource(db));
+        Map<String, Object> properties = new HashMap<>(Map.of(AvailableSettings.HBM2DDL_AUTO, "create-drop"));
+        seedDatabase.customize(properties);
+
+        assertFalse(seedDatabase.isSeeded());
+        assertEquals("create-drop", properties.get(AvailableSettings.HBM2DDL_AUTO));
+    }
+
+    @Test
+    void isSeeded_shouldRejectEmptyProductTable() throws Exception {
+        Path db = tempDir.resolve("fridgely.db");
+        SeedDatabaseBuilder.build(db);
+        execute(db, "DELETE FROM recipe_ingredient");
+        execute(db, "DELETE FROM product");
+
+        assertFalse(new SeedDatabase(dataSource(db)).isSeeded());
+    }
+
+    @Test
+    void isSeeded_shouldIgnorePrebuiltDatabaseWhenCustomScriptIsConfigured() throws Exception {
+        Path db = tempDir.resolve("fridgely.db");
+        SeedDatabaseBuilder.build(db);
+
+        assertFalse(new SeedDatabase(dataSource(db), "file:catalog.sql").isSeeded());
+    }
+
+    @Test
+    void isSeeded_shouldRejectDatabaseWithoutSeedTable() {
+        assertFalse(new SeedDatabase(dataSource(tempDir.resolve("empty.db"))).isSeeded());
+    }
+
+    @Test
+    void expectedChecksum_shouldBeStable() throws Exception {
+        String checksum = SeedDatabase.expectedChecksum();
+
+        assertEquals(64, checksum.length());
+        assertEquals(checksum, SeedDatabase.expectedChecksum());
+    }
+
+    @Test
+    void mappingFingerprint_shouldDescribeMappedColumns() {
+        String fingerprint = SeedDatabase.mappingFingerprint();
+
+        assertTrue(fingerprint.contains("  barcode: java.lang.String @Id()"), fingerprint);
+        assertTrue(fingerprint.contains("mappedBy=recipe;"), fingerprint);
+        assertTrue(fingerprint.contains("  ingredients: java.util.List<ch.primeo.fridgely.model.RecipeIngredient>"),
+                fingerprint);
+        assertEquals(fingerprint, SeedDatabase.mappingFingerprint());
+    }
+
+    private static SQLiteDataSource dataSource(Path db) {
+        SQLiteDataSource dataSource = new SQLiteDataSource();
+        dataSource.setUrl("jdbc:sqlite:" + db.toAbsolutePath());
+        return dataSource;
+    }
+
+    private static void execute(Path db, String sql) throws SQLException {
+        try (Connection connection = dataSource(db).getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.executeUpdate(sql);
+        }
+    }
+
+    private static int count(Path db, String table) throws SQLException {
+        try (Connection connection = dataSource(db).getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT COUNT(*) FROM " + table)) {
+            rs.next();
+            return rs.getInt(1);
+        }
+    }
+}
@@ -361,6 +361,16 @@ public class ChooseGameModeControllerTest {
         verify(localizationService).get("tutorial.game.winner");
     }
 
+    @Test
+    void testPreloadTutorialAssets_loadsSpritesOfTheTutorialDialog() {
+        ChooseGameModeController.preloadTutorialAssets(imageLoader);
+
+        verify(imageLoader).loadBufferedImage(PenguinFacialExpression.HAPPY.getSprite());
+        verify(imageLoader).loadBufferedImage(PenguinHPState.OKAY.getSpritePath());
+        verify(imageLoader).loadBufferedImage("/ch/primeo/fridgely/vectors/dialog_arrow_up.png");
+        verify(imageLoader).loadBufferedImage("/ch/primeo/fridgely/vectors/dialog_arrow_down.png");
+    }
+
     @Test
     void testStartMultiplayerGame_shouldLaunchGame() {
         // Call the method
@@ -13,13 +13,13 @@ import static org.mockito.Mockito.*;
 class MultiplayerGameControllerTest {
 
     private MultiplayerGameController controller;
-    private ProductRepository productRepository;
+    private ProductCatalog productCatalog;
 
     @BeforeEach
     void setUp() {
-        productRepository = mock(ProductRepository.class);
+        productCatalog = mock(ProductCatalog.class);
         RecipeRepository recipeRepository = mock(RecipeRepository.class);
-        controller = new MultiplayerGameController(productRepository, recipeRepository);
+        controller = new MultiplayerGameController(productCatalog, recipeRepository);
     }
 
     @Test
@@ -50,8 +50,8 @@ class MultiplayerGameControllerTest {
     }
 
     @Test
-    void testGetProductRepository() {
-        assertSame(productRepository, controller.getProductRepository());
+    void testGetProductCatalog() {
+        assertSame(productCatalog, controller.getProductCatalog());
     }
 
     @Test
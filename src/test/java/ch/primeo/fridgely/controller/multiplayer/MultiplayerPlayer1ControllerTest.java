@@ -3,7 +3,7 @@ package ch.primeo.fridgely.controller.multiplayer;
 import ch.primeo.fridgely.config.GameConfig;
 import ch.primeo.fridgely.model.*;
 import ch.primeo.fridgely.model.multiplayer.MultiplayerGameStateModel;
-import ch.primeo.fridgely.service.ProductRepository;
+import ch.primeo.fridgely.service.ProductCatalog;
 import org.junit.jupiter.api.*;
 
 import java.util.*;
@@ -19,7 +19,7 @@ class MultiplayerPlayer1ControllerTest {
     private MultiplayerGameStateModel gameStateModel;
     private PenguinModel penguinModel;
     private RecipeModel recipeModel;
-    private ProductRepository productRepository;
+    private ProductCatalog productCatalog;
 
    @BeforeEach
     void setUp() {
@@ -27,16 +27,16 @@ class MultiplayerPlayer1ControllerTest {
         gameStateModel = mock(MultiplayerGameStateModel.class);
         penguinModel = mock(PenguinModel.class);
         recipeModel = mock(RecipeModel.class);
-        productRepository = mock(ProductRepository.class);
+        productCatalog = mock(ProductCatalog.class);
 
-        controller = new MultiplayerPlayer1Controller(fridgeStockModel, gameStateModel, penguinModel, productRepository, recipeModel);
+        controller = new MultiplayerPlayer1Controller(fridgeStockModel, gameStateModel, penguinModel, productCatalog, recipeModel);
     }
 
     @Test
     void testScanProductValidBarcode() {
         String validBarcode = "123456";
         Product mockProduct = mock(Product.class);
-        when(productRepository.getProductByBarcode(validBarcode)).thenReturn(mockProduct);
+        when(productCatalog.getProductByBarcode(validBarcode)).thenReturn(mockProduct);
         when(gameStateModel.getCurrentPlayer()).thenReturn(MultiplayerGameStateModel.Player.PLAYER1);
         when(fridgeStockModel.addProduct(mockProduct)).thenReturn(true);
 
@@ -48,7 +48,7 @@ class MultiplayerPlayer1ControllerTest {
     @Test
     void testScanProductInvalidBarcode() {
         String invalidBarcode = "invalid";
-        when(productRepository.getProductByBarcode(invalidBarcode)).thenReturn(null);
+        when(productCatalog.getProductByBarcode(invalidBarcode)).thenReturn(null);
 
         controller.scanProduct(invalidBarcode);
 
@@ -61,7 +61,7 @@ class MultiplayerPlayer1ControllerTest {
     void testScanProductWhenNotPlayer1Turn() {
         String validBarcode = "123456";
         Product mockProduct = mock(Product.class);
-        when(productRepository.getProductByBarcode(validBarcode)).thenReturn(mockProduct);
+        when(productCatalog.getProductByBarcode(validBarcode)).thenReturn(mockProduct);
         when(gameStateModel.getCurrentPlayer()).thenReturn(MultiplayerGameStateModel.Player.PLAYER2);
 
         Product result = controller.scanProduct(validBarcode);
@@ -75,7 +75,7 @@ class MultiplayerPlayer1ControllerTest {
     void testScanProductAdditionFailed() {
         String barcode = "123456";
         Product mockProduct = mock(Product.class);
-        when(productRepository.getProductByBarcode(barcode)).thenReturn(mockProduct);
+        when(productCatalog.getProductByBarcode(barcode)).thenReturn(mockProduct);
         when(gameStateModel.getCurrentPlayer()).thenReturn(MultiplayerGameStateModel.Player.PLAYER1);
         when(fridgeStockModel.getProducts()).thenReturn(new ArrayList<>());
         when(fridgeStockModel.addProduct(mockProduct)).thenReturn(false);
@@ -94,7 +94,7 @@ class MultiplayerPlayer1ControllerTest {
         controller.finishTurn();
 
         verify(gameStateModel, never()).nextPlayer();
-        verify(recipeModel, never()).getPossibleRecipes(anyList());
+        verify(recipeModel, never()).hasPossibleRecipes();
     }
 
     @Test
@@ -105,14 +105,14 @@ class MultiplayerPlayer1ControllerTest {
         controller.finishTurn();
 
         verify(gameStateModel, never()).nextPlayer();
-        verify(recipeModel, never()).getPossibleRecipes(anyList());
+        verify(recipeModel, never()).hasPossibleRecipes();
     }
 
     @Test
     void testScanProductNullProduct() {
         // Setup when the product repository returns null
         String barcode = "123456";
-        when(productRepository.getProductByBarcode(barcode)).thenReturn(null);
+        when(productCatalog.getProductByBarcode(barcode)).thenReturn(null);
         when(gameStateModel.getCurrentPlayer()).thenReturn(MultiplayerGameStateModel.Player.PLAYER1);
 
         Product result = controller.scanProduct(barcode);
@@ -133,7 +133,7 @@ class MultiplayerPlayer1ControllerTest {
         when(mockProduct.isLocal()).thenReturn(false);
         when(mockProduct.isLowCo2()).thenReturn(false);
 
-        when(productRepository.getProductByBarcode(barcode)).thenReturn(mockProduct);
+        when(productCatalog.getProductByBarcode(barcode)).thenReturn(mockProduct);
         when(gameStateModel.getCurrentPlayer()).thenReturn(MultiplayerGameStateModel.Player.PLAYER1);
         when(fridgeStockModel.getProducts()).thenReturn(new ArrayList<>());
         when(fridgeStockModel.addProduct(mockProduct)).thenReturn(true);
@@ -155,7 +155,7 @@ class MultiplayerPlayer1ControllerTest {
         when(mockProduct.isLocal()).thenReturn(false);
         when(mockProduct.isLowCo2()).thenReturn(false);
 
-        when(productRepository.getProductByBarcode(barcode)).thenReturn(mockProduct);
+        when(productCatalog.getProductByBarcode(barcode)).thenReturn(mockProduct);
         when(gameStateModel.getCurrentPlayer()).thenReturn(MultiplayerGameStateModel.Player.PLAYER1);
         when(fridgeStockModel.getProducts()).thenReturn(new ArrayList<>());
         when(fridgeStockModel.addProduct(mockProduct)).thenReturn(true);
@@ -178,7 +178,7 @@ class MultiplayerPlayer1ControllerTest {
         }
         when(fridgeStockModel.getFridgeProducts()).thenReturn(products);
         when(fridgeStockModel.getProducts()).thenReturn(products);
-        when(recipeModel.getPossibleRecipes(products)).thenReturn(List.of(mock(Recipe.class)));
+        when(recipeModel.hasPossibleRecipes()).thenReturn(true);
 
         // Act
         boolean result = controller.finishTurn();
@@ -198,7 +198,7 @@ class MultiplayerPlayer1ControllerTest {
         when(mockProduct.isLocal()).thenReturn(true);
         when(mockProduct.isLowCo2()).thenReturn(false);
 
-        when(productRepository.getProductByBarcode(barcode)).thenReturn(mockProduct);
+        when(productCatalog.getProductByBarcode(barcode)).thenReturn(mockProduct);
         when(gameStateModel.getCurrentPlayer()).thenReturn(MultiplayerGameStateModel.Player.PLAYER1);
         when(fridgeStockModel.getProducts()).thenReturn(new ArrayList<>());
         when(fridgeStockModel.addProduct(mockProduct)).thenReturn(true);
@@ -220,7 +220,7 @@ class MultiplayerPlayer1ControllerTest {
         when(mockProduct.isLocal()).thenReturn(false);
         when(mockProduct.isLowCo2()).thenReturn(true);
 
-        when(productRepository.getProductByBarcode(barcode)).thenReturn(mockProduct);
+        when(productCatalog.getProductByBarcode(barcode)).thenReturn(mockProduct);
         when(gameStateModel.getCurrentPlayer()).thenReturn(MultiplayerGameStateModel.Player.PLAYER1);
         when(fridgeStockModel.getProducts()).thenReturn(new ArrayList<>());
         when(fridgeStockModel.addProduct(mockProduct)).thenReturn(true);
@@ -242,7 +242,7 @@ class MultiplayerPlayer1ControllerTest {
         List<Product> existingProducts = new ArrayList<>();
         existingProducts.add(mockProduct);
 
-        when(productRepository.getProductByBarcode(barcode)).thenReturn(mockProduct);
+        when(productCatalog.getProductByBarcode(barcode)).thenReturn(mockProduct);
         when(gameStateModel.getCurrentPlayer()).thenReturn(MultiplayerGameStateModel.Player.PLAYER1);
         when(fridgeStockModel.getProducts()).thenReturn(existingProducts);
 
@@ -268,13 +268,13 @@ class MultiplayerPlayer1ControllerTest {
         }
         when(fridgeStockModel.getFridgeProducts()).thenReturn(products);
         when(fridgeStockModel.getProducts()).thenReturn(products);
-        when(recipeModel.getPossibleRecipes(products)).thenReturn(List.of(mock(Recipe.class)));
+        when(recipeModel.hasPossibleRecipes()).thenReturn(true);
 
         // We need to ensure roundScannedItems is 0
         // This is a bit tricky since it's a private field
         // We'll use a fresh controller instance
         MultiplayerPlayer1Controller freshController =
-            new MultiplayerPlayer1Controller(fridgeStockModel, gameStateModel, penguinModel, productRepository, recipeModel);
+            new MultiplayerPlayer1Controller(fridgeStockModel, gameStateModel, penguinModel, productCatalog, recipeModel);
 
         // Act
         boolean result = freshController.finishTurn();
@@ -298,24 +298,24 @@ class MultiplayerPlayer1ControllerTest {
         // This mock will be used by all controller instances via fridgeStockModel
         when(fridgeStockModel.getFridgeProducts()).thenReturn(minProductsForTurn);
         when(fridgeStockModel.getProducts()).thenReturn(minProductsForTurn);
-        when(recipeModel.getPossibleRecipes(minProductsForTurn)).thenReturn(List.of(mock(Recipe.class)));
+        when(recipeModel.hasPossibleRecipes()).thenReturn(true);
 
         int maxPossibleProductScore = GameConfig.SCORE_BIO + GameConfig.SCORE_LOCAL + GameConfig.SCORE_LOW_CO2;
         int minPossibleProductScore = GameConfig.SCORE_NON_BIO + GameConfig.SCORE_NON_LOCAL + GameConfig.SCORE_HIGH_CO2;
 
         // --- Test case 1: Positive score path ---
-        clearInvocations(gameStateModel, penguinModel, fridgeStockModel, productRepository); // Clear for this sub-case
+        clearInvocations(gameStateModel, penguinModel, fridgeStockModel, productCatalog); // Clear for this sub-case
         when(gameStateModel.getCurrentPlayer()).thenReturn(MultiplayerGameStateModel.Player.PLAYER1);
 
         MultiplayerPlayer1Controller positiveScoreController =
-            new MultiplayerPlayer1Controller(fridgeStockModel, gameStateModel, penguinModel, productRepository, recipeModel);
+            new MultiplayerPlayer1Controller(fridgeStockModel, gameStateModel, penguinModel, productCatalog, recipeModel);
 
         String barcode1 = "good123";
         Product goodProduct = mock(Product.class);
         when(goodProduct.isBio()).thenReturn(true);
         when(goodProduct.isLocal()).thenReturn(true);
         when(goodProduct.isLowCo2()).thenReturn(true);
-        when(productRepository.getProductByBarcode(barcode1)).thenReturn(goodProduct);
+        when(productCatalog.getProductByBarcode(barcode1)).thenReturn(goodProduct);
         when(fridgeStockModel.getProducts()).thenReturn(new ArrayList<>()); // Product not in fridge yet
         when(fridgeStockModel.addProduct(goodProduct)).thenReturn(true);
 
@@ -324,7 +324,7 @@ class MultiplayerPlayer1ControllerTest {
         // Mock recipe availability for finishTurn
         List<Product> productsAfterScan = List.of(goodProduct);
         when(fridgeStockModel.getProducts()).thenReturn(productsAfterScan);
-        when(recipeModel.getPossibleRecipes(productsAfterScan)).thenReturn(List.of(mock(Recipe.class)));
+        when(recipeModel.hasPossibleRecipes()).thenReturn(true);
 
         positiveScoreController.finishTurn();
 
@@ -343,18 +343,18 @@ class MultiplayerPlayer1ControllerTest {
 
 
         // --- Test case 2: Negative score path ---
-        clearInvocations(gameStateModel, penguinModel, fridgeStockModel, productRepository);
+        clearInvocations(gameStateModel, penguinModel, fridgeStockModel, productCatalog);
         when(gameStateModel.getCurrentPlayer()).thenReturn(MultiplayerGameStateModel.Player.PLAYER1);
 
         MultiplayerPlayer1Controller negativeScoreController =
-            new MultiplayerPlayer1Controller(fridgeStockModel, gameStateModel, penguinModel, productRepository, recipeModel);
+            new MultiplayerPlayer1Controller(fridgeStockModel, gameStateModel, penguinModel, productCatalog, recipeModel);
 
         String barcode2 = "bad123";
         Product badProduct = mock(Product.class);
         when(badProduct.isBio()).thenReturn(false);
         when(badProduct.isLocal()).thenReturn(false);
         when(badProduct.isLowCo2()).thenReturn(false);
-        when(productRepository.getProductByBarcode(barcode2)).thenReturn(badProduct);
+        when(productCatalog.getProductByBarcode(barcode2)).thenReturn(badProduct);
         when(fridgeStockModel.getProducts()).thenReturn(new ArrayList<>());
         when(fridgeStockModel.addProduct(badProduct)).thenReturn(true);
 
@@ -363,7 +363,7 @@ class MultiplayerPlayer1ControllerTest {
         // Mock recipe availability for finishTurn
         List<Product> productsAfterScan2 = List.of(badProduct);
         when(fridgeStockModel.getProducts()).thenReturn(productsAfterScan2);
-        when(recipeModel.getPossibleRecipes(productsAfterScan2)).thenReturn(List.of(mock(Recipe.class)));
+        when(recipeModel.hasPossibleRecipes()).thenReturn(true);
 
         negativeScoreController.finishTurn();
 
@@ -378,18 +378,18 @@ class MultiplayerPlayer1ControllerTest {
 
 
         // --- Test case 3: Mixed score path ---
-        clearInvocations(gameStateModel, penguinModel, fridgeStockModel, productRepository);
+        clearInvocations(gameStateModel, penguinModel, fridgeStockModel, productCatalog);
         when(gameStateModel.getCurrentPlayer()).thenReturn(MultiplayerGameStateModel.Player.PLAYER1);
 
         MultiplayerPlayer1Controller mixedScoreController =
-            new MultiplayerPlayer1Controller(fridgeStockModel, gameStateModel, penguinModel, productRepository, recipeModel);
+            new MultiplayerPlayer1Controller(fridgeStockModel, gameStateModel, penguinModel, productCatalog, recipeModel);
 
         String barcode3 = "mixed123";
         Product mixedProduct = mock(Product.class);
         when(mixedProduct.isBio()).thenReturn(true);    // Positive
         when(mixedProduct.isLocal()).thenReturn(false); // Negative
         when(mixedProduct.isLowCo2()).thenReturn(false); // Negative
-        when(productRepository.getProductByBarcode(barcode3)).thenReturn(mixedProduct);
+        when(productCatalog.getProductByBarcode(barcode3)).thenReturn(mixedProduct);
         when(fridgeStockModel.getProducts()).thenReturn(new ArrayList<>());
         when(fridgeStockModel.addProduct(mixedProduct)).thenReturn(true);
 
@@ -398,7 +398,7 @@ class MultiplayerPlayer1ControllerTest {
         // Mock recipe availability for finishTurn
         List<Product> productsAfterScan3 = List.of(mixedProduct);
         when(fridgeStockModel.getProducts()).thenReturn(productsAfterScan3);
-        when(recipeModel.getPossibleRecipes(productsAfterScan3)).thenReturn(List.of(mock(Recipe.class)));
+        when(recipeModel.hasPossibleRecipes()).thenReturn(true);
 
         mixedScoreController.finishTurn();
 
@@ -419,7 +419,7 @@ class MultiplayerPlayer1ControllerTest {
         // Arrange
         when(gameStateModel.getCurrentPlayer()).thenReturn(MultiplayerGameStateModel.Player.PLAYER1);
         Product mockProduct = mock(Product.class);
-        when(productRepository.getProductByBarcode("barcode_max_trigger")).thenReturn(mockProduct);
+        when(productCatalog.getProductByBarcode("barcode_max_trigger")).thenReturn(mockProduct);
         when(fridgeStockModel.getProducts()).thenReturn(new ArrayList<>()); // Product not in fridge initially
         when(fridgeStockModel.addProduct(mockProduct)).thenReturn(true); // Product added successfully
 
@@ -431,7 +431,7 @@ class MultiplayerPlayer1ControllerTest {
         when(fridgeStockModel.getFridgeProducts()).thenReturn(fridgeAtMaxCapacity);
         // Also mock getProducts() for recipe checking
         when(fridgeStockModel.getProducts()).thenReturn(fridgeAtMaxCapacity);
-        when(recipeModel.getPossibleRecipes(fridgeAtMaxCapacity)).thenReturn(List.of(mock(Recipe.class)));
+        when(recipeModel.hasPossibleRecipes()).thenReturn(true);
 
         // Act
         controller.scanProduct("barcode_max_trigger");
@@ -452,7 +452,7 @@ class MultiplayerPlayer1ControllerTest {
         // Arrange
         when(gameStateModel.getCurrentPlayer()).thenReturn(MultiplayerGameStateModel.Player.PLAYER1);
         Product mockProduct = mock(Product.class);
-        when(productRepository.getProductByBarcode("barcode_below_max")).thenReturn(mockProduct);
+        when(productCatalog.getProductByBarcode("barcode_below_max")).thenReturn(mockProduct);
         when(fridgeStockModel.getProducts()).thenReturn(new ArrayList<>()); // Product not in fridge initially
         when(fridgeStockModel.addProduct(mockProduct)).thenReturn(true); // Product added successfully
 
@@ -478,7 +478,7 @@ class MultiplayerPlayer1ControllerTest {
         // Arrange
         List<Product> products = List.of(mock(Product.class));
         when(fridgeStockModel.getProducts()).thenReturn(products);
-        when(recipeModel.getPossibleRecipes(products)).thenReturn(List.of(mock(Recipe.class)));
+        when(recipeModel.hasPossibleRecipes()).thenReturn(true);
 
         // Act
         boolean result = controller.hasAvailableRecipes();
@@ -492,7 +492,7 @@ class MultiplayerPlayer1ControllerTest {
         // Arrange
         List<Product> products = List.of(mock(Product.class));
         when(fridgeStockModel.getProducts()).thenReturn(products);
-        when(recipeModel.getPossibleRecipes(products)).thenReturn(List.of());
+        when(recipeModel.hasPossibleRecipes()).thenReturn(false);
 
         // Act
         boolean result = controller.hasAvailableRecipes();
@@ -511,7 +511,7 @@ class MultiplayerPlayer1ControllerTest {
         }
         when(fridgeStockModel.getFridgeProducts()).thenReturn(products);
         when(fridgeStockModel.getProducts()).thenReturn(products);
-        when(recipeModel.getPossibleRecipes(products)).thenReturn(List.of()); // No recipes available
+        when(recipeModel.hasPossibleRecipes()).thenReturn(false); // No recipes available
 
         // Act
         boolean result = controller.finishTurn();
@@ -521,4 +521,46 @@ class MultiplayerPlayer1ControllerTest {
         verify(gameStateModel, never()).addScore(anyInt());
         verify(gameStateModel, never()).nextPlayer();
     }
+
+    @Test
+    void testLookUpProductDoesNotChangeModels() {
+        // Arrange
+        Product mockProduct = mock(Product.class);
+        when(productCatalog.getProductByBarcode("123456")).thenReturn(mockProduct);
+
+        // Act
+        Product result = controller.lookUpProduct("123456");
+
+        // Assert
+        assertSame(mockProduct, result);
+        verifyNoInteractions(fridgeStockModel, gameStateModel, penguinModel);
+    }
+
+    @Test
+    void testAddScannedProductAfterTurnEnded() {
+        // Arrange: the turn ended while the product was looked up
+        Product mockProduct = mock(Product.class);
+        when(gameStateModel.getCurrentPlayer()).thenReturn(MultiplayerGameStateModel.Player.PLAYER2);
+
+        // Act
+        Product result = controller.addScannedProduct(mockProduct);
+
+        // Assert
+        assertNull(result);
+        verify(fridgeStockModel, never()).addProduct(any());
+        verify(penguinModel, never()).modifyHP(anyInt());
+    }
+
+    @Test
+    void testAddScannedProductUnknownBarcode() {
+        // Arrange
+        when(gameStateModel.getCurrentPlayer()).thenReturn(MultiplayerGameStateModel.Player.PLAYER1);
+
+        // Act
+        Product result = controller.addScannedProduct(null);
+
+        // Assert
+        assertNull(result);
+        verify(fridgeStockModel, never()).addProduct(any());
+    }
 }
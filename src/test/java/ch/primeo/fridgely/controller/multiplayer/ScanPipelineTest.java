@@ -0,0 +1,126 @@
+package ch.primeo.fridgely.controller.multiplayer;
+
+import ch.primeo.fridgely.model.Product;
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ScanPipelineTest {
+
+    private ExecutorService worker;
+    private BlockingQueue<Runnable> eventQueue;
+
+    @BeforeEach
+    void setUp() {
+        worker = Executors.newSingleThreadExecutor();
+        eventQueue = new LinkedBlockingQueue<>();
+    }
+
+    @AfterEach
+    void tearDown() {
+        worker.shutdownNow();
+    }
+
+    @Test
+    void submit_shouldDeliverResultsInScanOrder() throws Exception {
+        Map<String, Product> catalog = new HashMap<>();
+        for (int i = 0; i < 20; i++) {
+            catalog.put("code-" + i, mock(Product.class));
+        }
+        ScanPipeline pipeline = new ScanPipeline(barcode -> {
+            // Earlier scans take longer, so concurrent lookups would deliver the later scans first
+            sleep(2 * (20 - Integer.parseInt(barcode.substring("code-".length()))));
+            return catalog.get(barcode);
+        }, worker, eventQueue::add);
+
+        List<String> delivered = new ArrayList<>();
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            pipeline.submit("code-" + i, (barcode, product) -> {
+                delivered.add(barcode);
+                products.add(product);
+            });
+        }
+        runEvents(20);
+
+        for (int i = 0; i < 20; i++) {
+            assertEquals("code-" + i, delivered.get(i));
+            assertSame(catalog.get("code-" + i), products.get(i));
+        }
+    }
+
+    @Test
+    void submit_shouldDeliverOnlyThroughEventQueue() throws Exception {
+        CountDownLatch looked = new CountDownLatch(1);
+        ScanPipeline pipeline = new ScanPipeline(barcode -> {
+            looked.countDown();
+            return null;
+        }, worker, eventQueue::add);
+        List<String> delivered = new ArrayList<>();
+
+        pipeline.submit("unknown", (barcode, product) -> delivered.add(barcode));
+        assertTrue(looked.await(5, TimeUnit.SECONDS));
+        Runnable event = eventQueue.poll(5, TimeUnit.SECONDS);
+
+        assertNotNull(event);
+        assertTrue(delivered.isEmpty());
+        event.run();
+        assertEquals(List.of("unknown"), delivered);
+    }
+
+    @Test
+    void submit_shouldDeliverNullWhenLookupFails() throws Exception {
+        ScanPipeline pipeline = new ScanPipeline(barcode -> {
+            throw new IllegalStateException("catalog unavailable");
+        }, worker, eventQueue::add);
+        List<Product> products = new ArrayList<>();
+
+        pipeline.submit("123456", (barcode, product) -> products.add(product));
+        runEvents(1);
+
+        assertEquals(1, products.size());
+        assertNull(products.get(0));
+    }
+
+    @Test
+    void submit_shouldIgnoreScansAfterClose() {
+        ScanPipeline pipeline = new ScanPipeline(barcode -> null, worker, eventQueue::add);
+        pipeline.close();
+
+        assertDoesNotThrow(() -> pipeline.submit("123456", (barcode, product) -> fail("delivered after close")));
+        assertTrue(eventQueue.isEmpty());
+    }
+
+    @Test
+    void close_shouldStopWorkerAfterPendingScans() throws Exception {
+        ScanPipeline pipeline = new ScanPipeline(barcode -> null, worker, eventQueue::add);
+        List<String> delivered = new ArrayList<>();
+
+        pipeline.submit("123456", (barcode, product) -> delivered.add(barcode));
+        pipeline.close();
+
+        assertTrue(worker.awaitTermination(5, TimeUnit.SECONDS));
+        runEvents(1);
+        assertEquals(List.of("123456"), delivered);
+    }
+
+    private void runEvents(int count) throws InterruptedException {
+        for (int i = 0; i < count; i++) {
+            Runnable event = eventQueue.poll(5, TimeUnit.SECONDS);
+            assertNotNull(event, "missing result " + i);
+            event.run();
+        }
+    }
+
+    private static void sleep(int millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
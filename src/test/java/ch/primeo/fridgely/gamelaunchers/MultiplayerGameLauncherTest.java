@@ -15,6 +15,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.*;
+import java.util.concurrent.CompletableFuture;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -24,7 +25,7 @@ import static org.mockito.Mockito.*;
 class MultiplayerGameLauncherTest {
 
     @Mock
-    private ProductRepository productRepository;
+    private ProductCatalog productCatalog;
 
     @Mock
     private RecipeRepository recipeRepository;
@@ -99,7 +100,7 @@ class MultiplayerGameLauncherTest {
 
             // Create a partial mock that calls real methods except for the actual JFrame creation
             MultiplayerGameLauncher partialMock = spy(new MultiplayerGameLauncher(
-                    productRepository, recipeRepository, localizationService, imageLoader, new DefaultFrameFactory()));
+                    productCatalog, recipeRepository, localizationService, imageLoader, new DefaultFrameFactory()));
 
             // Mock the JFrame constructor result
             JFrame realFrame = mock(JFrame.class);
@@ -136,7 +137,7 @@ class MultiplayerGameLauncherTest {
 
             // Create a partial mock that calls real methods except for the actual JFrame creation
             MultiplayerGameLauncher partialMock = spy(new MultiplayerGameLauncher(
-                    productRepository, recipeRepository, localizationService, imageLoader, new DefaultFrameFactory()));
+                    productCatalog, recipeRepository, localizationService, imageLoader, new DefaultFrameFactory()));
 
             // Mock the JFrame constructor result
             JFrame realFrame = mock(JFrame.class);
@@ -152,6 +153,8 @@ class MultiplayerGameLauncherTest {
 
     @Test
     void launchGame_invokesInitGameOnEDT() {
+        when(imageLoader.getPreloadCompletion()).thenReturn(CompletableFuture.completedFuture(null));
+
         // Mock static SwingUtilities
         try (MockedStatic<SwingUtilities> swingUtilitiesMock = mockStatic(SwingUtilities.class)) {
             // Act
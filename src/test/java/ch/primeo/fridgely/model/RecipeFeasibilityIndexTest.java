@@ -0,0 +1,119 @@
+package ch.primeo.fridgely.model;
+
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecipeFeasibilityIndexTest {
+
+    private Product tomato;
+    private Product egg;
+    private Product cheese;
+    private Recipe omelette;
+    private Recipe salad;
+    private RecipeFeasibilityIndex index;
+
+    @BeforeEach
+    void setUp() {
+        tomato = createProduct("001");
+        egg = createProduct("002");
+        cheese = createProduct("003");
+
+        omelette = createRecipe(1, egg, cheese);
+        salad = createRecipe(2, tomato);
+
+        index = new RecipeFeasibilityIndex(List.of(omelette, salad));
+    }
+
+    @Test
+    void testAssignsDenseProductIds() {
+        assertEquals(3, index.getProductCount());
+        assertEquals(1, index.emptyMask().length);
+    }
+
+    @Test
+    void testCanMake_SubsetOfStock() {
+        long[] stock = index.maskOf(List.of(egg, cheese, createProduct("999")));
+
+        assertTrue(index.canMake(omelette, stock));
+        assertFalse(index.canMake(salad, stock));
+        assertEquals(List.of(omelette), index.possibleRecipes(stock));
+        assertTrue(index.anyPossible(stock));
+    }
+
+    @Test
+    void testCanMake_EmptyStock() {
+        long[] stock = index.emptyMask();
+
+        assertFalse(index.canMake(omelette, stock));
+        assertTrue(index.possibleRecipes(stock).isEmpty());
+        assertFalse(index.anyPossible(stock));
+    }
+
+    @Test
+    void testAddToMask() {
+        long[] stock = index.emptyMask();
+
+        assertTrue(index.addToMask(stock, tomato));
+        assertFalse(index.addToMask(stock, createProduct("999")));
+        assertFalse(index.addToMask(stock, null));
+        assertTrue(index.canMake(salad, stock));
+    }
+
+    @Test
+    void testCountMatching() {
+        long[] stock = index.maskOf(List.of(egg, tomato));
+
+        assertEquals(1, index.countMatching(omelette, stock));
+        assertEquals(1, index.countMatching(salad, stock));
+        assertEquals(0, index.countMatching(createRecipe(3, egg), stock));
+    }
+
+    @Test
+    void testUnknownRecipe() {
+        Recipe unknown = createRecipe(3, egg);
+
+        assertFalse(index.contains(unknown));
+        assertFalse(index.contains(null));
+        assertFalse(index.canMake(unknown, index.maskOf(List.of(egg))));
+    }
+
+    @Test
+    void testSpansMultipleWords() {
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < 130; i++) {
+            products.add(createProduct("P" + i));
+        }
+        Recipe large = createRecipe(10, products.toArray(new Product[0]));
+        Recipe tail = createRecipe(11, products.get(129));
+        RecipeFeasibilityIndex wideIndex = new RecipeFeasibilityIndex(List.of(large, tail));
+
+        long[] stock = wideIndex.maskOf(products.subList(64, 130));
+
+        assertEquals(3, stock.length);
+        assertFalse(wideIndex.canMake(large, stock));
+        assertTrue(wideIndex.canMake(tail, stock));
+        assertEquals(66, wideIndex.countMatching(large, stock));
+    }
+
+    private static Product createProduct(String barcode) {
+        return new Product(barcode, barcode, barcode, barcode, "Desc", "Desc", "Desc", false, false, false, false);
+    }
+
+    private static Recipe createRecipe(int id, Product... products) {
+        Recipe recipe = new Recipe();
+        recipe.setRecipeId(id);
+
+        List<RecipeIngredient> ingredients = new ArrayList<>();
+        for (Product product : products) {
+            RecipeIngredient ingredient = new RecipeIngredient();
+            ingredient.setProduct(product);
+            ingredient.setRecipe(recipe);
+            ingredients.add(ingredient);
+        }
+        recipe.setIngredients(ingredients);
+        return recipe;
+    }
+}
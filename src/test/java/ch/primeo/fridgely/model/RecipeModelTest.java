@@ -2,7 +2,6 @@ package ch.primeo.fridgely.model;
 
 import ch.primeo.fridgely.service.RecipeRepository;
 import org.junit.jupiter.api.*;
-import org.mockito.Mockito;
 
 import java.beans.PropertyChangeListener;
 import java.util.*;
@@ -656,17 +655,13 @@ class RecipeModelTest {
     @Test
     void testGetPossibleRecipes_FilteringLogic() {
         // Arrange
-        Recipe recipe1 = new Recipe();
-        recipe1.setRecipeId(1);
-        recipe1.setName("Recipe 1");
-
-        Recipe recipe2 = new Recipe();
-        recipe2.setRecipeId(2);
-        recipe2.setName("Recipe 2");
+        Product product1 = new Product("123", "Product 1", "Product 1", "Product 1", "Desc", "Desc", "Desc", false, false, false, false);
+        Product product2 = new Product("456", "Product 2", "Product 2", "Product 2", "Desc", "Desc", "Desc", false, false, false, false);
+        Product product3 = new Product("789", "Product 3", "Product 3", "Product 3", "Desc", "Desc", "Desc", false, false, false, false);
 
-        Recipe recipe3 = new Recipe();
-        recipe3.setRecipeId(3);
-        recipe3.setName("Recipe 3");
+        Recipe recipe1 = createRecipe(1, product1);
+        Recipe recipe2 = createRecipe(2, product1, product3);
+        Recipe recipe3 = createRecipe(3, product1, product2);
 
         // Setup mock for getAllRecipes to return DTOs
         RecipeRepository.RecipeDTO dto1 = new RecipeRepository.RecipeDTO(1, "Recipe 1", "Description 1", 3, 5);
@@ -681,25 +676,94 @@ class RecipeModelTest {
 
         // Create a new RecipeModel to load the recipes
         RecipeModel model = new RecipeModel(recipeRepositoryMock);
+        clearInvocations(recipeRepositoryMock);
+
+        List<Product> products = List.of(product1, product2);
 
-        // Create test products
+        // Act
+        List<Recipe> possibleRecipes = model.getPossibleRecipes(products);
+
+        // Assert
+        assertEquals(List.of(recipe1, recipe3), possibleRecipes);
+        verifyNoMoreInteractions(recipeRepositoryMock);
+    }
+
+    @Test
+    void testTrackFridgeStock_UpdatesIncrementally() {
+        // Arrange
         Product product1 = new Product("123", "Product 1", "Product 1", "Product 1", "Desc", "Desc", "Desc", false, false, false, false);
         Product product2 = new Product("456", "Product 2", "Product 2", "Product 2", "Desc", "Desc", "Desc", false, false, false, false);
-        List<Product> products = List.of(product1, product2);
+        Product salt = new Product("S", "Salt", "Salz", "Sel", "Desc", "Desc", "Desc", true, false, false, false);
+
+        Recipe recipe1 = createRecipe(1, product1, salt);
+        Recipe recipe2 = createRecipe(2, product1, product2);
 
-        // Setup mock for canMakeRecipe to return true for recipes 1 and 3, false for recipe 2
-        RecipeModel spyModel = Mockito.spy(model);
-        doReturn(true).when(spyModel).canMakeRecipe(eq(recipe1), eq(products));
-        doReturn(false).when(spyModel).canMakeRecipe(eq(recipe2), eq(products));
-        doReturn(true).when(spyModel).canMakeRecipe(eq(recipe3), eq(products));
+        when(recipeRepositoryMock.getAllRecipes()).thenReturn(List.of());
+        when(recipeRepositoryMock.getAllRecipesEntities()).thenReturn(List.of(recipe1, recipe2));
+
+        RecipeModel model = new RecipeModel(recipeRepositoryMock);
+        FridgeStockModel stockModel = new FridgeStockModel(List.of(salt));
+        model.trackFridgeStock(stockModel);
+        clearInvocations(recipeRepositoryMock);
+
+        // Act & Assert
+        assertFalse(model.hasPossibleRecipes());
+
+        stockModel.addProduct(product1);
+        assertTrue(model.hasPossibleRecipes());
+        assertEquals(List.of(recipe1), model.getPossibleRecipes());
+
+        stockModel.addProduct(product2);
+        assertEquals(List.of(recipe1, recipe2), model.getPossibleRecipes());
+
+        stockModel.removeProduct(product1);
+        assertFalse(model.hasPossibleRecipes());
+
+        stockModel.addProduct(product1);
+        stockModel.clear();
+        assertFalse(model.hasPossibleRecipes());
+        assertTrue(model.getPossibleRecipes().isEmpty());
+
+        verifyNoMoreInteractions(recipeRepositoryMock);
+    }
+
+    @Test
+    void testLoadAvailableRecipes_UsesHydratedLoader() {
+        // Arrange
+        RecipeRepository freshMock = mock(RecipeRepository.class);
+        Product product1 = new Product("123", "Product 1", "Product 1", "Product 1", "Desc", "Desc", "Desc", false, false, false, false);
+        Recipe recipe1 = createRecipe(1, product1);
+        Recipe recipe2 = createRecipe(2, product1);
+        when(freshMock.getAllRecipesWithIngredients()).thenReturn(List.of(recipe1, recipe2));
 
         // Act
-        List<Recipe> possibleRecipes = spyModel.getPossibleRecipes(products);
+        RecipeModel model = new RecipeModel(freshMock);
 
         // Assert
-        assertEquals(2, possibleRecipes.size());
-        assertTrue(possibleRecipes.contains(recipe1));
-        assertFalse(possibleRecipes.contains(recipe2));
-        assertTrue(possibleRecipes.contains(recipe3));
+        assertEquals(List.of(recipe1, recipe2), model.getAvailableRecipes());
+        verify(freshMock).getAllRecipesWithIngredients();
+        verifyNoMoreInteractions(freshMock);
+    }
+
+    @Test
+    void testHasPossibleRecipes_WithoutTrackedStock() {
+        assertFalse(recipeModel.hasPossibleRecipes());
+        assertTrue(recipeModel.getPossibleRecipes().isEmpty());
+    }
+
+    private static Recipe createRecipe(int id, Product... products) {
+        Recipe recipe = new Recipe();
+        recipe.setRecipeId(id);
+        recipe.setName("Recipe " + id);
+
+        List<RecipeIngredient> ingredients = new ArrayList<>();
+        for (Product product : products) {
+            RecipeIngredient ingredient = new RecipeIngredient();
+            ingredient.setProduct(product);
+            ingredient.setRecipe(recipe);
+            ingredients.add(ingredient);
+        }
+        recipe.setIngredients(ingredients);
+        return recipe;
     }
 }
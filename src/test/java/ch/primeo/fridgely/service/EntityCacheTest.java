@@ -0,0 +1,81 @@
+package ch.primeo.fridgely.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.*;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EntityCacheTest {
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+    @Mock
+    private SessionFactory sessionFactory;
+
+    private EntityCache entityCache;
+
+    @BeforeEach
+    void setUp() {
+        when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+        entityCache = new EntityCache(entityManagerFactory);
+    }
+
+    @Test
+    void evictAll_shouldEvictEveryRegion() {
+        Cache cache = mock(Cache.class);
+        when(sessionFactory.getCache()).thenReturn(cache);
+
+        entityCache.evictAll();
+
+        verify(cache).evictAllRegions();
+    }
+
+    @Test
+    void getStatistics_shouldReportRegionsAndQueryCache() {
+        Statistics statistics = mock(Statistics.class);
+        CacheRegionStatistics recipe = mock(CacheRegionStatistics.class);
+        CacheRegionStatistics product = mock(CacheRegionStatistics.class);
+        when(sessionFactory.getStatistics()).thenReturn(statistics);
+        when(statistics.getSecondLevelCacheRegionNames()).thenReturn(new String[]{"recipe", "product"});
+        when(statistics.getDomainDataRegionStatistics("recipe")).thenReturn(recipe);
+        when(statistics.getDomainDataRegionStatistics("product")).thenReturn(product);
+        when(product.getHitCount()).thenReturn(5L);
+        when(product.getMissCount()).thenReturn(2L);
+        when(product.getPutCount()).thenReturn(2L);
+        when(recipe.getHitCount()).thenReturn(7L);
+        when(statistics.getQueryCacheHitCount()).thenReturn(3L);
+        when(statistics.getQueryCacheMissCount()).thenReturn(1L);
+        when(statistics.getQueryCachePutCount()).thenReturn(1L);
+
+        List<EntityCache.RegionStatistics> regions = entityCache.getStatistics();
+
+        assertEquals(List.of("product", "recipe", "query-results"),
+                regions.stream().map(EntityCache.RegionStatistics::region).toList());
+        assertEquals(5L, regions.get(0).hits());
+        assertEquals(2L, regions.get(0).misses());
+        assertEquals(2L, regions.get(0).puts());
+        assertEquals(7L, regions.get(1).hits());
+        assertEquals(3L, regions.get(2).hits());
+        assertEquals(1L, regions.get(2).misses());
+    }
+
+    @Test
+    void logStatistics_shouldSkipWhenStatisticsDisabled() {
+        Statistics statistics = mock(Statistics.class);
+        when(sessionFactory.getStatistics()).thenReturn(statistics);
+
+        entityCache.logStatistics();
+
+        verify(statistics, never()).getSecondLevelCacheRegionNames();
+    }
+}
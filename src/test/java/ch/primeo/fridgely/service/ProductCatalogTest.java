@@ -0,0 +1,120 @@
+package ch.primeo.fridgely.service;
+
+import ch.primeo.fridgely.model.Product;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.*;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductCatalogTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @InjectMocks
+    private ProductCatalog productCatalog;
+
+    private Product milk;
+    private Product salt;
+
+    @BeforeEach
+    void setUp() {
+        milk = createProduct("7610000000001", false);
+        salt = createProduct("7610000000002", true);
+    }
+
+    @Test
+    void getProductByBarcode_shouldResolveFromSnapshotWithoutRepositoryLookups() {
+        when(productRepository.getAllProducts()).thenReturn(List.of(milk, salt));
+
+        assertSame(milk, productCatalog.getProductByBarcode("7610000000001"));
+        assertSame(salt, productCatalog.getProductByBarcode("7610000000002"));
+        assertNull(productCatalog.getProductByBarcode("unknown"));
+        assertNull(productCatalog.getProductByBarcode(null));
+
+        verify(productRepository, times(1)).getAllProducts();
+        verifyNoMoreInteractions(productRepository);
+    }
+
+    @Test
+    void getDefaultProducts_shouldBePrecomputedAndUnmodifiable() {
+        when(productRepository.getAllProducts()).thenReturn(List.of(milk, salt));
+
+        List<Product> defaults = productCatalog.getDefaultProducts();
+
+        assertEquals(List.of(salt), defaults);
+        assertSame(defaults, productCatalog.getDefaultProducts());
+        assertThrows(UnsupportedOperationException.class, () -> defaults.add(milk));
+        assertEquals(List.of(milk, salt), productCatalog.getAllProducts());
+    }
+
+    @Test
+    void getAllProducts_shouldSkipDuplicatesAndInvalidEntries() {
+        Product duplicate = createProduct("7610000000001", true);
+        List<Product> products = new ArrayList<>(List.of(milk, duplicate, createProduct(null, false)));
+        products.add(null);
+        when(productRepository.getAllProducts()).thenReturn(products);
+
+        assertEquals(1, productCatalog.size());
+        assertSame(milk, productCatalog.getProductByBarcode("7610000000001"));
+        assertTrue(productCatalog.getDefaultProducts().isEmpty());
+    }
+
+    @Test
+    void getProductByBarcode_shouldHandleLargeCatalogs() {
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            products.add(createProduct("P" + i, i % 10 == 0));
+        }
+        when(productRepository.getAllProducts()).thenReturn(products);
+
+        for (int i = 0; i < 5000; i++) {
+            assertSame(products.get(i), productCatalog.getProductByBarcode("P" + i));
+        }
+        assertEquals(500, productCatalog.getDefaultProducts().size());
+        assertNull(productCatalog.getProductByBarcode("P5000"));
+    }
+
+    @Test
+    void getProductByBarcode_shouldHandleEmptyOrNullRepositoryResult() {
+        when(productRepository.getAllProducts()).thenReturn(null);
+
+        assertEquals(0, productCatalog.size());
+        assertNull(productCatalog.getProductByBarcode("7610000000001"));
+    }
+
+    @Test
+    void invalidate_shouldReloadOnNextAccess() {
+        when(productRepository.getAllProducts()).thenReturn(List.of(milk), List.of(milk, salt));
+
+        assertNull(productCatalog.getProductByBarcode("7610000000002"));
+        productCatalog.invalidate();
+        assertSame(salt, productCatalog.getProductByBarcode("7610000000002"));
+
+        verify(productRepository, times(2)).getAllProducts();
+    }
+
+    @Test
+    void reload_shouldRebuildSnapshotImmediately() {
+        when(productRepository.getAllProducts()).thenReturn(List.of(milk), List.of(salt));
+
+        productCatalog.reload();
+        verify(productRepository, times(1)).getAllProducts();
+        productCatalog.reload();
+
+        assertNull(productCatalog.getProductByBarcode("7610000000001"));
+        assertSame(salt, productCatalog.getProductByBarcode("7610000000002"));
+        verify(productRepository, times(2)).getAllProducts();
+    }
+
+    private static Product createProduct(String barcode, boolean defaultProduct) {
+        return new Product(barcode, "Name", "Name", "Name", "Desc", "Desc", "Desc", defaultProduct, false, false,
+                false);
+    }
+}
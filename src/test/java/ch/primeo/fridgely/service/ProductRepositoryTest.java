@@ -3,6 +3,7 @@ package ch.primeo.fridgely.service;
 import ch.primeo.fridgely.model.*;
 import com.querydsl.jpa.impl.*;
 import jakarta.persistence.EntityManager;
+import org.hibernate.jpa.HibernateHints;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
@@ -71,6 +72,7 @@ class ProductRepositoryTest {
         // Setup the query chain
         when(queryFactory.selectFrom(QProduct.product)).thenReturn(jpaQuery);
         when(jpaQuery.where(QProduct.product.isDefaultProduct.isTrue())).thenReturn(jpaQuery);
+        when(jpaQuery.setHint(HibernateHints.HINT_CACHEABLE, true)).thenReturn(jpaQuery);
         when(jpaQuery.fetch()).thenReturn(Collections.singletonList(defaultProduct));
 
         List<Product> result = productRepository.getAllDefaultProducts();
@@ -87,6 +89,7 @@ class ProductRepositoryTest {
         // Setup the query chain
         when(queryFactory.selectFrom(QProduct.product)).thenReturn(jpaQuery);
         when(jpaQuery.where(QProduct.product.isDefaultProduct.isTrue())).thenReturn(jpaQuery);
+        when(jpaQuery.setHint(HibernateHints.HINT_CACHEABLE, true)).thenReturn(jpaQuery);
         when(jpaQuery.fetch()).thenReturn(Collections.emptyList());
 
         List<Product> result = productRepository.getAllDefaultProducts();
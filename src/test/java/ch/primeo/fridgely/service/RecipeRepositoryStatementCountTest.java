@@ -0,0 +1,104 @@
+package ch.primeo.fridgely.service;
+
+import ch.primeo.fridgely.model.*;
+import ch.primeo.fridgely.service.localization.AppLocalizationService;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks against a real (in-memory) database that the hydrated recipe loader needs a fixed number of statements.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(RecipeRepository.class)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:sqlite:file:recipe-statements?mode=memory&cache=shared",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class RecipeRepositoryStatementCountTest {
+
+    @Autowired
+    private RecipeRepository recipeRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @MockitoBean
+    private AppLocalizationService localizationService;
+    @MockitoBean
+    private FridgeStockRepository fridgeStockRepository;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void getAllRecipesWithIngredients_usesSingleStatement() {
+        seedCatalog(5, 3);
+        assertEquals(5, loadWithFreshContext().size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void getAllRecipesWithIngredients_statementCountIndependentOfCatalogSize() {
+        seedCatalog(50, 6);
+        List<Recipe> recipes = loadWithFreshContext();
+        long statements = statistics.getPrepareStatementCount();
+
+        // Touch the whole graph; nothing may be loaded lazily afterwards
+        for (Recipe recipe : recipes) {
+            assertEquals(6, recipe.getIngredients().size());
+            recipe.getProducts().forEach(product -> assertNotNull(product.getName()));
+        }
+
+        assertEquals(50, recipes.size());
+        assertEquals(1, statements);
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    private List<Recipe> loadWithFreshContext() {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+        return recipeRepository.getAllRecipesWithIngredients();
+    }
+
+    private void seedCatalog(int recipeCount, int ingredientsPerRecipe) {
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < ingredientsPerRecipe * 2; i++) {
+            Product product = new Product("P" + i, "Product " + i, "Produkt " + i, "Produit " + i, "Desc", "Desc",
+                    "Desc", false, false, false, false);
+            entityManager.persist(product);
+            products.add(product);
+        }
+
+        for (int id = 1; id <= recipeCount; id++) {
+            Recipe recipe = new Recipe();
+            recipe.setRecipeId(id);
+            recipe.setName("Recipe " + id);
+
+            for (int i = 0; i < ingredientsPerRecipe; i++) {
+                RecipeIngredient ingredient = new RecipeIngredient();
+                ingredient.setRecipe(recipe);
+                ingredient.setProduct(products.get((id + i) % products.size()));
+                recipe.getIngredients().add(ingredient);
+            }
+            entityManager.persist(recipe);
+        }
+    }
+}
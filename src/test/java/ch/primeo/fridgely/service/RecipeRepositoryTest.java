@@ -5,6 +5,7 @@ import ch.primeo.fridgely.service.localization.AppLocalizationService;
 import com.querydsl.core.Tuple;
 import com.querydsl.jpa.impl.*;
 import jakarta.persistence.EntityManager;
+import org.hibernate.jpa.HibernateHints;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
@@ -50,6 +51,7 @@ class RecipeRepositoryTest {
         // Mock recipes query
         JPAQuery<Recipe> recipeQueryMock = mockJPAQuery();
         when(mockQueryFactory.selectFrom(qRecipe)).thenReturn(recipeQueryMock);
+        when(recipeQueryMock.setHint(HibernateHints.HINT_CACHEABLE, true)).thenReturn(recipeQueryMock);
         when(recipeQueryMock.fetch()).thenReturn(recipes);
 
         // Mock ingredients query
@@ -57,6 +59,7 @@ class RecipeRepositoryTest {
         when(mockQueryFactory.select(qRecipeIngredient.recipe.recipeId, qRecipeIngredient.product.barcode)).thenReturn(
                 ingredientsQueryMock);
         when(ingredientsQueryMock.from(qRecipeIngredient)).thenReturn(ingredientsQueryMock);
+        when(ingredientsQueryMock.setHint(HibernateHints.HINT_CACHEABLE, true)).thenReturn(ingredientsQueryMock);
 
         Tuple tuple1 = mock(Tuple.class);
         when(tuple1.get(qRecipeIngredient.recipe.recipeId)).thenReturn(1);
@@ -165,6 +168,7 @@ class RecipeRepositoryTest {
         when(queryFactory.select(qRecipeIngredient.product.barcode)).thenReturn(queryMock);
         when(queryMock.from(qRecipeIngredient)).thenReturn(fromQueryMock);
         when(fromQueryMock.where(qRecipeIngredient.recipe.recipeId.eq(recipeId))).thenReturn(whereQueryMock);
+        when(whereQueryMock.setHint(HibernateHints.HINT_CACHEABLE, true)).thenReturn(whereQueryMock);
         when(whereQueryMock.fetch()).thenReturn(expectedBarcodes);
 
         List<String> result = recipeRepository.getRecipeIngredientBarcodes(recipeId);
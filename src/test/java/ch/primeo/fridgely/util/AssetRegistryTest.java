@@ -0,0 +1,56 @@
+package ch.primeo.fridgely.util;
+
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AssetRegistryTest {
+
+    private static final String MILK = "/ch/primeo/fridgely/productimages/7610200337423.png";
+    private static final String NOT_FOUND = "/ch/primeo/fridgely/productimages/notfound.png";
+    private static final String HOME = "/ch/primeo/fridgely/icons/home.png";
+
+    @Test
+    void handles_areDenseAndResolveBothWays() {
+        AssetRegistry registry = new AssetRegistry(List.of(MILK, HOME, NOT_FOUND, HOME));
+
+        assertEquals(3, registry.size());
+        Set<Integer> handles = new HashSet<>();
+        for (String path : List.of(MILK, HOME, NOT_FOUND)) {
+            int handle = registry.handle(path);
+            assertTrue(handle >= 0 && handle < registry.size());
+            assertEquals(path, registry.path(handle));
+            handles.add(handle);
+        }
+        assertEquals(3, handles.size());
+        assertEquals(AssetRegistry.NO_ASSET, registry.handle("/ch/primeo/fridgely/icons/missing.png"));
+    }
+
+    @Test
+    void productImage_resolvesBarcode() {
+        AssetRegistry registry = new AssetRegistry(List.of(MILK, HOME, NOT_FOUND));
+
+        assertEquals(registry.handle(MILK), registry.productImage("7610200337423"));
+        assertEquals(registry.handle(NOT_FOUND), registry.notFoundImage());
+        assertEquals(AssetRegistry.NO_ASSET, registry.productImage("0000000000000"));
+        assertEquals(AssetRegistry.NO_ASSET, registry.productImage(null));
+    }
+
+    @Test
+    void notFoundImage_missingPlaceholder() {
+        assertEquals(AssetRegistry.NO_ASSET, new AssetRegistry(List.of(HOME)).notFoundImage());
+    }
+
+    @Test
+    void scan_findsApplicationImages() {
+        AssetRegistry registry = AssetRegistry.scan(getClass().getClassLoader());
+
+        assertNotEquals(AssetRegistry.NO_ASSET, registry.handle(HOME));
+        assertNotEquals(AssetRegistry.NO_ASSET, registry.notFoundImage());
+        assertNotEquals(AssetRegistry.NO_ASSET, registry.handle("/ch/primeo/fridgely/sprites/LocalAndBio/bio.png"));
+        assertNotNull(registry.contentStamp());
+        assertEquals(registry.contentStamp(), AssetRegistry.scan(getClass().getClassLoader()).contentStamp());
+    }
+}
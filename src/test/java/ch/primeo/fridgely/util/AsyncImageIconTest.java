@@ -0,0 +1,70 @@
+package ch.primeo.fridgely.util;
+
+import org.junit.jupiter.api.*;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncImageIconTest {
+
+    @BeforeAll
+    static void headless() {
+        System.setProperty("java.awt.headless", "true");
+    }
+
+    @Test
+    void of_returnsLoadedImageDirectly() {
+        ImageIcon image = new ImageIcon(new BufferedImage(4, 4, BufferedImage.TYPE_INT_ARGB));
+
+        assertSame(image, AsyncImageIcon.of(CompletableFuture.completedFuture(image), 4, 4));
+    }
+
+    @Test
+    void paintIcon_repaintsOwnerOnEdtOnceLoaded() throws Exception {
+        CompletableFuture<ImageIcon> future = new CompletableFuture<>();
+        AsyncImageIcon icon = (AsyncImageIcon) AsyncImageIcon.of(future, 4, 4);
+        AtomicInteger repaints = new AtomicInteger();
+        Component owner = new Component() {
+            @Override
+            public void repaint() {
+                assertTrue(SwingUtilities.isEventDispatchThread());
+                repaints.incrementAndGet();
+            }
+        };
+        BufferedImage canvas = new BufferedImage(4, 4, BufferedImage.TYPE_INT_ARGB);
+        Graphics g = canvas.getGraphics();
+
+        icon.paintIcon(owner, g, 0, 0);
+        assertEquals(4, icon.getIconWidth());
+        assertNotEquals(0, canvas.getRGB(2, 2) >>> 24, "Placeholder is painted");
+
+        BufferedImage red = new BufferedImage(4, 4, BufferedImage.TYPE_INT_ARGB);
+        red.setRGB(2, 2, Color.RED.getRGB());
+        future.complete(new ImageIcon(red));
+        SwingUtilities.invokeAndWait(() -> {
+        });
+
+        assertTrue(icon.isLoaded());
+        assertEquals(1, repaints.get());
+        icon.paintIcon(owner, g, 0, 0);
+        g.dispose();
+        assertEquals(Color.RED.getRGB(), canvas.getRGB(2, 2));
+    }
+
+    @Test
+    void failedLoadKeepsPlaceholder() throws Exception {
+        CompletableFuture<ImageIcon> future = new CompletableFuture<>();
+        AsyncImageIcon icon = (AsyncImageIcon) AsyncImageIcon.of(future, 4, 4);
+
+        future.completeExceptionally(new IllegalStateException("broken"));
+        SwingUtilities.invokeAndWait(() -> {
+        });
+
+        assertFalse(icon.isLoaded());
+    }
+}
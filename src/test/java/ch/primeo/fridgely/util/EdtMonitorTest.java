@@ -0,0 +1,133 @@
+package ch.primeo.fridgely.util;
+
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EdtMonitorTest {
+
+    private static final long MS = 1_000_000L;
+
+    private AtomicLong clock;
+    private Deque<Runnable> eventQueue;
+    private EdtMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong(0);
+        eventQueue = new ArrayDeque<>();
+        monitor = new EdtMonitor(clock::get, 200, eventQueue::add);
+    }
+
+    @Test
+    void tick_shouldPostOneProbeAtATime() {
+        monitor.tick();
+        monitor.tick();
+
+        assertEquals(1, eventQueue.size());
+
+        clock.addAndGet(15 * MS);
+        eventQueue.poll().run();
+        monitor.tick();
+
+        assertEquals(1, eventQueue.size());
+        assertEquals(15, monitor.getLastLatencyMillis());
+        assertEquals(0, monitor.getStallCount());
+    }
+
+    @Test
+    void tick_shouldCaptureStackOfBlockedEventDispatchThread() {
+        // The first probe tells the monitor which thread dispatches events
+        monitor.tick();
+        eventQueue.poll().run();
+
+        monitor.tick();
+        clock.addAndGet(150 * MS);
+        monitor.tick();
+        assertEquals(0, monitor.getStallCount());
+
+        clock.addAndGet(100 * MS);
+        monitor.tick();
+        monitor.tick();
+
+        assertEquals(1, monitor.getStallCount());
+        StackTraceElement[] stack = monitor.getLastStallStack();
+        assertNotNull(stack);
+        assertTrue(Arrays.stream(stack).anyMatch(e -> e.getClassName().equals(EdtMonitor.class.getName())));
+
+        clock.addAndGet(50 * MS);
+        eventQueue.poll().run();
+
+        assertEquals(1, monitor.getStallCount());
+        assertEquals(300, monitor.getMaxLatencyMillis());
+    }
+
+    @Test
+    void tick_shouldCaptureStackOfThreadRecordedAtStart() {
+        monitor.recordEventDispatchThread();
+        eventQueue.poll().run();
+
+        // The first probe is still queued when the stall is detected
+        monitor.tick();
+        clock.addAndGet(250 * MS);
+        monitor.tick();
+
+        assertEquals(1, monitor.getStallCount());
+        assertTrue(Arrays.stream(monitor.getLastStallStack())
+                .anyMatch(e -> e.getClassName().equals(EdtMonitorTest.class.getName())));
+    }
+
+    @Test
+    void fromSystemProperties_shouldBeDisabledByDefault() {
+        String enabled = System.clearProperty(EdtMonitor.ENABLED_PROPERTY);
+        try {
+            assertNull(EdtMonitor.fromSystemProperties());
+        } finally {
+            if (enabled != null) {
+                System.setProperty(EdtMonitor.ENABLED_PROPERTY, enabled);
+            }
+        }
+    }
+
+    @Test
+    void probe_shouldCountStallMissedByWatchdog() {
+        monitor.tick();
+        clock.addAndGet(250 * MS);
+        eventQueue.poll().run();
+
+        assertEquals(1, monitor.getStallCount());
+        assertEquals(0, monitor.getLastStallStack().length);
+    }
+
+    @Test
+    void recordPaint_shouldAggregatePerComponentClass() {
+        monitor.recordPaint(String.class, 2 * MS);
+        monitor.recordPaint(String.class, 6 * MS);
+        monitor.recordPaint(Integer.class, 5 * MS);
+
+        List<EdtMonitor.PaintStatistics> statistics = monitor.getPaintStatistics();
+
+        assertEquals(2, statistics.size());
+        assertEquals("String", statistics.get(0).getComponent());
+        assertEquals(2, statistics.get(0).getCount());
+        assertEquals(8 * MS, statistics.get(0).getTotalNanos());
+        assertEquals(6 * MS, statistics.get(0).getMaxNanos());
+        assertEquals("Integer", statistics.get(1).getComponent());
+    }
+
+    @Test
+    void summary_shouldListLatencyStallsAndPaints() {
+        monitor.tick();
+        clock.addAndGet(3 * MS);
+        eventQueue.poll().run();
+        monitor.recordPaint(String.class, 2 * MS);
+
+        String summary = monitor.summary();
+
+        assertTrue(summary.startsWith("EDT latency 3 ms (max 3 ms, 1 probes), 0 stalls"), summary);
+        assertTrue(summary.contains("paint String 2.0 ms/1 (max 2.0 ms)"), summary);
+    }
+}
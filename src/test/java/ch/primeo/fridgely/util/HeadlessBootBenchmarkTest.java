@@ -0,0 +1,69 @@
+package ch.primeo.fridgely.util;
+
+import ch.primeo.fridgely.Fridgely;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.nio.file.*;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Measures the headless part of the boot: the application context started while all images are preloaded in
+ * parallel, like {@code Fridgely.main} does, and fails when it takes longer than {@code app.startup.headless-budget-ms}.
+ * The splash window, the EDT and the first frame are not part of it; the full boot of the application is reported by
+ * {@link StartupProfiler} in {@code startup-report.json}. Run with {@code mvn -P startup-benchmark test}.
+ */
+@Tag("benchmark")
+class HeadlessBootBenchmarkTest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HeadlessBootBenchmarkTest.class.getName());
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void contextAndImagePreload_shouldStayWithinBudget() throws Exception {
+        long origin = System.nanoTime();
+        Path reportFile = tempDir.resolve("startup-report.json");
+        StartupProfiler profiler = new StartupProfiler(() -> System.nanoTime() - origin, reportFile);
+
+        ExecutorService bootExecutor = ImageLoader.newPreloadExecutor();
+        try {
+            ImageLoader imageLoader = new ImageLoader(new DefaultResourceLoader(Fridgely.class.getClassLoader()));
+            long preloadStart = profiler.nanoTime();
+            CompletableFuture<Void> preload = imageLoader.preloadAllImagesAsync(bootExecutor, (loaded, total) -> {
+            });
+
+            try (ConfigurableApplicationContext context = profiler.time("spring-context",
+                    () -> new SpringApplicationBuilder(Fridgely.class)
+                            .headless(true)
+                            .lazyInitialization(true)
+                            .applicationStartup(profiler.getApplicationStartup())
+                            .properties("spring.datasource.url=jdbc:sqlite:" + tempDir.resolve("fridgely.db"),
+                                    "spring.jpa.show-sql=false")
+                            .run())) {
+                profiler.collectSpringTimeline();
+                preload.get(1, TimeUnit.MINUTES);
+                profiler.recordPhase("preload-images", preloadStart, profiler.nanoTime());
+                profiler.markBootComplete();
+                profiler.markFirstFrameVisible();
+
+                long budget = context.getEnvironment().getProperty("app.startup.headless-budget-ms", Long.class,
+                        15000L);
+                LOGGER.info("Headless boot report:{}{}", System.lineSeparator(), Files.readString(reportFile));
+
+                assertTrue(profiler.getPhaseMillis("jpa-bootstrap") >= 0, "JPA bootstrap should be reported");
+                assertTrue(profiler.getBootMillis() <= budget,
+                        "Headless boot took " + profiler.getBootMillis() + " ms, budget is " + budget + " ms");
+            }
+        } finally {
+            bootExecutor.shutdown();
+        }
+    }
+}
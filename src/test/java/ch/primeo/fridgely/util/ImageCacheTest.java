@@ -0,0 +1,178 @@
+package ch.primeo.fridgely.util;
+
+import org.junit.jupiter.api.*;
+
+import javax.swing.ImageIcon;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ImageCacheTest {
+
+    // 10x10 ARGB image
+    private static final int IMAGE_BYTES = 400;
+
+    private ImageCache cache;
+
+    @BeforeAll
+    static void headless() {
+        System.setProperty("java.awt.headless", "true");
+    }
+
+    @BeforeEach
+    void setUp() {
+        cache = new ImageCache(IMAGE_BYTES * 3, false, Runnable::run);
+    }
+
+    @Test
+    void get_loadsOnceAndCountsHitsAndMisses() {
+        AtomicInteger loads = new AtomicInteger();
+        ImageCache.Key key = new ImageCache.Key("/a.png", "10x10");
+
+        BufferedImage first = cache.get(key, BufferedImage.class, k -> {
+            loads.incrementAndGet();
+            return image();
+        });
+        BufferedImage second = cache.get(key, BufferedImage.class, k -> fail("Must not load again"));
+
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+        ImageCache.Statistics stats = cache.getStatistics();
+        assertEquals(1, stats.hits());
+        assertEquals(1, stats.misses());
+        assertEquals(IMAGE_BYTES, stats.usedBytes());
+        assertEquals(IMAGE_BYTES * 3, stats.budgetBytes());
+    }
+
+    @Test
+    void getIfPresent_doesNotLoad() {
+        ImageCache.Key key = new ImageCache.Key("/a.png", "10x10");
+
+        assertNull(cache.getIfPresent(key, BufferedImage.class));
+        BufferedImage loaded = cache.get(key, BufferedImage.class, k -> image());
+
+        assertSame(loaded, cache.getIfPresent(key, BufferedImage.class));
+    }
+
+    @Test
+    void get_nullIsNotCached() {
+        ImageCache.Key key = new ImageCache.Key("/missing.png", "icon");
+
+        assertNull(cache.get(key, ImageIcon.class, k -> null));
+        assertNotNull(cache.get(key, ImageIcon.class, k -> new ImageIcon(image())));
+    }
+
+    @Test
+    void get_loaderMayLoadOtherImages() {
+        ImageCache.Key original = new ImageCache.Key("/a.png", "buffered");
+        ImageCache.Key scaled = new ImageCache.Key("/a.png", "5x5");
+
+        BufferedImage result = cache.get(scaled, BufferedImage.class,
+                k -> cache.get(original, BufferedImage.class, o -> image()));
+
+        assertSame(result, cache.get(original, BufferedImage.class, k -> fail("Must be cached")));
+    }
+
+    @Test
+    void get_evictsBeyondBudget() {
+        for (int i = 0; i < 10; i++) {
+            cache.get(new ImageCache.Key("/" + i + ".png", "10x10"), BufferedImage.class, k -> image());
+        }
+        cache.cleanUp();
+
+        ImageCache.Statistics stats = cache.getStatistics();
+        assertTrue(stats.usedBytes() <= IMAGE_BYTES * 3);
+        assertTrue(stats.evictions() >= 7);
+    }
+
+    @Test
+    void pin_keepsImagesOutOfBudget() {
+        cache.pin("/pinned.png");
+        ImageCache.Key pinned = new ImageCache.Key("/pinned.png", "buffered");
+        BufferedImage image = cache.get(pinned, BufferedImage.class, k -> image());
+
+        for (int i = 0; i < 10; i++) {
+            cache.get(new ImageCache.Key("/" + i + ".png", "10x10"), BufferedImage.class, k -> image());
+        }
+        cache.cleanUp();
+
+        assertSame(image, cache.get(pinned, BufferedImage.class, k -> fail("Pinned image was evicted")));
+    }
+
+    @Test
+    void softTier_restoresEvictedImages() {
+        ImageCache softCache = new ImageCache(IMAGE_BYTES, true, Runnable::run);
+        ImageCache.Key first = new ImageCache.Key("/first.png", "10x10");
+        BufferedImage image = softCache.get(first, BufferedImage.class, k -> image());
+        softCache.get(new ImageCache.Key("/second.png", "10x10"), BufferedImage.class, k -> image());
+        softCache.get(new ImageCache.Key("/third.png", "10x10"), BufferedImage.class, k -> image());
+        softCache.cleanUp();
+
+        // image is strongly reachable here, so the soft reference cannot have been cleared
+        BufferedImage restored = softCache.get(first, BufferedImage.class, k -> image());
+
+        assertTrue(softCache.getStatistics().evictions() >= 1);
+        assertSame(image, restored);
+    }
+
+    @Test
+    void setBudget_shrinksCache() {
+        for (int i = 0; i < 3; i++) {
+            cache.get(new ImageCache.Key("/" + i + ".png", "10x10"), BufferedImage.class, k -> image());
+        }
+
+        cache.setBudget(IMAGE_BYTES);
+        cache.cleanUp();
+
+        assertTrue(cache.getStatistics().usedBytes() <= IMAGE_BYTES);
+    }
+
+    @Test
+    void get_concurrentRequestsLoadOnce() throws Exception {
+        ImageCache.Key key = new ImageCache.Key("/slow.png", "10x10");
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<BufferedImage> first = executor.submit(() -> cache.get(key, BufferedImage.class, k -> {
+                loads.incrementAndGet();
+                loading.countDown();
+                await(release);
+                return image();
+            }));
+            loading.await();
+            Future<BufferedImage> second = executor.submit(() -> cache.get(key, BufferedImage.class, k -> {
+                loads.incrementAndGet();
+                return image();
+            }));
+            release.countDown();
+
+            assertSame(first.get(5, TimeUnit.SECONDS), second.get(5, TimeUnit.SECONDS));
+            assertEquals(1, loads.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void weigh_countsPixelBytes() {
+        assertEquals(IMAGE_BYTES, ImageCache.weigh(image()));
+        assertEquals(IMAGE_BYTES, ImageCache.weigh(new ImageIcon(image())));
+        assertEquals(1, ImageCache.weigh("not an image"));
+    }
+
+    private static BufferedImage image() {
+        return new BufferedImage(10, 10, BufferedImage.TYPE_INT_ARGB);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
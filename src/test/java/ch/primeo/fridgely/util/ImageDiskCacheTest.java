@@ -0,0 +1,186 @@
+package ch.primeo.fridgely.util;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.nio.file.*;
+import java.nio.file.attribute.FileTime;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ImageDiskCacheTest {
+
+    private static final byte[] CONTENT = {1, 2, 3};
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeAll
+    static void headless() {
+        System.setProperty("java.awt.headless", "true");
+    }
+
+    @Test
+    void put_thenGet_returnsSamePixels() throws Exception {
+        ImageDiskCache cache = new ImageDiskCache(tempDir, "1.0", 1024 * 1024);
+        String key = ImageDiskCache.key("/a.png", CONTENT, 4, 3);
+        BufferedImage image = new BufferedImage(4, 3, BufferedImage.TYPE_INT_ARGB);
+        image.setRGB(1, 2, 0x80FF0000);
+        image.setRGB(3, 0, Color.BLUE.getRGB());
+
+        cache.put(key, image);
+        BufferedImage cached = new ImageDiskCache(tempDir, "1.0", 1024 * 1024).get(key);
+
+        assertNotNull(cached);
+        assertEquals(4, cached.getWidth());
+        assertEquals(3, cached.getHeight());
+        assertEquals(Color.BLUE.getRGB(), cached.getRGB(3, 0));
+        assertEquals(0x80, cached.getRGB(1, 2) >>> 24);
+        assertEquals(0, cached.getRGB(0, 0));
+    }
+
+    @Test
+    void get_missingEntry_countsMiss() throws Exception {
+        ImageDiskCache cache = new ImageDiskCache(tempDir, "1.0", 1024);
+
+        assertNull(cache.get(ImageDiskCache.key("/a.png", CONTENT, 4, 4)));
+        assertEquals(1, cache.getMisses());
+        assertEquals(0, cache.getHits());
+    }
+
+    @Test
+    void key_dependsOnPathContentAndSize() {
+        String key = ImageDiskCache.key("/a.png", CONTENT, 48, 48);
+
+        assertEquals(key, ImageDiskCache.key("/a.png", CONTENT, 48, 48));
+        assertNotEquals(key, ImageDiskCache.key("/b.png", CONTENT, 48, 48));
+        assertNotEquals(key, ImageDiskCache.key("/a.png", new byte[]{1, 2, 4}, 48, 48));
+        assertNotEquals(key, ImageDiskCache.key("/a.png", CONTENT, 75, 75));
+    }
+
+    @Test
+    void open_withOtherVersion_clearsEntries() throws Exception {
+        String key = ImageDiskCache.key("/a.png", CONTENT, 2, 2);
+        new ImageDiskCache(tempDir, "1.0", 1024).put(key, new BufferedImage(2, 2, BufferedImage.TYPE_INT_ARGB));
+
+        ImageDiskCache reopened = new ImageDiskCache(tempDir, "1.1", 1024);
+
+        assertNull(reopened.get(key));
+        assertEquals(0, reopened.getTotalBytes());
+    }
+
+    @Test
+    void open_deletesLeftoverTempFiles() throws Exception {
+        new ImageDiskCache(tempDir, "1.0", 1024);
+        Path leftover = Files.write(tempDir.resolve("abc123.tmp"), new byte[]{1, 2, 3});
+
+        new ImageDiskCache(tempDir, "1.0", 1024);
+
+        assertFalse(Files.exists(leftover));
+    }
+
+    @Test
+    void put_failedMove_deletesTempFile() throws Exception {
+        ImageDiskCache cache = new ImageDiskCache(tempDir, "1.0", 1024);
+        String key = ImageDiskCache.key("/a.png", CONTENT, 2, 2);
+        // A non-empty directory in place of the entry cannot be replaced
+        Files.createDirectories(tempDir.resolve(key + ".argb").resolve("blocker"));
+
+        cache.put(key, new BufferedImage(2, 2, BufferedImage.TYPE_INT_ARGB));
+
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertTrue(files.noneMatch(file -> file.getFileName().toString().endsWith(".tmp")));
+        }
+        assertEquals(0, cache.getTotalBytes());
+    }
+
+    @Test
+    void put_beyondCap_evictsLeastRecentlyUsed() throws Exception {
+        // Each 8x8 entry takes 268 bytes, so two fit
+        ImageDiskCache cache = new ImageDiskCache(tempDir, "1.0", 600);
+        String first = ImageDiskCache.key("/first.png", CONTENT, 8, 8);
+        String second = ImageDiskCache.key("/second.png", CONTENT, 8, 8);
+        String third = ImageDiskCache.key("/third.png", CONTENT, 8, 8);
+
+        cache.put(first, new BufferedImage(8, 8, BufferedImage.TYPE_INT_ARGB));
+        cache.put(second, new BufferedImage(8, 8, BufferedImage.TYPE_INT_ARGB));
+        Files.setLastModifiedTime(tempDir.resolve(first + ".argb"), FileTime.fromMillis(1000));
+        Files.setLastModifiedTime(tempDir.resolve(second + ".argb"), FileTime.fromMillis(2000));
+        cache.put(third, new BufferedImage(8, 8, BufferedImage.TYPE_INT_ARGB));
+
+        assertNull(cache.get(first));
+        assertNotNull(cache.get(second));
+        assertNotNull(cache.get(third));
+        assertTrue(cache.getTotalBytes() <= 600);
+    }
+
+    @Test
+    void get_corruptEntry_isDiscarded() throws Exception {
+        ImageDiskCache cache = new ImageDiskCache(tempDir, "1.0", 1024);
+        String key = ImageDiskCache.key("/a.png", CONTENT, 2, 2);
+        Files.write(tempDir.resolve(key + ".argb"), new byte[]{1, 2, 3, 4, 5});
+
+        assertNull(cache.get(key));
+        assertFalse(Files.exists(tempDir.resolve(key + ".argb")));
+    }
+
+    @Test
+    void writeAtlas_isMappedOnNextOpen() throws Exception {
+        ImageDiskCache cache = new ImageDiskCache(tempDir, "1.0", 1024);
+        assertFalse(cache.needsAtlas());
+        cache.openAtlas("stamp-1");
+        assertTrue(cache.needsAtlas());
+        assertNull(cache.getFromAtlas("/a.png_2x2"));
+
+        writeRedAtlas(cache);
+        ImageDiskCache reopened = new ImageDiskCache(tempDir, "1.0", 1024);
+        reopened.openAtlas("stamp-1");
+
+        assertFalse(reopened.needsAtlas());
+        assertEquals(Color.RED.getRGB(), reopened.getFromAtlas("/a.png_2x2").getRGB(1, 1));
+        ImageDiskCache otherVersion = new ImageDiskCache(tempDir, "1.1", 1024);
+        otherVersion.openAtlas("stamp-1");
+        assertNull(otherVersion.getFromAtlas("/a.png_2x2"));
+    }
+
+    @Test
+    void openAtlas_changedResources_ignoresAtlas() throws Exception {
+        ImageDiskCache cache = new ImageDiskCache(tempDir, "1.0", 1024);
+        cache.openAtlas("stamp-1");
+        writeRedAtlas(cache);
+
+        // Same version, but e.g. re-optimized sprites in the new build
+        ImageDiskCache rebuilt = new ImageDiskCache(tempDir, "1.0", 1024);
+        rebuilt.openAtlas("stamp-2");
+
+        assertNull(rebuilt.getFromAtlas("/a.png_2x2"));
+        assertTrue(rebuilt.needsAtlas());
+    }
+
+    @Test
+    void openAtlas_unknownStamp_disablesAtlas() throws Exception {
+        ImageDiskCache cache = new ImageDiskCache(tempDir, "1.0", 1024);
+
+        cache.openAtlas(null);
+
+        assertFalse(cache.needsAtlas());
+    }
+
+    @Test
+    void devVersion_skipsAtlas() throws Exception {
+        ImageDiskCache cache = new ImageDiskCache(tempDir, "dev", 1024);
+        cache.openAtlas("stamp-1");
+
+        assertFalse(cache.needsAtlas());
+    }
+
+    private static void writeRedAtlas(ImageDiskCache cache) {
+        BufferedImage image = new BufferedImage(2, 2, BufferedImage.TYPE_INT_ARGB);
+        image.setRGB(1, 1, Color.RED.getRGB());
+        cache.writeAtlas(Map.of("/a.png_2x2", image));
+    }
+}
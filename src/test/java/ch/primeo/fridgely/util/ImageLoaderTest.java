@@ -2,16 +2,20 @@ package ch.primeo.fridgely.util;
 
 import ch.primeo.fridgely.model.PenguinFacialExpression;
 import org.junit.jupiter.api.*;
-import org.mockito.Mockito;
+import org.junit.jupiter.api.io.TempDir;
 import org.springframework.core.io.*;
 
 import javax.imageio.ImageIO;
+import javax.swing.Icon;
 import javax.swing.ImageIcon;
 import java.awt.*;
 import java.awt.image.BufferedImage;
 import java.io.*;
+import java.nio.file.*;
 import java.util.*;
 import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -49,11 +53,10 @@ class ImageLoaderTest {
     @Test
     void testLoadImage_success() throws Exception {
         String imagePath = "test.png";
-        byte[] imageData = new byte[] {(byte) 0x89, 0x50, 0x4E, 0x47}; // PNG header bytes
 
         Resource resource = mock(Resource.class);
         when(resourceLoader.getResource("classpath:" + imagePath)).thenReturn(resource);
-        when(resource.getInputStream()).thenReturn(new ByteArrayInputStream(imageData));
+        when(resource.getInputStream()).thenReturn(new ByteArrayInputStream(sampleImageBytes));
 
         ImageIcon icon = imageLoader.loadImage(imagePath);
 
@@ -77,11 +80,10 @@ class ImageLoaderTest {
     @Test
     void testLoadImage_caching() throws Exception {
         String imagePath = "cached.png";
-        byte[] data = new byte[] {(byte) 0x89, 0x50};
 
         Resource resource = mock(Resource.class);
         when(resourceLoader.getResource("classpath:" + imagePath)).thenReturn(resource);
-        when(resource.getInputStream()).thenReturn(new ByteArrayInputStream(data));
+        when(resource.getInputStream()).thenReturn(new ByteArrayInputStream(sampleImageBytes));
 
         ImageIcon first = imageLoader.loadImage(imagePath);
         ImageIcon second = imageLoader.loadImage(imagePath);
@@ -94,45 +96,267 @@ class ImageLoaderTest {
     void testLoadBufferedImage_success() throws Exception {
         String path = "test-buffered.png";
 
-        BufferedImage dummyImage = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB);
-        InputStream is = new ByteArrayInputStream(new byte[10]);
+        Resource resource = mock(Resource.class);
+        when(resourceLoader.getResource("classpath:" + path)).thenReturn(resource);
+        when(resource.getInputStream()).thenReturn(new ByteArrayInputStream(sampleImageBytes));
+
+        BufferedImage result = imageLoader.loadBufferedImage(path);
+
+        assertNotNull(result);
+        assertEquals(10, result.getWidth());
+        assertEquals(Color.RED.getRGB(), result.getRGB(5, 5));
+        assertSame(result, imageLoader.loadBufferedImage(path));
+    }
 
+    @Test
+    void loadImageAndLoadScaledImage_shareOneDecode() throws Exception {
+        String path = "shared.png";
         Resource resource = mock(Resource.class);
         when(resourceLoader.getResource("classpath:" + path)).thenReturn(resource);
-        when(resource.getInputStream()).thenReturn(is);
+        when(resource.getInputStream()).thenAnswer(inv -> new ByteArrayInputStream(sampleImageBytes));
 
-        // Override ImageIO.read to avoid real file reading
-        try (var mocked = Mockito.mockStatic(ImageIO.class)) {
-            mocked.when(() -> ImageIO.read(is)).thenReturn(dummyImage);
+        BufferedImage buffered = imageLoader.loadBufferedImage(path);
+        ImageIcon icon = imageLoader.loadImage(path);
+        ImageIcon scaled = imageLoader.loadScaledImage(path, 5, 5);
 
-            BufferedImage result = imageLoader.loadBufferedImage(path);
+        assertSame(buffered, icon.getImage());
+        assertEquals(5, scaled.getIconWidth());
+        verify(resource, times(1)).getInputStream();
+    }
 
-            assertNotNull(result);
-            assertSame(dummyImage, result);
-        }
+    @Test
+    void loadImage_undecodableImageReturnsNull() throws Exception {
+        Resource resource = mock(Resource.class);
+        when(resourceLoader.getResource("classpath:broken.png")).thenReturn(resource);
+        when(resource.getInputStream()).thenReturn(new ByteArrayInputStream(new byte[] {(byte) 0x89, 0x50}));
+
+        assertNull(imageLoader.loadImage("broken.png"));
+        assertNull(imageLoader.loadScaledImage("broken.png", 5, 5));
     }
 
     @Test
     void testLoadScaledImage_returnsScaledIcon() throws Exception {
         String path = "scaled.png";
-        byte[] imageBytes = new byte[] {(byte) 0x89, 0x50};
 
         Resource resource = mock(Resource.class);
         when(resourceLoader.getResource("classpath:" + path)).thenReturn(resource);
-        when(resource.getInputStream()).thenReturn(new ByteArrayInputStream(imageBytes));
+        when(resource.getInputStream()).thenReturn(new ByteArrayInputStream(sampleImageBytes));
 
         ImageIcon scaledIcon = imageLoader.loadScaledImage(path, 100, 100);
         assertNotNull(scaledIcon);
     }
 
+    @Test
+    void testLoadScaledImage_scalesEagerlyToBufferedImage() {
+        String path = "eager.png";
+        when(resourceLoader.getResource("classpath:" + path)).thenReturn(new ByteArrayResource(sampleImageBytes));
+
+        ImageIcon scaledIcon = imageLoader.loadScaledImage(path, 48, 32);
+
+        assertInstanceOf(BufferedImage.class, scaledIcon.getImage());
+        assertEquals(48, scaledIcon.getIconWidth());
+        assertEquals(32, scaledIcon.getIconHeight());
+        assertSame(scaledIcon, imageLoader.loadScaledImage(path, 48, 32));
+    }
+
+    @Test
+    void testLoadScaledImage_readsScaledImageFromDiskCacheAfterRestart(@TempDir Path cacheDir) throws Exception {
+        String path = "cached.png";
+        when(resourceLoader.getResource("classpath:" + path)).thenReturn(new ByteArrayResource(sampleImageBytes));
+
+        ImageDiskCache firstRun = new ImageDiskCache(cacheDir, "1.0", 1024 * 1024);
+        ImageIcon scaled = new ImageLoader(resourceLoader, firstRun).loadScaledImage(path, 40, 40);
+        ImageDiskCache secondRun = new ImageDiskCache(cacheDir, "1.0", 1024 * 1024);
+        ImageIcon cached = new ImageLoader(resourceLoader, secondRun).loadScaledImage(path, 40, 40);
+
+        assertEquals(1, firstRun.getMisses());
+        assertEquals(1, secondRun.getHits());
+        assertEquals(40, cached.getIconWidth());
+        assertEquals(((BufferedImage) scaled.getImage()).getRGB(20, 20),
+                ((BufferedImage) cached.getImage()).getRGB(20, 20));
+    }
+
+    @Test
+    void testLoadScaledImageByHandle_reusesLoadedIcon() {
+        ImageLoader loader = loaderWithAssets("/ch/primeo/fridgely/productimages/001.png",
+                "/ch/primeo/fridgely/productimages/notfound.png");
+        when(resourceLoader.getResource(anyString())).thenAnswer(inv -> new ByteArrayResource(sampleImageBytes));
+        int handle = loader.getAssets().productImage("001");
+
+        ImageIcon first = loader.loadScaledImage(handle, 30, 30);
+        ImageIcon second = loader.loadScaledImage(handle, 30, 30);
+        ImageIcon otherSize = loader.loadScaledImage(handle, 20, 20);
+
+        assertSame(first, second);
+        assertSame(first, loader.loadScaledImage("/ch/primeo/fridgely/productimages/001.png", 30, 30));
+        assertEquals(20, otherSize.getIconWidth());
+        assertSame(first, loader.loadScaledImage(handle, 30, 30));
+        verify(resourceLoader, times(1)).getResource("classpath:/ch/primeo/fridgely/productimages/001.png");
+    }
+
+    @Test
+    void testLoadScaledImageByHandle_unknownHandle() {
+        ImageLoader loader = loaderWithAssets("/ch/primeo/fridgely/productimages/001.png");
+
+        assertNull(loader.loadScaledImage(AssetRegistry.NO_ASSET, 30, 30));
+        assertNull(loader.loadScaledImage(5, 30, 30));
+    }
+
+    @Test
+    void testLoadProductImage_fallsBackToPlaceholder() {
+        ImageLoader loader = loaderWithAssets("/ch/primeo/fridgely/productimages/notfound.png");
+        when(resourceLoader.getResource(anyString())).thenAnswer(inv -> new ByteArrayResource(sampleImageBytes));
+
+        ImageIcon icon = loader.loadProductImage("999", 30, 30);
+
+        assertSame(loader.loadScaledImage(loader.getAssets().notFoundImage(), 30, 30), icon);
+    }
+
+    @Test
+    void testClearCache_resetsHandleTable() {
+        ImageLoader loader = loaderWithAssets("/ch/primeo/fridgely/productimages/001.png");
+        when(resourceLoader.getResource(anyString())).thenAnswer(inv -> new ByteArrayResource(sampleImageBytes));
+        int handle = loader.getAssets().productImage("001");
+        ImageIcon before = loader.loadScaledImage(handle, 30, 30);
+
+        loader.clearCache();
+
+        assertNotSame(before, loader.loadScaledImage(handle, 30, 30));
+    }
+
+    private ImageLoader loaderWithAssets(String... paths) {
+        ImageLoader loader = spy(new ImageLoader(resourceLoader));
+        doReturn(new AssetRegistry(List.of(paths))).when(loader).scanAssets();
+        return loader;
+    }
+
+    @Test
+    void loadScaledImage_decodesPrescaledVariantInsteadOfOriginal() throws Exception {
+        ImageLoader loader = spy(new ImageLoader(resourceLoader));
+        doReturn(new SpriteIndex(Map.of("/sprites/penguin.png@10x10", "/optimized/sprites/penguin_10x10.png")))
+                .when(loader).loadSpriteIndex();
+        when(resourceLoader.getResource("classpath:/optimized/sprites/penguin_10x10.png"))
+                .thenReturn(new ByteArrayResource(sampleImageBytes));
+
+        ImageIcon icon = loader.loadScaledImage("/sprites/penguin.png", 10, 10);
+
+        assertEquals(10, icon.getIconWidth());
+        verify(resourceLoader, never()).getResource("classpath:/sprites/penguin.png");
+    }
+
+    @Test
+    void loadScaledImage_scalesOriginalForUndeclaredSize() throws Exception {
+        ImageLoader loader = spy(new ImageLoader(resourceLoader));
+        doReturn(new SpriteIndex(Map.of("/sprites/penguin.png@10x10", "/optimized/sprites/penguin_10x10.png")))
+                .when(loader).loadSpriteIndex();
+        when(resourceLoader.getResource("classpath:/sprites/penguin.png"))
+                .thenReturn(new ByteArrayResource(sampleImageBytes));
+
+        ImageIcon icon = loader.loadScaledImage("/sprites/penguin.png", 4, 4);
+
+        assertEquals(4, icon.getIconWidth());
+        verify(resourceLoader, never()).getResource("classpath:/optimized/sprites/penguin_10x10.png");
+    }
+
+    @Test
+    void loadBufferedImage_readsDisplayCopyCachedUnderOriginalPath() throws Exception {
+        ImageLoader loader = spy(new ImageLoader(resourceLoader));
+        doReturn(new SpriteIndex(Map.of("/sprites/penguin.png@display", "/optimized/sprites/penguin.png")))
+                .when(loader).loadSpriteIndex();
+        when(resourceLoader.getResource("classpath:/optimized/sprites/penguin.png"))
+                .thenReturn(new ByteArrayResource(sampleImageBytes));
+
+        BufferedImage image = loader.loadBufferedImage("/sprites/penguin.png");
+
+        assertEquals(10, image.getWidth());
+        assertSame(image, loader.loadBufferedImage("/sprites/penguin.png"));
+        verify(resourceLoader, never()).getResource("classpath:/sprites/penguin.png");
+    }
+
+    @Test
+    void loadScaledImageAsync_sharesOneLoadBetweenConcurrentRequests() throws Exception {
+        CountDownLatch reading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Resource resource = mock(Resource.class);
+        when(resourceLoader.getResource("classpath:/async.png")).thenReturn(resource);
+        when(resource.getInputStream()).thenAnswer(inv -> {
+            reading.countDown();
+            release.await(10, TimeUnit.SECONDS);
+            return new ByteArrayInputStream(sampleImageBytes);
+        });
+
+        CompletableFuture<ImageIcon> first = imageLoader.loadScaledImageAsync("/async.png", 5, 5);
+        assertTrue(reading.await(10, TimeUnit.SECONDS));
+        CompletableFuture<ImageIcon> second = imageLoader.loadScaledImageAsync("/async.png", 5, 5);
+        release.countDown();
+
+        assertSame(first, second);
+        assertEquals(5, first.get(10, TimeUnit.SECONDS).getIconWidth());
+        verify(resource, times(1)).getInputStream();
+    }
+
+    @Test
+    void loadScaledImageAsync_completesImmediatelyWhenCached() {
+        when(resourceLoader.getResource(anyString())).thenAnswer(inv -> new ByteArrayResource(sampleImageBytes));
+        ImageIcon loaded = imageLoader.loadScaledImage("/cached.png", 5, 5);
+
+        CompletableFuture<ImageIcon> future = imageLoader.loadScaledImageAsync("/cached.png", 5, 5);
+
+        assertTrue(future.isDone());
+        assertSame(loaded, future.join());
+        assertSame(loaded, imageLoader.loadScaledIcon("/cached.png", 5, 5));
+    }
+
+    @Test
+    void loadProductIcon_returnsPlaceholderUntilLoaded() throws Exception {
+        ImageLoader loader = loaderWithAssets("/ch/primeo/fridgely/productimages/123.png");
+        CountDownLatch release = new CountDownLatch(1);
+        when(resourceLoader.getResource(anyString())).thenAnswer(inv -> {
+            release.await(10, TimeUnit.SECONDS);
+            return new ByteArrayResource(sampleImageBytes);
+        });
+
+        Icon icon = loader.loadProductIcon("123", 8, 8);
+        AsyncImageIcon placeholder = assertInstanceOf(AsyncImageIcon.class, icon);
+        assertEquals(8, placeholder.getIconWidth());
+        assertFalse(placeholder.isLoaded());
+        release.countDown();
+
+        assertEquals(8, placeholder.getFuture().get(10, TimeUnit.SECONDS).getIconWidth());
+    }
+
+    @Test
+    void loadProductIcon_returnsLoadedIconFromHandleTable() {
+        ImageLoader loader = loaderWithAssets("/ch/primeo/fridgely/productimages/001.png",
+                "/ch/primeo/fridgely/productimages/notfound.png");
+        when(resourceLoader.getResource(anyString())).thenAnswer(inv -> new ByteArrayResource(sampleImageBytes));
+        ImageIcon loaded = loader.loadProductImage("001", 30, 30);
+        ImageIcon placeholder = loader.loadProductImage("999", 30, 30);
+
+        assertSame(loaded, loader.loadProductIcon("001", 30, 30));
+        assertSame(loaded, loader.loadScaledIcon("/ch/primeo/fridgely/productimages/001.png", 30, 30));
+        assertSame(loaded, loader.loadProductImageAsync("001", 30, 30).join());
+        assertSame(placeholder, loader.loadProductIcon("999", 30, 30));
+    }
+
+    @Test
+    void loadProductImageAsync_usesPlaceholderImageForUnknownProduct() throws Exception {
+        ImageLoader loader = loaderWithAssets("/ch/primeo/fridgely/productimages/notfound.png");
+        when(resourceLoader.getResource(anyString())).thenAnswer(inv -> new ByteArrayResource(sampleImageBytes));
+
+        ImageIcon icon = loader.loadProductImageAsync("unknown", 6, 6).get(10, TimeUnit.SECONDS);
+
+        assertEquals(6, icon.getIconWidth());
+        verify(resourceLoader).getResource("classpath:/ch/primeo/fridgely/productimages/notfound.png");
+    }
+
     @Test
     void testClearCache_emptiesAll() throws Exception {
         String path = "toClear.png";
-        byte[] data = new byte[] {(byte) 0x89, 0x50};
 
         Resource resource = mock(Resource.class);
         when(resourceLoader.getResource("classpath:" + path)).thenReturn(resource);
-        when(resource.getInputStream()).thenReturn(new ByteArrayInputStream(data));
+        when(resource.getInputStream()).thenReturn(new ByteArrayInputStream(sampleImageBytes));
 
         ImageIcon beforeClear = imageLoader.loadImage(path);
         assertNotNull(beforeClear);
@@ -185,20 +409,20 @@ class ImageLoaderTest {
     }
 
     /**
-     * Additional test to verify loadScaledImage handles null from loadImage
+     * Additional test to verify loadScaledImage handles null from loadBufferedImage
      */
     @Test
-    void loadScaledImage_ShouldHandleNullFromLoadImage() {
-        // Arrange - create a spy that returns null from loadImage
+    void loadScaledImage_ShouldHandleNullFromLoadBufferedImage() {
+        // Arrange - create a spy that returns null from loadBufferedImage
         ImageLoader spyLoader = spy(imageLoader);
-        doReturn(null).when(spyLoader).loadImage(anyString());
+        doReturn(null).when(spyLoader).loadBufferedImage(anyString());
 
         // Act
         ImageIcon result = spyLoader.loadScaledImage("any/path.png", 10, 10);
 
         // Assert
-        assertNull(result, "Should return null when loadImage returns null");
-        verify(spyLoader).loadImage("any/path.png");
+        assertNull(result, "Should return null when loadBufferedImage returns null");
+        verify(spyLoader).loadBufferedImage("any/path.png");
     }
 
     /**
@@ -367,6 +591,159 @@ class ImageLoaderTest {
         assertNull(result, "Should return null when an IOException occurs");
     }
 
+    @Test
+    void preloadAllImagesAsync_runsFirstScreenTaskBeforeOtherImages() throws Exception {
+        ImageLoader spyLoader = spy(imageLoader);
+        Resource productResource = mock(Resource.class);
+        when(productResource.getFilename()).thenReturn("milk.png");
+        doReturn(new Resource[] {productResource}).when(spyLoader).resolveProductImageResources();
+        when(resourceLoader.getResource(anyString())).thenAnswer(inv -> new ByteArrayResource(sampleImageBytes));
+
+        List<String> order = new CopyOnWriteArrayList<>();
+        doAnswer(inv -> {
+            order.add(inv.getArgument(0));
+            return inv.callRealMethod();
+        }).when(spyLoader).loadScaledImage(anyString(), anyInt(), anyInt());
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            CompletableFuture<Void> completion = spyLoader.preloadAllImagesAsync(executor,
+                    () -> spyLoader.loadScaledImage("first/screen.png", 250, 200));
+
+            completion.get(10, TimeUnit.SECONDS);
+
+            assertSame(completion, spyLoader.getPreloadCompletion());
+            assertEquals("first/screen.png", order.getFirst());
+            assertTrue(order.contains("/ch/primeo/fridgely/productimages/milk.png"));
+            assertNotNull(spyLoader.loadScaledImage("/ch/primeo/fridgely/productimages/milk.png", 48, 48));
+            verify(spyLoader).loadImage("/ch/primeo/fridgely/sprites/fridge_interior.png");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void preloadAllImagesAsync_reportsProgressAfterPriorityTasks() throws Exception {
+        ImageLoader spyLoader = spy(imageLoader);
+        doReturn(new Resource[0]).when(spyLoader).resolveProductImageResources();
+        when(resourceLoader.getResource(anyString())).thenAnswer(inv -> new ByteArrayResource(sampleImageBytes));
+
+        List<String> order = new CopyOnWriteArrayList<>();
+        doAnswer(inv -> {
+            order.add(inv.getArgument(0));
+            return inv.callRealMethod();
+        }).when(spyLoader).loadScaledImage(anyString(), anyInt(), anyInt());
+        List<Integer> progress = new CopyOnWriteArrayList<>();
+        AtomicInteger reportedTotal = new AtomicInteger();
+
+        ExecutorService executor = ImageLoader.newPreloadExecutor();
+        try {
+            spyLoader.preloadAllImagesAsync(executor, (loaded, total) -> {
+                        progress.add(loaded);
+                        reportedTotal.set(total);
+                    },
+                    () -> spyLoader.loadScaledImage("first/screen.png", 25, 20),
+                    () -> spyLoader.loadScaledImage("tutorial/dialog.png", 25, 20))
+                    .get(10, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(Set.of("first/screen.png", "tutorial/dialog.png"), Set.copyOf(order.subList(0, 2)));
+        int total = 2 + spyLoader.createPreloadTasks().size();
+        assertEquals(total, reportedTotal.get());
+        assertEquals(total, progress.size());
+        assertTrue(progress.contains(total));
+    }
+
+    @Test
+    void preloadAllImagesAsync_continuesAfterFailedPriorityTask() throws Exception {
+        ImageLoader spyLoader = spy(imageLoader);
+        doReturn(new Resource[0]).when(spyLoader).resolveProductImageResources();
+        when(resourceLoader.getResource(anyString())).thenAnswer(inv -> new ByteArrayResource(sampleImageBytes));
+        List<Integer> progress = new CopyOnWriteArrayList<>();
+
+        ExecutorService executor = ImageLoader.newPreloadExecutor();
+        try {
+            spyLoader.preloadAllImagesAsync(executor, (loaded, total) -> progress.add(loaded),
+                    () -> {
+                        throw new IllegalStateException("broken first screen");
+                    },
+                    () -> spyLoader.loadScaledImage("tutorial/dialog.png", 25, 20))
+                    .get(10, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdown();
+        }
+
+        verify(spyLoader).loadImage("/ch/primeo/fridgely/sprites/fridge_interior.png");
+        assertEquals(2 + spyLoader.createPreloadTasks().size(), progress.size());
+    }
+
+    @Test
+    void preloadAllImagesAsync_scansAssetRegistryUpFront() throws Exception {
+        ImageLoader spyLoader = loaderWithAssets("/ch/primeo/fridgely/productimages/001.png");
+        doReturn(new Resource[0]).when(spyLoader).resolveProductImageResources();
+        when(resourceLoader.getResource(anyString())).thenAnswer(inv -> new ByteArrayResource(sampleImageBytes));
+
+        ExecutorService executor = ImageLoader.newPreloadExecutor();
+        try {
+            spyLoader.preloadAllImagesAsync(executor, () -> {
+            }).get(10, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdown();
+        }
+
+        verify(spyLoader).scanAssets();
+        assertNotEquals(AssetRegistry.NO_ASSET, spyLoader.getAssets().productImage("001"));
+        verify(spyLoader, times(1)).scanAssets();
+    }
+
+    @Test
+    void newPreloadExecutor_usesDaemonThreads() throws Exception {
+        ExecutorService executor = ImageLoader.newPreloadExecutor();
+        try {
+            Thread thread = executor.submit(Thread::currentThread).get(10, TimeUnit.SECONDS);
+
+            assertTrue(thread.isDaemon());
+            assertTrue(thread.getName().startsWith("image-preload-"));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void preloadAllImagesAsync_writesAtlasServingNextStart(@TempDir Path cacheDir) throws Exception {
+        when(resourceLoader.getResource(anyString())).thenAnswer(inv -> new ByteArrayResource(sampleImageBytes));
+        ImageLoader firstRun = spy(new ImageLoader(resourceLoader, new ImageDiskCache(cacheDir, "1.0", 1024 * 1024)));
+        doReturn(new Resource[0]).when(firstRun).resolveProductImageResources();
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            firstRun.preloadAllImagesAsync(executor, () -> firstRun.loadScaledImage("first/screen.png", 25, 20))
+                    .get(10, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdown();
+        }
+        // The atlas is written right after the preload completes
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!Files.exists(cacheDir.resolve("atlas.bin")) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        ResourceLoader untouched = mock(ResourceLoader.class);
+        ImageLoader secondRun = new ImageLoader(untouched, new ImageDiskCache(cacheDir, "1.0", 1024 * 1024));
+        ImageIcon icon = secondRun.loadScaledImage("first/screen.png", 25, 20);
+
+        assertEquals(25, icon.getIconWidth());
+        assertEquals(Color.RED.getRGB(), ((BufferedImage) icon.getImage()).getRGB(12, 10));
+        verifyNoInteractions(untouched);
+    }
+
+    @Test
+    void getPreloadCompletion_isCompletedWithoutAsyncPreload() {
+        assertTrue(imageLoader.getPreloadCompletion().isDone());
+    }
+
     @Test
     public void testResolveProductImageResources() throws IOException {
         Resource[] resources = imageLoader.resolveProductImageResources();
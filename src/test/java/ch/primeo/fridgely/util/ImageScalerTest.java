@@ -0,0 +1,70 @@
+package ch.primeo.fridgely.util;
+
+import org.junit.jupiter.api.*;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ImageScalerTest {
+
+    @BeforeAll
+    static void headless() {
+        System.setProperty("java.awt.headless", "true");
+    }
+
+    @Test
+    void scale_downscalesProgressivelyToExactSize() {
+        BufferedImage scaled = ImageScaler.scale(filled(800, 400, Color.RED), 48, 24);
+
+        assertEquals(48, scaled.getWidth());
+        assertEquals(24, scaled.getHeight());
+        assertEquals(Color.RED.getRGB(), scaled.getRGB(24, 12));
+    }
+
+    @Test
+    void scale_upscalesToExactSize() {
+        BufferedImage scaled = ImageScaler.scale(filled(10, 10, Color.BLUE), 100, 50);
+
+        assertEquals(100, scaled.getWidth());
+        assertEquals(50, scaled.getHeight());
+        assertEquals(Color.BLUE.getRGB(), scaled.getRGB(50, 25));
+    }
+
+    @Test
+    void scale_keepsTransparency() {
+        BufferedImage source = new BufferedImage(64, 64, BufferedImage.TYPE_INT_ARGB);
+
+        BufferedImage scaled = ImageScaler.scale(source, 16, 16);
+
+        assertEquals(0, scaled.getRGB(8, 8) >>> 24);
+    }
+
+    @Test
+    void scale_returnsNewImageForSameSize() {
+        BufferedImage source = filled(20, 20, Color.GREEN);
+
+        BufferedImage scaled = ImageScaler.scale(source, 20, 20);
+
+        assertNotSame(source, scaled);
+        assertEquals(Color.GREEN.getRGB(), scaled.getRGB(10, 10));
+    }
+
+    @Test
+    void scale_rejectsInvalidSizes() {
+        BufferedImage source = filled(10, 10, Color.RED);
+
+        assertThrows(IllegalArgumentException.class, () -> ImageScaler.scale(source, 0, 10));
+        assertThrows(IllegalArgumentException.class, () -> ImageScaler.scale(source, 10, -1));
+    }
+
+    private static BufferedImage filled(int width, int height, Color color) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics g = image.getGraphics();
+        g.setColor(color);
+        g.fillRect(0, 0, width, height);
+        g.dispose();
+        return image;
+    }
+}
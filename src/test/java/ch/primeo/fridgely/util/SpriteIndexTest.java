@@ -0,0 +1,43 @@
+package ch.primeo.fridgely.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpriteIndexTest {
+
+    @Test
+    void writeAndRead_roundTripsVariants(@TempDir Path dir) throws IOException {
+        SpriteIndex index = new SpriteIndex(Map.of(
+                SpriteIndex.scaledKey("/a/penguin.png", 30, 20), "/optimized/a/penguin_30x20.png",
+                SpriteIndex.displayKey("/a/penguin.png"), "/optimized/a/penguin.png"));
+        Path file = dir.resolve("nested/index.properties");
+
+        index.write(file);
+        SpriteIndex read;
+        try (InputStream in = Files.newInputStream(file)) {
+            read = SpriteIndex.read(in);
+        }
+
+        assertEquals(2, read.size());
+        assertEquals("/optimized/a/penguin_30x20.png", read.scaled("/a/penguin.png", 30, 20));
+        assertEquals("/optimized/a/penguin.png", read.display("/a/penguin.png"));
+        assertNull(read.scaled("/a/penguin.png", 20, 30));
+    }
+
+    @Test
+    void fromClasspath_isEmptyWithoutOptimizedBuild() {
+        ClassLoader empty = new ClassLoader(null) {
+        };
+
+        SpriteIndex index = SpriteIndex.fromClasspath(empty);
+
+        assertSame(SpriteIndex.EMPTY, index);
+        assertNull(index.display("/a/penguin.png"));
+    }
+}
@@ -0,0 +1,115 @@
+package ch.primeo.fridgely.util;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.*;
+import java.nio.file.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpriteOptimizerTest {
+
+    @TempDir
+    Path classes;
+
+    private Path manifest;
+
+    @BeforeAll
+    static void headless() {
+        System.setProperty("java.awt.headless", "true");
+    }
+
+    @BeforeEach
+    void setUp() throws IOException {
+        writeImage("sprites/penguin.png", 400, 200);
+        writeImage("icons/home.png", 64, 64);
+        writeImage("icons/restart.png", 64, 64);
+        manifest = classes.resolve("sprite-sizes.properties");
+    }
+
+    @Test
+    void optimize_writesVariantPerDeclaredSizeAndIndexesThem() throws IOException {
+        Files.writeString(manifest, "sprites/penguin.png = 100x50, 40x40\nicons/*.png = 16x16\n");
+
+        SpriteIndex index = SpriteOptimizer.optimize(manifest, classes, false);
+
+        String variant = index.scaled("/ch/primeo/fridgely/sprites/penguin.png", 40, 40);
+        assertEquals("/ch/primeo/fridgely/optimized/sprites/penguin_40x40.png", variant);
+        assertEquals(new Dimension(40, 40), size(variant));
+        assertEquals(new Dimension(16, 16), size(index.scaled("/ch/primeo/fridgely/icons/restart.png", 16, 16)));
+        assertNull(index.scaled("/ch/primeo/fridgely/sprites/penguin.png", 20, 20));
+
+        SpriteIndex shipped;
+        try (InputStream in = Files.newInputStream(classes.resolve(SpriteIndex.INDEX_PATH.substring(1)))) {
+            shipped = SpriteIndex.read(in);
+        }
+        assertEquals(index.size(), shipped.size());
+        assertEquals(variant, shipped.scaled("/ch/primeo/fridgely/sprites/penguin.png", 40, 40));
+    }
+
+    @Test
+    void optimize_writesDisplayCopyFittingLargestSize() throws IOException {
+        Files.writeString(manifest, "sprites/penguin.png = 100x100\n");
+
+        SpriteIndex index = SpriteOptimizer.optimize(manifest, classes, false);
+
+        String display = index.display("/ch/primeo/fridgely/sprites/penguin.png");
+        assertEquals(new Dimension(100, 50), size(display));
+        assertEquals(new Dimension(400, 200), size("/ch/primeo/fridgely/sprites/penguin.png"));
+    }
+
+    @Test
+    void optimize_shrinksOriginalsInPlaceWhenReplacing() throws IOException {
+        Files.writeString(manifest, "sprites/penguin.png = 100x50, 40x40\n");
+
+        SpriteIndex index = SpriteOptimizer.optimize(manifest, classes, true);
+
+        assertEquals(new Dimension(100, 50), size("/ch/primeo/fridgely/sprites/penguin.png"));
+        assertNull(index.display("/ch/primeo/fridgely/sprites/penguin.png"));
+        // The shrunk original already has the largest size, so no separate variant is written
+        assertEquals("/ch/primeo/fridgely/sprites/penguin.png",
+                index.scaled("/ch/primeo/fridgely/sprites/penguin.png", 100, 50));
+    }
+
+    @Test
+    void optimize_keepsOriginalsSmallerThanDeclaredSizes() throws IOException {
+        Files.writeString(manifest, "icons/home.png = 128x128\n");
+
+        SpriteIndex index = SpriteOptimizer.optimize(manifest, classes, true);
+
+        assertEquals(new Dimension(64, 64), size("/ch/primeo/fridgely/icons/home.png"));
+        assertEquals(new Dimension(128, 128), size(index.scaled("/ch/primeo/fridgely/icons/home.png", 128, 128)));
+    }
+
+    @Test
+    void optimize_rejectsStaleOrMalformedEntries() throws IOException {
+        Files.writeString(manifest, "sprites/missing.png = 10x10\n");
+        assertThrows(IllegalArgumentException.class, () -> SpriteOptimizer.optimize(manifest, classes, false));
+
+        Files.writeString(manifest, "sprites/penguin.png = 10\n");
+        assertThrows(IllegalArgumentException.class, () -> SpriteOptimizer.optimize(manifest, classes, false));
+
+        Files.writeString(manifest, "sprites/penguin.png = 0x10\n");
+        assertThrows(IllegalArgumentException.class, () -> SpriteOptimizer.optimize(manifest, classes, false));
+    }
+
+    private void writeImage(String relative, int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics g = image.getGraphics();
+        g.setColor(Color.ORANGE);
+        g.fillRect(0, 0, width, height);
+        g.dispose();
+        Path file = classes.resolve("ch/primeo/fridgely/" + relative);
+        Files.createDirectories(file.getParent());
+        ImageIO.write(image, "png", file.toFile());
+    }
+
+    private Dimension size(String resourcePath) throws IOException {
+        BufferedImage image = ImageIO.read(classes.resolve(resourcePath.substring(1)).toFile());
+        return new Dimension(image.getWidth(), image.getHeight());
+    }
+}
@@ -0,0 +1,111 @@
+package ch.primeo.fridgely.util;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StartupProfilerTest {
+
+    private static final long MS = 1_000_000L;
+
+    @TempDir
+    Path tempDir;
+
+    private AtomicLong clock;
+    private Path reportFile;
+    private StartupProfiler profiler;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong(100 * MS);
+        reportFile = tempDir.resolve("startup-report.json");
+        profiler = new StartupProfiler(clock::get, reportFile);
+    }
+
+    @Test
+    void time_shouldRecordPhaseDuration() {
+        String result = profiler.time("spring-context", () -> {
+            clock.addAndGet(250 * MS);
+            return "context";
+        });
+        profiler.time("detect-screens", () -> clock.addAndGet(5 * MS));
+
+        assertEquals("context", result);
+        assertEquals(250, profiler.getPhaseMillis("spring-context"));
+        assertEquals(5, profiler.getPhaseMillis("detect-screens"));
+        assertEquals(-1, profiler.getPhaseMillis("unknown"));
+    }
+
+    @Test
+    void time_shouldRecordPhaseWhenWorkFails() {
+        assertThrows(IllegalStateException.class, () -> profiler.time("preload-images", () -> {
+            clock.addAndGet(7 * MS);
+            throw new IllegalStateException("boom");
+        }));
+
+        assertEquals(7, profiler.getPhaseMillis("preload-images"));
+    }
+
+    @Test
+    void report_shouldBeWrittenOnceBootAndFirstFrameAreMarked() throws Exception {
+        profiler.recordBean("entityManagerFactory", 40 * MS);
+        profiler.recordBean("imageLoader", 2 * MS);
+
+        clock.set(900 * MS);
+        profiler.markBootComplete();
+        assertFalse(Files.exists(reportFile));
+
+        clock.set(1200 * MS);
+        profiler.markFirstFrameVisible();
+        clock.set(5000 * MS);
+        profiler.markFirstFrameVisible();
+
+        String report = Files.readString(reportFile);
+        assertTrue(report.contains("\"bootMillis\": 1200"));
+        assertTrue(report.contains("\"bootCompleteMillis\": 900"));
+        assertTrue(report.contains("\"firstFrameMillis\": 1200"));
+        assertTrue(report.indexOf("entityManagerFactory") < report.indexOf("imageLoader"));
+        assertEquals(1200, profiler.getBootMillis());
+    }
+
+    @Test
+    void report_shouldCompareStandardAndFastBoot() throws Exception {
+        StartupProfiler standard = new StartupProfiler(() -> 4000 * MS, reportFile, StartupProfiler.MODE_STANDARD);
+        standard.markBootComplete();
+        standard.markFirstFrameVisible();
+
+        String standardReport = Files.readString(reportFile);
+        assertTrue(standardReport.contains("\"mode\": \"standard\""));
+        assertTrue(standardReport.contains("\"standardMillis\": 4000, \"fastBootMillis\": -1, \"savedMillis\": -1"));
+
+        StartupProfiler fastBoot = new StartupProfiler(() -> 2500 * MS, reportFile, StartupProfiler.MODE_FAST_BOOT);
+        fastBoot.markBootComplete();
+        fastBoot.markFirstFrameVisible();
+
+        String fastBootReport = Files.readString(reportFile);
+        assertTrue(fastBootReport.contains("\"mode\": \"fast-boot\""));
+        assertTrue(fastBootReport.contains(
+                "\"standardMillis\": 4000, \"fastBootMillis\": 2500, \"savedMillis\": 1500"));
+        assertTrue(Files.exists(tempDir.resolve("startup-history.properties")));
+    }
+
+    @Test
+    void toJson_shouldRenderEmptyProfile() {
+        String report = profiler.toJson();
+
+        assertTrue(report.contains("\"bootMillis\": -1"));
+        assertTrue(report.contains("\"phases\": []"));
+        assertTrue(report.contains("\"beans\": []"));
+    }
+
+    @Test
+    void toJson_shouldEscapeNames() {
+        profiler.recordPhase("quoted \"phase\"", 0, MS);
+
+        assertTrue(profiler.toJson().contains("quoted \\\"phase\\\""));
+    }
+}
@@ -0,0 +1,90 @@
+package ch.primeo.fridgely.util;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TextureAtlasTest {
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeAll
+    static void headless() {
+        System.setProperty("java.awt.headless", "true");
+    }
+
+    @Test
+    void map_returnsPackedImages() throws Exception {
+        Map<String, BufferedImage> images = new HashMap<>();
+        for (int i = 0; i < 60; i++) {
+            images.put("product" + i + "_48x48", filled(48, 48, new Color(i, 0, 0)));
+        }
+        images.put("penguin_300x300", filled(300, 300, Color.BLUE));
+        images.put("wide_3000x10", filled(3000, 10, Color.GREEN));
+        Path file = tempDir.resolve("atlas.bin");
+
+        TextureAtlas.write(file, "stamp-1", images);
+        TextureAtlas atlas = TextureAtlas.map(file);
+
+        assertEquals("stamp-1", atlas.contentStamp());
+        assertEquals(62, atlas.size());
+        for (Map.Entry<String, BufferedImage> entry : images.entrySet()) {
+            BufferedImage image = atlas.get(entry.getKey());
+            assertEquals(entry.getValue().getWidth(), image.getWidth());
+            assertEquals(entry.getValue().getHeight(), image.getHeight());
+            assertEquals(entry.getValue().getRGB(0, 0), image.getRGB(0, 0));
+            assertEquals(entry.getValue().getRGB(image.getWidth() - 1, image.getHeight() - 1),
+                    image.getRGB(image.getWidth() - 1, image.getHeight() - 1));
+        }
+    }
+
+    @Test
+    void get_keepsTransparencyAndPixelPositions() throws Exception {
+        BufferedImage image = new BufferedImage(3, 2, BufferedImage.TYPE_INT_ARGB);
+        image.setRGB(2, 1, Color.RED.getRGB());
+        Path file = tempDir.resolve("atlas.bin");
+        TextureAtlas.write(file, "stamp-1", Map.of("ünïcode key", image, "other", filled(5, 5, Color.BLACK)));
+
+        BufferedImage copy = TextureAtlas.map(file).get("ünïcode key");
+
+        assertEquals(Color.RED.getRGB(), copy.getRGB(2, 1));
+        assertEquals(0, copy.getRGB(0, 0) >>> 24);
+    }
+
+    @Test
+    void get_unknownKey_returnsNull() throws Exception {
+        Path file = tempDir.resolve("atlas.bin");
+        TextureAtlas.write(file, "stamp-1", Map.of("known", filled(2, 2, Color.RED)));
+
+        TextureAtlas atlas = TextureAtlas.map(file);
+
+        assertTrue(atlas.contains("known"));
+        assertFalse(atlas.contains("unknown"));
+        assertNull(atlas.get("unknown"));
+    }
+
+    @Test
+    void map_rejectsOtherFiles() throws Exception {
+        Path file = tempDir.resolve("atlas.bin");
+        Files.write(file, new byte[]{1, 2, 3, 4, 5, 6, 7, 8});
+
+        assertThrows(IOException.class, () -> TextureAtlas.map(file));
+    }
+
+    private static BufferedImage filled(int width, int height, Color color) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics g = image.getGraphics();
+        g.setColor(color);
+        g.fillRect(0, 0, width, height);
+        g.dispose();
+        return image;
+    }
+}
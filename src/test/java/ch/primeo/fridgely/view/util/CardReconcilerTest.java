@@ -0,0 +1,122 @@
+package ch.primeo.fridgely.view.util;
+
+import org.junit.jupiter.api.*;
+
+import javax.swing.*;
+import java.awt.*;
+import java.util.*;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CardReconcilerTest {
+
+    private JPanel panel;
+    private List<String> created;
+    private CardReconciler<String> reconciler;
+
+    @BeforeEach
+    void setUp() {
+        panel = new JPanel(new FlowLayout(FlowLayout.LEFT));
+        created = new ArrayList<>();
+        reconciler = new CardReconciler<>(panel, barcode -> barcode, barcode -> {
+            created.add(barcode);
+            return new JLabel(barcode);
+        });
+    }
+
+    @Test
+    void reconcile_shouldCreateCardsInItemOrder() {
+        assertTrue(reconciler.reconcile(List.of("111", "222", "333")));
+
+        assertEquals(List.of("111", "222", "333"), labels());
+        assertEquals(List.of("111", "222", "333"), created);
+    }
+
+    @Test
+    void reconcile_shouldOnlyCreateCardsOfAddedItems() {
+        reconciler.reconcile(List.of("111", "222"));
+        List<Component> before = List.of(panel.getComponents());
+
+        assertTrue(reconciler.reconcile(List.of("000", "111", "222", "333")));
+
+        assertEquals(List.of("000", "111", "222", "333"), labels());
+        assertEquals(List.of("111", "222", "000", "333"), created);
+        assertSame(before.get(0), panel.getComponent(1));
+        assertSame(before.get(1), panel.getComponent(2));
+    }
+
+    @Test
+    void reconcile_shouldDropCardsOfRemovedItems() {
+        reconciler.reconcile(List.of("111", "222", "333"));
+        Component first = panel.getComponent(0);
+        Component last = panel.getComponent(2);
+
+        assertTrue(reconciler.reconcile(List.of("111", "333")));
+
+        assertEquals(List.of("111", "333"), labels());
+        assertSame(first, panel.getComponent(0));
+        assertSame(last, panel.getComponent(1));
+        assertEquals(3, created.size());
+    }
+
+    @Test
+    void reconcile_shouldMoveCardsOfReorderedItems() {
+        reconciler.reconcile(List.of("111", "222", "333"));
+        Map<String, Component> before = cardsByLabel();
+
+        assertTrue(reconciler.reconcile(List.of("333", "111", "222")));
+
+        assertEquals(List.of("333", "111", "222"), labels());
+        assertEquals(before, cardsByLabel());
+        assertEquals(3, created.size());
+    }
+
+    @Test
+    void reconcile_shouldKeepCardsOfUnchangedItems() {
+        reconciler.reconcile(List.of("111", "222", "333"));
+        List<Component> before = List.of(panel.getComponents());
+
+        assertFalse(reconciler.reconcile(List.of("111", "222", "333")));
+
+        assertEquals(before, List.of(panel.getComponents()));
+        assertEquals(3, created.size());
+    }
+
+    @Test
+    void reconcile_shouldShowDuplicateKeysOnce() {
+        reconciler.reconcile(List.of("111", "222", "111"));
+
+        assertEquals(List.of("111", "222"), labels());
+    }
+
+    @Test
+    void clear_shouldCreateCardsAgain() {
+        reconciler.reconcile(List.of("111", "222"));
+        Component old = panel.getComponent(0);
+
+        reconciler.clear();
+        assertEquals(0, panel.getComponentCount());
+        assertTrue(reconciler.reconcile(List.of("111", "222")));
+
+        assertEquals(List.of("111", "222"), labels());
+        assertNotSame(old, panel.getComponent(0));
+        assertEquals(4, created.size());
+    }
+
+    private List<String> labels() {
+        List<String> labels = new ArrayList<>();
+        for (Component component : panel.getComponents()) {
+            labels.add(((JLabel) component).getText());
+        }
+        return labels;
+    }
+
+    private Map<String, Component> cardsByLabel() {
+        Map<String, Component> cards = new HashMap<>();
+        for (Component component : panel.getComponents()) {
+            cards.put(((JLabel) component).getText(), component);
+        }
+        return cards;
+    }
+}
@@ -0,0 +1,165 @@
+package ch.primeo.fridgely.view.util;
+
+import org.junit.jupiter.api.*;
+
+import javax.swing.*;
+import java.awt.*;
+import java.util.*;
+import java.util.List;
+import java.util.stream.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VirtualListTest {
+
+    private static final int ROW_HEIGHT = 150;
+    private static final int GAP = 10;
+    private static final int STRIDE = ROW_HEIGHT + GAP;
+    private static final int VIEWPORT_HEIGHT = 800;
+
+    private List<JLabel> createdCells;
+    private int binds;
+    private VirtualList<String, JLabel> list;
+    private JScrollPane scrollPane;
+
+    @BeforeEach
+    void setUp() {
+        createdCells = new ArrayList<>();
+        binds = 0;
+        list = new VirtualList<>(ROW_HEIGHT, GAP, () -> {
+            JLabel cell = new JLabel();
+            createdCells.add(cell);
+            return cell;
+        }, (cell, item) -> {
+            binds++;
+            cell.setText(item);
+        });
+        scrollPane = new JScrollPane(list);
+        scrollPane.setBorder(null);
+        scrollPane.setSize(500, VIEWPORT_HEIGHT);
+        scrollPane.doLayout();
+    }
+
+    @Test
+    void setItems_shouldOnlyCreateCellsForVisibleRowsAndOverscan() {
+        list.setItems(items(20_000));
+        layOut();
+
+        // Rows 0 to 5 touch the viewport, two rows of overscan below
+        assertEquals(8, list.getCellCount());
+        assertEquals(rows(0, 7), shownRows());
+        assertEquals(20_000 * STRIDE - GAP, list.getPreferredSize().height);
+    }
+
+    @Test
+    void scroll_shouldShowRowsAroundVisibleArea() {
+        list.setItems(items(20_000));
+        layOut();
+
+        scrollTo(1600);
+        assertEquals(rows(8, 17), shownRows());
+
+        scrollTo(100 * STRIDE + 40);
+        assertEquals(rows(98, 107), shownRows());
+
+        scrollTo(20_000 * STRIDE - GAP - VIEWPORT_HEIGHT);
+        assertTrue(shownRows().contains(19_999));
+        assertTrue(list.getCellCount() <= 11, "cells: " + list.getCellCount());
+    }
+
+    @Test
+    void scroll_shouldRebindRecycledCells() {
+        list.setItems(items(20_000));
+        layOut();
+        Set<JLabel> initialCells = new HashSet<>(createdCells);
+
+        for (int y = 0; y <= 50 * STRIDE; y += STRIDE / 3) {
+            scrollTo(y);
+        }
+        scrollTo(50 * STRIDE);
+
+        // Scrolling past 50 rows reuses the cells of the first screen instead of creating one per row
+        assertTrue(createdCells.size() <= 11, "cells: " + createdCells.size());
+        assertTrue(createdCells.containsAll(initialCells));
+        for (JLabel cell : visibleCells()) {
+            int row = Integer.parseInt(cell.getText().substring("item-".length()));
+            assertEquals(row * STRIDE, cell.getY());
+            assertEquals(ROW_HEIGHT, cell.getHeight());
+            assertEquals(list.getWidth(), cell.getWidth());
+        }
+        assertEquals(rows(48, 57), shownRows());
+    }
+
+    @Test
+    void setItems_shouldReleaseRowsBeyondShorterList() {
+        list.setItems(items(20_000));
+        layOut();
+        scrollTo(10 * STRIDE);
+        int cells = list.getCellCount();
+
+        list.setItems(items(3));
+        layOut();
+
+        assertEquals(rows(0, 2), shownRows());
+        assertEquals(cells, list.getCellCount());
+        assertEquals(3 * STRIDE - GAP, list.getPreferredSize().height);
+        assertEquals(3, visibleCells().size());
+    }
+
+    @Test
+    void setItems_shouldHandleEmptyList() {
+        list.setItems(items(10));
+        layOut();
+
+        list.setItems(List.of());
+        layOut();
+
+        assertTrue(visibleCells().isEmpty());
+        assertEquals(0, list.getPreferredSize().height);
+    }
+
+    @Test
+    void refresh_shouldRebindOnlyVisibleRows() {
+        list.setItems(items(20_000));
+        layOut();
+        int bindsBefore = binds;
+
+        list.refresh();
+
+        assertEquals(bindsBefore + 8, binds);
+        assertEquals(rows(0, 7), shownRows());
+    }
+
+    private void layOut() {
+        scrollPane.doLayout();
+        scrollPane.getViewport().doLayout();
+        list.doLayout();
+    }
+
+    private void scrollTo(int y) {
+        scrollPane.getViewport().setViewPosition(new Point(0, y));
+    }
+
+    private List<JLabel> visibleCells() {
+        List<JLabel> cells = new ArrayList<>();
+        for (Component component : list.getComponents()) {
+            if (component.isVisible()) {
+                cells.add((JLabel) component);
+            }
+        }
+        return cells;
+    }
+
+    private Set<Integer> shownRows() {
+        return visibleCells().stream().map(cell -> Integer.parseInt(cell.getText().substring("item-".length())))
+                .collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    private static Set<Integer> rows(int first, int last) {
+        return IntStream.rangeClosed(first, last).boxed().collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    private static List<String> items(int count) {
+        return IntStream.range(0, count).mapToObj(i -> "item-" + i).collect(Collectors.toList());
+    }
+}